@@ -0,0 +1,233 @@
+package com.rlaqjant.miniature_backlog_api.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 부하 테스트용 가짜 R2 (S3 path-style 최소 구현, 메모리 저장)
+ * 앱과 Gatling 업로드가 사용하는 PUT/GET/HEAD/DELETE, DeleteObjects, ListObjectsV2만 지원하며 서명은 검증하지 않음
+ */
+public class FakeR2Server {
+
+    private static final Pattern DELETE_KEY_PATTERN = Pattern.compile("<Key>(.*?)</Key>");
+    private static final String S3_NAMESPACE = "http://s3.amazonaws.com/doc/2006-03-01/";
+
+    private final Map<String, StoredObject> objects = new ConcurrentHashMap<>();
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newFixedThreadPool(16);
+
+    private record StoredObject(byte[] bytes, String contentType, ZonedDateTime lastModified) {
+        String etag() {
+            return "\"" + Integer.toHexString(Arrays.hashCode(bytes)) + "\"";
+        }
+    }
+
+    public FakeR2Server(int port) throws IOException {
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", port), 0);
+        this.server.createContext("/", this::handle);
+        this.server.setExecutor(executor);
+    }
+
+    public void start() {
+        server.start();
+    }
+
+    public void stop() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            // /{bucket}/{key...}
+            String path = exchange.getRequestURI().getPath();
+            String[] parts = path.substring(1).split("/", 2);
+            String bucket = parts[0];
+            String key = parts.length > 1 ? URLDecoder.decode(parts[1], StandardCharsets.UTF_8) : "";
+            String query = exchange.getRequestURI().getRawQuery();
+            String method = exchange.getRequestMethod();
+
+            if (key.isEmpty()) {
+                if ("POST".equals(method) && query != null && query.contains("delete")) {
+                    deleteObjects(exchange, bucket);
+                } else if ("GET".equals(method)) {
+                    listObjects(exchange, bucket, query);
+                } else {
+                    send(exchange, 405, null, new byte[0]);
+                }
+                return;
+            }
+
+            String objectId = bucket + "/" + key;
+            switch (method) {
+                case "PUT" -> {
+                    byte[] body = readBody(exchange);
+                    StoredObject object = new StoredObject(body,
+                            exchange.getRequestHeaders().getFirst("Content-Type"),
+                            ZonedDateTime.now(ZoneOffset.UTC));
+                    objects.put(objectId, object);
+                    exchange.getResponseHeaders().set("ETag", object.etag());
+                    send(exchange, 200, null, new byte[0]);
+                }
+                case "GET", "HEAD" -> {
+                    StoredObject object = objects.get(objectId);
+                    if (object == null) {
+                        send(exchange, 404, "application/xml", xml("<Error><Code>NoSuchKey</Code><Key>" + key + "</Key></Error>"));
+                        return;
+                    }
+                    exchange.getResponseHeaders().set("ETag", object.etag());
+                    exchange.getResponseHeaders().set("Last-Modified",
+                            DateTimeFormatter.RFC_1123_DATE_TIME.format(object.lastModified()));
+                    if ("HEAD".equals(method)) {
+                        exchange.getResponseHeaders().set("Content-Type", contentTypeOf(object));
+                        exchange.sendResponseHeaders(200, -1);
+                    } else {
+                        send(exchange, 200, contentTypeOf(object), object.bytes());
+                    }
+                }
+                case "DELETE" -> {
+                    objects.remove(objectId);
+                    send(exchange, 204, null, null);
+                }
+                default -> send(exchange, 405, null, new byte[0]);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void deleteObjects(HttpExchange exchange, String bucket) throws IOException {
+        String body = new String(readBody(exchange), StandardCharsets.UTF_8);
+        StringBuilder deleted = new StringBuilder();
+        Matcher matcher = DELETE_KEY_PATTERN.matcher(body);
+        while (matcher.find()) {
+            objects.remove(bucket + "/" + matcher.group(1));
+            deleted.append("<Deleted><Key>").append(matcher.group(1)).append("</Key></Deleted>");
+        }
+        send(exchange, 200, "application/xml",
+                xml("<DeleteResult xmlns=\"" + S3_NAMESPACE + "\">" + deleted + "</DeleteResult>"));
+    }
+
+    private void listObjects(HttpExchange exchange, String bucket, String query) throws IOException {
+        String prefix = bucket + "/" + queryParam(query, "prefix");
+        List<String> keys = new ArrayList<>();
+        objects.forEach((id, object) -> {
+            if (id.startsWith(prefix)) {
+                keys.add(id);
+            }
+        });
+        keys.sort(String::compareTo);
+
+        StringBuilder contents = new StringBuilder();
+        for (String id : keys) {
+            StoredObject object = objects.get(id);
+            if (object == null) {
+                continue;
+            }
+            contents.append("<Contents><Key>").append(id.substring(bucket.length() + 1)).append("</Key>")
+                    .append("<LastModified>").append(DateTimeFormatter.ISO_INSTANT.format(object.lastModified())).append("</LastModified>")
+                    .append("<ETag>").append(object.etag()).append("</ETag>")
+                    .append("<Size>").append(object.bytes().length).append("</Size></Contents>");
+        }
+        send(exchange, 200, "application/xml", xml("<ListBucketResult xmlns=\"" + S3_NAMESPACE + "\">"
+                + "<Name>" + bucket + "</Name><Prefix>" + queryParam(query, "prefix") + "</Prefix>"
+                + "<KeyCount>" + keys.size() + "</KeyCount><MaxKeys>1000</MaxKeys><IsTruncated>false</IsTruncated>"
+                + contents + "</ListBucketResult>"));
+    }
+
+    /**
+     * SDK가 평문 HTTP 엔드포인트에 보내는 aws-chunked 본문은 청크 서명을 벗겨서 저장
+     */
+    private static byte[] readBody(HttpExchange exchange) throws IOException {
+        byte[] raw;
+        try (InputStream in = exchange.getRequestBody()) {
+            raw = in.readAllBytes();
+        }
+        String contentSha = exchange.getRequestHeaders().getFirst("x-amz-content-sha256");
+        if (contentSha == null || !contentSha.startsWith("STREAMING-")) {
+            return raw;
+        }
+        ByteArrayOutputStream decoded = new ByteArrayOutputStream(raw.length);
+        int pos = 0;
+        while (pos < raw.length) {
+            int lineEnd = indexOfCrlf(raw, pos);
+            if (lineEnd < 0) {
+                break;
+            }
+            String header = new String(raw, pos, lineEnd - pos, StandardCharsets.US_ASCII);
+            int size = Integer.parseInt(header.split(";", 2)[0].trim(), 16);
+            if (size == 0) {
+                break;
+            }
+            decoded.write(raw, lineEnd + 2, size);
+            pos = lineEnd + 2 + size + 2;
+        }
+        return decoded.toByteArray();
+    }
+
+    private static int indexOfCrlf(byte[] bytes, int from) {
+        for (int i = from; i < bytes.length - 1; i++) {
+            if (bytes[i] == '\r' && bytes[i + 1] == '\n') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static String queryParam(String query, String name) {
+        if (query == null) {
+            return "";
+        }
+        for (String pair : query.split("&")) {
+            String[] kv = pair.split("=", 2);
+            if (kv[0].equals(name)) {
+                return kv.length > 1 ? URLDecoder.decode(kv[1], StandardCharsets.UTF_8) : "";
+            }
+        }
+        return "";
+    }
+
+    private static String contentTypeOf(StoredObject object) {
+        return object.contentType() != null ? object.contentType() : "application/octet-stream";
+    }
+
+    private static byte[] xml(String body) {
+        return ("<?xml version=\"1.0\" encoding=\"UTF-8\"?>" + body).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static void send(HttpExchange exchange, int status, String contentType, byte[] body) throws IOException {
+        if (contentType != null) {
+            exchange.getResponseHeaders().set("Content-Type", contentType);
+        }
+        if (body == null || "HEAD".equals(exchange.getRequestMethod())) {
+            exchange.sendResponseHeaders(status, -1);
+            return;
+        }
+        exchange.sendResponseHeaders(status, body.length == 0 ? -1 : body.length);
+        if (body.length > 0) {
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+}
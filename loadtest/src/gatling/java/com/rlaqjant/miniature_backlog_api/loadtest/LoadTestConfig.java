@@ -0,0 +1,80 @@
+package com.rlaqjant.miniature_backlog_api.loadtest;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+
+/**
+ * 부하 테스트 설정 (LOADTEST_* 환경 변수)
+ */
+final class LoadTestConfig {
+
+    /** 대상 앱 주소 */
+    static final String BASE_URL = env("LOADTEST_BASE_URL", "http://localhost:8080");
+    /** 시뮬레이션이 띄울 가짜 R2 포트 (0이면 띄우지 않고 앱에 설정된 R2/MinIO 사용) */
+    static final int FAKE_R2_PORT = intEnv("LOADTEST_FAKE_R2_PORT", 9000);
+    /** 부하 유지 시간 */
+    static final Duration DURATION = Duration.ofSeconds(intEnv("LOADTEST_DURATION_SECONDS", 120));
+    /** 부하 증가 시간 (가입/로그인이 몰리지 않도록 분산) */
+    static final Duration RAMP = Duration.ofSeconds(intEnv("LOADTEST_RAMP_SECONDS", 30));
+
+    /** 비로그인 탐색: 초당 유입 사용자 수 */
+    static final double BROWSE_USERS_PER_SEC = doubleEnv("LOADTEST_BROWSE_USERS_PER_SEC", 20);
+    /** 비로그인 탐색: 최대 페이지 깊이 */
+    static final int MAX_PAGE_DEPTH = intEnv("LOADTEST_MAX_PAGE_DEPTH", 50);
+    /** 칸반 드래그 사용자 수 (각자 공개 미니어처 1개 생성) */
+    static final int KANBAN_USERS = intEnv("LOADTEST_KANBAN_USERS", 30);
+    /** 좋아요 폭주 사용자 수 */
+    static final int LIKE_USERS = intEnv("LOADTEST_LIKE_USERS", 50);
+    /** 좋아요 대상 인기 미니어처 수 (공개 목록 첫 페이지 상위 N개) */
+    static final int HOT_MINIATURES = intEnv("LOADTEST_HOT_MINIATURES", 3);
+    /** 진행 로그 + 이미지 업로드 사용자 수 */
+    static final int UPLOAD_USERS = intEnv("LOADTEST_UPLOAD_USERS", 10);
+
+    /** 판정 기준: 전체 p95 응답 시간(ms), 실패율(%) */
+    static final int MAX_P95_MILLIS = intEnv("LOADTEST_MAX_P95_MS", 800);
+    static final double MAX_FAILED_PERCENT = doubleEnv("LOADTEST_MAX_FAILED_PERCENT", 1.0);
+
+    static final String PASSWORD = "loadtest-password-1";
+
+    /** 업로드용 이미지 (썸네일 생성까지 거치도록 실제로 디코딩 가능한 PNG) */
+    static final byte[] SAMPLE_PNG = samplePng();
+
+    private LoadTestConfig() {
+    }
+
+    private static byte[] samplePng() {
+        BufferedImage image = new BufferedImage(640, 480, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setColor(new Color(0x3A5F8C));
+        graphics.fillRect(0, 0, 640, 480);
+        graphics.setColor(new Color(0xD9A441));
+        graphics.fillOval(160, 80, 320, 320);
+        graphics.dispose();
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            ImageIO.write(image, "png", out);
+            return out.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String env(String name, String defaultValue) {
+        String value = System.getenv(name);
+        return value != null && !value.isBlank() ? value : defaultValue;
+    }
+
+    private static int intEnv(String name, int defaultValue) {
+        return Integer.parseInt(env(name, String.valueOf(defaultValue)));
+    }
+
+    private static double doubleEnv(String name, double defaultValue) {
+        return Double.parseDouble(env(name, String.valueOf(defaultValue)));
+    }
+}
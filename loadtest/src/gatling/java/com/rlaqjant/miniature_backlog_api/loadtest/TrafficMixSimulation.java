@@ -0,0 +1,221 @@
+package com.rlaqjant.miniature_backlog_api.loadtest;
+
+import io.gatling.javaapi.core.ChainBuilder;
+import io.gatling.javaapi.core.ScenarioBuilder;
+import io.gatling.javaapi.core.Simulation;
+import io.gatling.javaapi.http.HttpProtocolBuilder;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static com.rlaqjant.miniature_backlog_api.loadtest.LoadTestConfig.*;
+import static io.gatling.javaapi.core.CoreDsl.*;
+import static io.gatling.javaapi.http.HttpDsl.*;
+
+/**
+ * 운영 트래픽 구성을 재현하는 부하 테스트
+ * - 비로그인 공개 목록 탐색 (/public/miniatures 페이지 순회, /public/progress-logs 깊은 페이지)
+ * - 칸반 드래그 (PATCH /miniatures/{id}/current-step, PATCH /backlog-items/{id})
+ * - 인기 미니어처 좋아요 토글 폭주
+ * - 진행 로그 작성 + presign + 업로드 + POST /images
+ *
+ * 실행 순서
+ * 1) 앱 기동 (가짜 R2는 시뮬레이션이 127.0.0.1:9000에 띄움, 가입/로그인 처리율 제한은 끔)
+ *    R2_ENDPOINT_URL=http://127.0.0.1:9000 R2_PATH_STYLE_ACCESS=true R2_ACCESS_KEY_ID=fake R2_SECRET_ACCESS_KEY=fake
+ *    AUTH_RATE_LIMIT_ENABLED=false JWT_SECRET=... ./gradlew bootRun
+ * 2) ./gradlew :loadtest:gatlingRun
+ * 3) 결과: loadtest/build/reports/gatling (지연 백분위수/오류율), loadtest/build/loadtest-artifacts/gatling-reports.zip
+ */
+public class TrafficMixSimulation extends Simulation {
+
+    private static final List<String> KANBAN_STEPS = List.of("시작전", "언박싱", "조립", "프라이밍", "도색", "마무리", "완료");
+    private static final List<String> ITEM_STATUSES = List.of("TODO", "IN_PROGRESS", "DONE");
+    private static final String AUTHORIZATION = "Bearer #{accessToken}";
+
+    private FakeR2Server fakeR2Server;
+
+    private final HttpProtocolBuilder httpProtocol = http
+            .baseUrl(BASE_URL)
+            .acceptHeader("application/json")
+            .contentTypeHeader("application/json")
+            .userAgentHeader("miniature-backlog-loadtest");
+
+    /**
+     * 가입 후 로그인하여 accessToken 저장 (쿠키는 Secure 속성이라 평문 HTTP에서 전송되지 않으므로 Bearer 헤더 사용)
+     */
+    private static ChainBuilder signUpAndLogin(String prefix) {
+        return exec(session -> {
+                    String suffix = UUID.randomUUID().toString().replace("-", "").substring(0, 12);
+                    return session
+                            .set("email", prefix + "-" + suffix + "@loadtest.local")
+                            .set("nickname", prefix + suffix);
+                })
+                .exec(http("auth: register")
+                        .post("/auth/register")
+                        .body(StringBody("{\"email\":\"#{email}\",\"password\":\"" + PASSWORD + "\",\"nickname\":\"#{nickname}\"}"))
+                        .check(status().is(201)))
+                .exec(http("auth: login")
+                        .post("/auth/login")
+                        .body(StringBody("{\"email\":\"#{email}\",\"password\":\"" + PASSWORD + "\"}"))
+                        .check(status().is(200))
+                        .check(headerRegex("Set-Cookie", "access_token=([^;]+)").saveAs("accessToken")))
+                .exitHereIfFailed();
+    }
+
+    /**
+     * 공개 미니어처 생성 후 백로그 항목 ID 저장
+     */
+    private static final ChainBuilder createPublicMiniature = exec(http("miniature: create")
+            .post("/miniatures")
+            .header("Authorization", AUTHORIZATION)
+            .body(StringBody("{\"title\":\"부하 테스트 #{nickname}\",\"description\":\"loadtest\"}"))
+            .check(status().is(201))
+            .check(jsonPath("$.data.id").ofLong().saveAs("miniatureId")))
+            .exec(http("miniature: publish")
+                    .patch("/miniatures/#{miniatureId}")
+                    .header("Authorization", AUTHORIZATION)
+                    .body(StringBody("{\"isPublic\":true}"))
+                    .check(status().is(200)))
+            .exec(http("miniature: detail")
+                    .get("/miniatures/#{miniatureId}")
+                    .header("Authorization", AUTHORIZATION)
+                    .check(status().is(200))
+                    .check(jsonPath("$.data.backlogItems[*].id").ofLong().findAll().saveAs("backlogItemIds")))
+            .exitHereIfFailed();
+
+    private final ScenarioBuilder anonymousBrowsing = scenario("anonymous browsing")
+            .exec(session -> session.set("page", 0).set("hasNext", true))
+            // 공개 미니어처 목록을 hasNext가 끝날 때까지(최대 깊이까지) 순회
+            .asLongAs(session -> session.getBoolean("hasNext") && session.getInt("page") < MAX_PAGE_DEPTH).on(
+                    exec(http("public: miniatures page")
+                            .get("/public/miniatures")
+                            .queryParam("page", "#{page}")
+                            .queryParam("size", 12)
+                            .check(status().is(200))
+                            .check(jsonPath("$.data.hasNext").ofBoolean().saveAs("hasNext")))
+                            .exec(session -> session.set("page", session.getInt("page") + 1))
+                            .pause(Duration.ofMillis(200), Duration.ofMillis(800)))
+            // 공개 게시판은 깊은 페이지로 바로 이동 (OFFSET 비용 확인)
+            .exec(session -> session.set("logPage", ThreadLocalRandom.current().nextInt(MAX_PAGE_DEPTH)))
+            .exec(http("public: progress-logs deep page")
+                    .get("/public/progress-logs")
+                    .queryParam("page", "#{logPage}")
+                    .queryParam("size", 10)
+                    .check(status().is(200)));
+
+    private final ScenarioBuilder kanbanDrags = scenario("kanban drags")
+            .exec(signUpAndLogin("kb"))
+            .exec(createPublicMiniature)
+            .during(DURATION).on(
+                    exec(session -> session.set("step", pick(KANBAN_STEPS)))
+                            .exec(http("kanban: current-step")
+                                    .patch("/miniatures/#{miniatureId}/current-step")
+                                    .header("Authorization", AUTHORIZATION)
+                                    .body(StringBody("{\"currentStep\":\"#{step}\"}"))
+                                    .check(status().is(200)))
+                            .pause(Duration.ofMillis(300), Duration.ofMillis(1500))
+                            .exec(session -> session
+                                    .set("backlogItemId", pick(session.<Long>getList("backlogItemIds")))
+                                    .set("itemStatus", pick(ITEM_STATUSES)))
+                            .exec(http("kanban: backlog-item status")
+                                    .patch("/backlog-items/#{backlogItemId}")
+                                    .header("Authorization", AUTHORIZATION)
+                                    .body(StringBody("{\"status\":\"#{itemStatus}\"}"))
+                                    .check(status().is(200)))
+                            .pause(Duration.ofMillis(300), Duration.ofMillis(1500)));
+
+    private final ScenarioBuilder likeStorm = scenario("like storm")
+            .exec(signUpAndLogin("lk"))
+            .exec(http("like: hot miniatures")
+                    .get("/public/miniatures")
+                    .queryParam("page", 0)
+                    .queryParam("size", HOT_MINIATURES)
+                    .header("Authorization", AUTHORIZATION)
+                    .check(status().is(200))
+                    .check(jsonPath("$.data.content[*].id").ofLong().findAll().saveAs("hotIds")))
+            .exitHereIfFailed()
+            .during(DURATION).on(
+                    exec(session -> session.set("likeId", pick(session.<Long>getList("hotIds"))))
+                            .exec(http("like: toggle")
+                                    .post("/miniatures/#{likeId}/like")
+                                    .header("Authorization", AUTHORIZATION)
+                                    .check(status().is(200)))
+                            .pause(Duration.ofMillis(50), Duration.ofMillis(300)));
+
+    private final ScenarioBuilder progressLogUploads = scenario("progress log uploads")
+            .exec(signUpAndLogin("up"))
+            .exec(createPublicMiniature)
+            .during(DURATION).on(
+                    exec(http("progress-log: create")
+                            .post("/progress-logs")
+                            .header("Authorization", AUTHORIZATION)
+                            .body(StringBody("{\"miniatureId\":#{miniatureId},\"content\":\"부하 테스트 진행 로그\",\"isPublic\":true}"))
+                            .check(status().is(201))
+                            .check(jsonPath("$.data.id").ofLong().saveAs("progressLogId")))
+                            .exec(http("image: presign")
+                                    .post("/images/presign")
+                                    .header("Authorization", AUTHORIZATION)
+                                    .body(StringBody("{\"contentType\":\"image/png\"}"))
+                                    .check(status().is(200))
+                                    .check(jsonPath("$.data.uploadUrl").saveAs("uploadUrl"))
+                                    .check(jsonPath("$.data.objectKey").saveAs("objectKey")))
+                            .exitHereIfFailed()
+                            // 브라우저가 R2로 직접 올리는 구간 (서명된 쿼리를 그대로 사용)
+                            .exec(http("image: upload to r2")
+                                    .put("#{uploadUrl}")
+                                    .disableUrlEncoding()
+                                    .header("Content-Type", "image/png")
+                                    .body(ByteArrayBody(SAMPLE_PNG))
+                                    .check(status().is(200)))
+                            .exec(http("image: save")
+                                    .post("/images")
+                                    .header("Authorization", AUTHORIZATION)
+                                    .body(StringBody("{\"progressLogId\":#{progressLogId},\"objectKey\":\"#{objectKey}\"}"))
+                                    .check(status().is(201)))
+                            .pause(Duration.ofSeconds(2), Duration.ofSeconds(6)));
+
+    {
+        setUp(
+                anonymousBrowsing.injectOpen(
+                        rampUsersPerSec(1).to(BROWSE_USERS_PER_SEC).during(RAMP),
+                        constantUsersPerSec(BROWSE_USERS_PER_SEC).during(DURATION)),
+                kanbanDrags.injectOpen(rampUsers(KANBAN_USERS).during(RAMP)),
+                // 칸반 사용자가 공개 미니어처를 만든 뒤 시작
+                likeStorm.injectOpen(nothingFor(RAMP), rampUsers(LIKE_USERS).during(RAMP)),
+                progressLogUploads.injectOpen(rampUsers(UPLOAD_USERS).during(RAMP))
+        )
+                .protocols(httpProtocol)
+                .maxDuration(DURATION.plus(RAMP).plus(RAMP).plusSeconds(30))
+                .assertions(
+                        global().responseTime().percentile(95.0).lt(MAX_P95_MILLIS),
+                        global().failedRequests().percent().lt(MAX_FAILED_PERCENT));
+    }
+
+    @Override
+    public void before() {
+        if (FAKE_R2_PORT <= 0) {
+            return;
+        }
+        try {
+            fakeR2Server = new FakeR2Server(FAKE_R2_PORT);
+            fakeR2Server.start();
+        } catch (IOException e) {
+            throw new UncheckedIOException("가짜 R2 기동 실패: port=" + FAKE_R2_PORT, e);
+        }
+    }
+
+    @Override
+    public void after() {
+        if (fakeR2Server != null) {
+            fakeR2Server.stop();
+        }
+    }
+
+    private static <T> T pick(List<T> values) {
+        return values.get(ThreadLocalRandom.current().nextInt(values.size()));
+    }
+}
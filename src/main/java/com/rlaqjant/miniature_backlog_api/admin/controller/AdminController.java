@@ -3,6 +3,8 @@ package com.rlaqjant.miniature_backlog_api.admin.controller;
 import com.rlaqjant.miniature_backlog_api.admin.dto.*;
 import com.rlaqjant.miniature_backlog_api.admin.service.AdminService;
 import com.rlaqjant.miniature_backlog_api.common.dto.ApiResponse;
+import com.rlaqjant.miniature_backlog_api.image.dto.OrphanImageGcReport;
+import com.rlaqjant.miniature_backlog_api.image.service.OrphanImageCollector;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -16,6 +18,7 @@ import org.springframework.web.bind.annotation.*;
 public class AdminController {
 
     private final AdminService adminService;
+    private final OrphanImageCollector orphanImageCollector;
 
     /**
      * 미니어처 목록 조회 (제목/작성자 분리 검색)
@@ -88,4 +91,15 @@ public class AdminController {
         adminService.deleteUser(id);
         return ResponseEntity.ok(ApiResponse.success());
     }
+
+    /**
+     * 고아 이미지 오브젝트 정리 (수동 실행, 기본 dry-run)
+     * POST /admin/images/orphan-gc?dryRun=true
+     */
+    @PostMapping("/images/orphan-gc")
+    public ResponseEntity<ApiResponse<OrphanImageGcReport>> collectOrphanImages(
+            @RequestParam(defaultValue = "true") boolean dryRun) {
+        OrphanImageGcReport report = orphanImageCollector.collect(dryRun);
+        return ResponseEntity.ok(ApiResponse.success(report));
+    }
 }
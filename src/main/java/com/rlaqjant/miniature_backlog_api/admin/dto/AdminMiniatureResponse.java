@@ -1,6 +1,6 @@
 package com.rlaqjant.miniature_backlog_api.admin.dto;
 
-import com.rlaqjant.miniature_backlog_api.miniature.domain.Miniature;
+import com.rlaqjant.miniature_backlog_api.miniature.dto.MiniatureSummary;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -20,14 +20,14 @@ public class AdminMiniatureResponse {
     private int progress;
     private LocalDateTime createdAt;
 
-    public static AdminMiniatureResponse of(Miniature miniature, String userNickname, int progress) {
+    public static AdminMiniatureResponse of(MiniatureSummary miniature, String userNickname, int progress) {
         return AdminMiniatureResponse.builder()
-                .id(miniature.getId())
-                .title(miniature.getTitle())
+                .id(miniature.id())
+                .title(miniature.title())
                 .userNickname(userNickname)
-                .isPublic(miniature.getIsPublic())
+                .isPublic(miniature.isPublic())
                 .progress(progress)
-                .createdAt(miniature.getCreatedAt())
+                .createdAt(miniature.createdAt())
                 .build();
     }
 }
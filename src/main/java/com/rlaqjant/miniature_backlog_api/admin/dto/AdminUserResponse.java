@@ -1,6 +1,6 @@
 package com.rlaqjant.miniature_backlog_api.admin.dto;
 
-import com.rlaqjant.miniature_backlog_api.user.domain.User;
+import com.rlaqjant.miniature_backlog_api.user.dto.UserSummary;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -21,14 +21,14 @@ public class AdminUserResponse {
     private LocalDateTime createdAt;
     private long miniatureCount;
 
-    public static AdminUserResponse of(User user, long miniatureCount) {
+    public static AdminUserResponse of(UserSummary user, long miniatureCount) {
         return AdminUserResponse.builder()
-                .id(user.getId())
-                .email(user.getEmail())
-                .nickname(user.getNickname())
-                .role(user.getRole().name())
-                .provider(user.getProvider())
-                .createdAt(user.getCreatedAt())
+                .id(user.id())
+                .email(user.email())
+                .nickname(user.nickname())
+                .role(user.role().name())
+                .provider(user.provider())
+                .createdAt(user.createdAt())
                 .miniatureCount(miniatureCount)
                 .build();
     }
@@ -1,16 +1,20 @@
 package com.rlaqjant.miniature_backlog_api.admin.service;
 
 import com.rlaqjant.miniature_backlog_api.admin.dto.*;
-import com.rlaqjant.miniature_backlog_api.backlogitem.domain.BacklogItemStatus;
-import com.rlaqjant.miniature_backlog_api.backlogitem.repository.BacklogItemRepository;
 import com.rlaqjant.miniature_backlog_api.common.exception.BusinessException;
 import com.rlaqjant.miniature_backlog_api.common.exception.ErrorCode;
+import com.rlaqjant.miniature_backlog_api.common.transaction.TransactionCallbacks;
 import com.rlaqjant.miniature_backlog_api.miniature.domain.Miniature;
+import com.rlaqjant.miniature_backlog_api.miniature.dto.MiniatureSummary;
 import com.rlaqjant.miniature_backlog_api.miniature.repository.MiniatureRepository;
+import com.rlaqjant.miniature_backlog_api.miniature.service.MiniatureOwnershipIndex;
 import com.rlaqjant.miniature_backlog_api.miniature.service.MiniatureService;
 import com.rlaqjant.miniature_backlog_api.user.domain.User;
 import com.rlaqjant.miniature_backlog_api.user.domain.UserRole;
+import com.rlaqjant.miniature_backlog_api.user.dto.UserSummary;
 import com.rlaqjant.miniature_backlog_api.user.repository.UserRepository;
+import com.rlaqjant.miniature_backlog_api.user.service.NicknameIndex;
+import com.rlaqjant.miniature_backlog_api.user.service.UserNicknameDirectory;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -35,25 +39,24 @@ public class AdminService {
 
     private final MiniatureRepository miniatureRepository;
     private final MiniatureService miniatureService;
-    private final BacklogItemRepository backlogItemRepository;
+    private final MiniatureOwnershipIndex miniatureOwnershipIndex;
     private final UserRepository userRepository;
+    private final NicknameIndex nicknameIndex;
+    private final UserNicknameDirectory userNicknameDirectory;
 
     /**
      * 전체 미니어처 목록 조회 (페이지네이션, 제목/작성자 분리 검색)
      */
     public AdminMiniaturePageResponse getMiniatures(int page, int size, String title, String author) {
         Pageable pageable = PageRequest.of(page, size);
-        Page<Miniature> miniatures;
+        Page<MiniatureSummary> miniatures;
 
         boolean hasTitle = title != null && !title.isBlank();
         boolean hasAuthor = author != null && !author.isBlank();
 
         if (hasTitle && hasAuthor) {
             // 제목 AND 작성자 동시 검색
-            List<Long> matchedUserIds = userRepository.findByNicknameContainingIgnoreCase(author)
-                    .stream()
-                    .map(User::getId)
-                    .collect(Collectors.toList());
+            List<Long> matchedUserIds = userRepository.findIdsByNicknameContaining(author);
             if (matchedUserIds.isEmpty()) {
                 miniatures = Page.empty(pageable);
             } else {
@@ -62,10 +65,7 @@ public class AdminService {
         } else if (hasTitle) {
             miniatures = miniatureRepository.findByTitleContainingIgnoreCaseOrderByCreatedAtDesc(title, pageable);
         } else if (hasAuthor) {
-            List<Long> matchedUserIds = userRepository.findByNicknameContainingIgnoreCase(author)
-                    .stream()
-                    .map(User::getId)
-                    .collect(Collectors.toList());
+            List<Long> matchedUserIds = userRepository.findIdsByNicknameContaining(author);
             if (matchedUserIds.isEmpty()) {
                 miniatures = Page.empty(pageable);
             } else {
@@ -77,17 +77,15 @@ public class AdminService {
 
         // 사용자 닉네임 일괄 조회 (N+1 방지)
         Set<Long> userIds = miniatures.getContent().stream()
-                .map(Miniature::getUserId)
+                .map(MiniatureSummary::userId)
                 .collect(Collectors.toSet());
 
-        Map<Long, String> userNicknames = userRepository.findAllById(userIds).stream()
-                .collect(Collectors.toMap(User::getId, User::getNickname));
+        Map<Long, String> userNicknames = userNicknameDirectory.getAll(userIds);
 
-        // 진행률 계산 포함 응답 변환
+        // 저장된 진행률 포함 응답 변환
         Page<AdminMiniatureResponse> responsePage = miniatures.map(miniature -> {
-            String nickname = userNicknames.getOrDefault(miniature.getUserId(), "");
-            int progress = calculateProgress(miniature.getId());
-            return AdminMiniatureResponse.of(miniature, nickname, progress);
+            String nickname = userNicknames.getOrDefault(miniature.userId(), "");
+            return AdminMiniatureResponse.of(miniature, nickname, miniature.progress());
         });
 
         return AdminMiniaturePageResponse.from(responsePage);
@@ -102,6 +100,7 @@ public class AdminService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.MINIATURE_NOT_FOUND));
 
         miniature.update(null, null, request.getIsPublic());
+        miniatureOwnershipIndex.putAfterCommit(miniatureId, miniature.getUserId(), miniature.getIsPublic());
 
         log.info("관리자 미니어처 수정: miniatureId={}, isPublic={}", miniatureId, request.getIsPublic());
     }
@@ -119,7 +118,7 @@ public class AdminService {
      */
     public AdminUserPageResponse getUsers(int page, int size, String email, String nickname) {
         Pageable pageable = PageRequest.of(page, size);
-        Page<User> users;
+        Page<UserSummary> users;
 
         boolean hasEmail = email != null && !email.isBlank();
         boolean hasNickname = nickname != null && !nickname.isBlank();
@@ -132,11 +131,11 @@ public class AdminService {
         } else if (hasNickname) {
             users = userRepository.findByNicknameContainingIgnoreCase(nickname, pageable);
         } else {
-            users = userRepository.findAll(pageable);
+            users = userRepository.findAllSummaries(pageable);
         }
 
         Page<AdminUserResponse> responsePage = users.map(user -> {
-            long miniatureCount = miniatureRepository.countByUserId(user.getId());
+            long miniatureCount = miniatureRepository.countByUserId(user.id());
             return AdminUserResponse.of(user, miniatureCount);
         });
 
@@ -171,25 +170,15 @@ public class AdminService {
         }
 
         // 해당 사용자의 모든 미니어처 연쇄 삭제
-        List<Miniature> miniatures = miniatureRepository.findByUserIdOrderByCreatedAtDesc(userId);
-        for (Miniature miniature : miniatures) {
-            miniatureService.deleteMiniatureForAdmin(miniature.getId());
+        List<MiniatureSummary> miniatures = miniatureRepository.findByUserIdOrderByCreatedAtDesc(userId);
+        for (MiniatureSummary miniature : miniatures) {
+            miniatureService.deleteMiniatureForAdmin(miniature.id());
         }
 
         userRepository.delete(user);
+        String nickname = user.getNickname();
+        TransactionCallbacks.afterCommit(() -> nicknameIndex.remove(nickname));
+        userNicknameDirectory.evictAfterCommit(userId);
         log.info("관리자 사용자 삭제: userId={}, miniatureCount={}", userId, miniatures.size());
     }
-
-    /**
-     * 진행률 계산
-     */
-    private int calculateProgress(Long miniatureId) {
-        long total = backlogItemRepository.countByMiniatureId(miniatureId);
-        if (total == 0) {
-            return 0;
-        }
-        long done = backlogItemRepository.countByMiniatureIdAndStatus(
-                miniatureId, BacklogItemStatus.DONE);
-        return (int) Math.round((double) done / total * 100);
-    }
 }
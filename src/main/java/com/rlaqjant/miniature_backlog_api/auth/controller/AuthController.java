@@ -5,6 +5,7 @@ import com.rlaqjant.miniature_backlog_api.auth.dto.LoginRequest;
 import com.rlaqjant.miniature_backlog_api.auth.dto.NicknameCheckResponse;
 import com.rlaqjant.miniature_backlog_api.auth.dto.NicknameRequest;
 import com.rlaqjant.miniature_backlog_api.auth.dto.RegisterRequest;
+import com.rlaqjant.miniature_backlog_api.auth.service.AuthRateLimiter;
 import com.rlaqjant.miniature_backlog_api.auth.service.AuthService;
 import com.rlaqjant.miniature_backlog_api.common.dto.ApiResponse;
 import com.rlaqjant.miniature_backlog_api.common.exception.BusinessException;
@@ -26,9 +27,12 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.net.URI;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
  * 인증 컨트롤러
@@ -44,6 +48,7 @@ public class AuthController {
     private final AuthService authService;
     private final JwtCookieUtil jwtCookieUtil;
     private final GoogleOAuthService googleOAuthService;
+    private final AuthRateLimiter authRateLimiter;
 
     @Value("${app.frontend-url}")
     private String frontendUrl;
@@ -59,7 +64,10 @@ public class AuthController {
      * POST /auth/register
      */
     @PostMapping("/register")
-    public ResponseEntity<ApiResponse<Void>> register(@Valid @RequestBody RegisterRequest request) {
+    public ResponseEntity<ApiResponse<Void>> register(
+            @Valid @RequestBody RegisterRequest request,
+            HttpServletRequest httpRequest) {
+        authRateLimiter.checkRegister(httpRequest.getRemoteAddr(), request.getEmail());
         authService.register(request);
         return ResponseEntity
                 .status(HttpStatus.CREATED)
@@ -83,7 +91,10 @@ public class AuthController {
      * 성공 시 JWT 토큰을 HttpOnly 쿠키로 전달, body에 사용자 정보 반환
      */
     @PostMapping("/login")
-    public ResponseEntity<ApiResponse<AuthResponse>> login(@Valid @RequestBody LoginRequest request) {
+    public ResponseEntity<ApiResponse<AuthResponse>> login(
+            @Valid @RequestBody LoginRequest request,
+            HttpServletRequest httpRequest) {
+        authRateLimiter.checkLogin(httpRequest.getRemoteAddr(), request.getEmail());
         AuthService.LoginResult result = authService.login(request);
 
         ResponseCookie cookie = jwtCookieUtil.createAccessTokenCookie(
@@ -120,21 +131,20 @@ public class AuthController {
      * Google OAuth 콜백
      * GET /auth/oauth2/callback/google
      * authorization code로 토큰 교환 후 프론트엔드로 리다이렉트
+     * 비동기 모드에서는 Google 호출 동안 요청 스레드를 반환
      */
     @GetMapping("/oauth2/callback/google")
-    public void googleCallback(
+    public CompletableFuture<ResponseEntity<Void>> googleCallback(
             @RequestParam("code") String code,
             @RequestParam("state") String state,
             HttpServletRequest request,
-            HttpServletResponse response) throws Exception {
+            HttpServletResponse response) {
 
         // state 검증 (CSRF 방지)
         String savedState = getOAuthStateCookie(request);
         if (savedState == null || !savedState.equals(state)) {
             log.warn("OAuth state 불일치: saved={}, received={}", savedState, state);
-            response.sendRedirect(frontendUrl + "/login?error=" +
-                    URLEncoder.encode("인증 상태가 유효하지 않습니다.", StandardCharsets.UTF_8));
-            return;
+            return CompletableFuture.completedFuture(redirectToLoginError("인증 상태가 유효하지 않습니다."));
         }
 
         // state 쿠키 삭제
@@ -145,26 +155,40 @@ public class AuthController {
         deleteStateCookie.setMaxAge(0);
         response.addCookie(deleteStateCookie);
 
-        try {
-            // authorization code → 사용자 정보 교환
-            GoogleOAuthService.GoogleUserInfo userInfo = googleOAuthService.exchangeCodeForUserInfo(code);
-
-            // 사용자 생성/조회 + JWT 발급
-            AuthService.LoginResult result = authService.googleAuth(userInfo.email(), userInfo.googleId());
-
-            // JWT 쿠키 설정
-            ResponseCookie jwtCookie = jwtCookieUtil.createAccessTokenCookie(
-                    result.tokenResponse().getAccessToken());
-            response.addHeader(HttpHeaders.SET_COOKIE, jwtCookie.toString());
-
-            // 프론트엔드 콜백 페이지로 리다이렉트
-            response.sendRedirect(frontendUrl + "/auth/callback");
+        // authorization code → 사용자 정보 교환
+        return googleOAuthService.exchangeCodeForUserInfoAsync(code)
+                .thenApply(userInfo -> {
+                    // 사용자 생성/조회 + JWT 발급
+                    AuthService.LoginResult result = authService.googleAuth(userInfo.email(), userInfo.googleId());
+
+                    // JWT 쿠키 설정 후 프론트엔드 콜백 페이지로 리다이렉트
+                    ResponseCookie jwtCookie = jwtCookieUtil.createAccessTokenCookie(
+                            result.tokenResponse().getAccessToken());
+                    return ResponseEntity.status(HttpStatus.FOUND)
+                            .location(URI.create(frontendUrl + "/auth/callback"))
+                            .header(HttpHeaders.SET_COOKIE, jwtCookie.toString())
+                            .<Void>build();
+                })
+                .exceptionally(ex -> {
+                    Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+                    if (cause instanceof BusinessException e) {
+                        log.error("Google OAuth 콜백 처리 실패: {}", e.getMessage());
+                        return redirectToLoginError(e.getMessage());
+                    }
+                    throw ex instanceof CompletionException completionException
+                            ? completionException
+                            : new CompletionException(ex);
+                });
+    }
 
-        } catch (BusinessException e) {
-            log.error("Google OAuth 콜백 처리 실패: {}", e.getMessage());
-            response.sendRedirect(frontendUrl + "/login?error=" +
-                    URLEncoder.encode(e.getMessage(), StandardCharsets.UTF_8));
-        }
+    /**
+     * 로그인 페이지로 에러 메시지와 함께 리다이렉트
+     */
+    private ResponseEntity<Void> redirectToLoginError(String message) {
+        return ResponseEntity.status(HttpStatus.FOUND)
+                .location(URI.create(frontendUrl + "/login?error=" +
+                        URLEncoder.encode(message, StandardCharsets.UTF_8)))
+                .build();
     }
 
     /**
@@ -202,6 +226,8 @@ public class AuthController {
      */
     @PostMapping("/refresh")
     public ResponseEntity<ApiResponse<AuthResponse>> refresh(HttpServletRequest request) {
+        authRateLimiter.checkRefresh(request.getRemoteAddr());
+
         String token = jwtCookieUtil.getTokenFromCookies(request);
 
         if (token == null || token.isEmpty()) {
@@ -3,6 +3,8 @@ package com.rlaqjant.miniature_backlog_api.auth.dto;
 import lombok.Builder;
 import lombok.Getter;
 
+import java.util.List;
+
 /**
  * 닉네임 중복 확인 응답 DTO
  */
@@ -15,4 +17,7 @@ public class NicknameCheckResponse {
 
     /** 결과 메시지 */
     private String message;
+
+    /** 사용 중일 때 대체 닉네임 제안 */
+    private List<String> suggestions;
 }
@@ -0,0 +1,90 @@
+package com.rlaqjant.miniature_backlog_api.auth.service;
+
+import com.rlaqjant.miniature_backlog_api.common.exception.BusinessException;
+import com.rlaqjant.miniature_backlog_api.common.exception.ErrorCode;
+import com.rlaqjant.miniature_backlog_api.common.ratelimit.TokenBucketRateLimiter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * 인증 API 처리율 제한
+ * IP별 / 이메일(계정)별 토큰 버킷으로 로그인·회원가입·토큰 갱신 폭주와 크리덴셜 스터핑 차단
+ */
+@Slf4j
+@Component
+public class AuthRateLimiter {
+
+    private static final int MAX_TRACKED_KEYS = 100_000;
+
+    private final TokenBucketRateLimiter ipLimiter;
+    private final TokenBucketRateLimiter emailLimiter;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+
+    public AuthRateLimiter(
+            MeterRegistry meterRegistry,
+            @Value("${app.auth.rate-limit.enabled:true}") boolean enabled,
+            @Value("${app.auth.rate-limit.ip.capacity:20}") int ipCapacity,
+            @Value("${app.auth.rate-limit.ip.refill-seconds:3}") long ipRefillSeconds,
+            @Value("${app.auth.rate-limit.email.capacity:5}") int emailCapacity,
+            @Value("${app.auth.rate-limit.email.refill-seconds:60}") long emailRefillSeconds) {
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        // 추적 키가 가득 차면 IP는 거부(fail closed), 이메일은 추적 없이 허용 (IP 제한이 계속 적용됨)
+        this.ipLimiter = new TokenBucketRateLimiter(ipCapacity, Duration.ofSeconds(ipRefillSeconds),
+                MAX_TRACKED_KEYS, TokenBucketRateLimiter.OverflowPolicy.REJECT);
+        this.emailLimiter = new TokenBucketRateLimiter(emailCapacity, Duration.ofSeconds(emailRefillSeconds),
+                MAX_TRACKED_KEYS, TokenBucketRateLimiter.OverflowPolicy.ALLOW);
+        meterRegistry.gauge("auth.rate_limit.keys", Tags.of("key", "ip"), ipLimiter, TokenBucketRateLimiter::size);
+        meterRegistry.gauge("auth.rate_limit.keys", Tags.of("key", "email"), emailLimiter, TokenBucketRateLimiter::size);
+    }
+
+    public void checkLogin(String clientIp, String email) {
+        check("login", clientIp, email);
+    }
+
+    public void checkRegister(String clientIp, String email) {
+        check("register", clientIp, email);
+    }
+
+    /**
+     * 토큰 갱신은 요청 시점에 이메일을 알 수 없어 IP 기준만 적용
+     */
+    public void checkRefresh(String clientIp) {
+        check("refresh", clientIp, null);
+    }
+
+    /**
+     * 유휴(가득 찬) 버킷 정리
+     */
+    @Scheduled(fixedDelay = 60_000)
+    public void evictIdleBuckets() {
+        ipLimiter.evictIdle();
+        emailLimiter.evictIdle();
+    }
+
+    private void check(String endpoint, String clientIp, String email) {
+        if (!enabled) {
+            return;
+        }
+        if (ipLimiter.tryAcquire(endpoint + ":" + clientIp) > 0) {
+            reject(endpoint, "ip", clientIp);
+        }
+        if (email != null && emailLimiter.tryAcquire(endpoint + ":" + email.trim().toLowerCase(Locale.ROOT)) > 0) {
+            reject(endpoint, "email", email);
+        }
+    }
+
+    private void reject(String endpoint, String keyType, String key) {
+        meterRegistry.counter("auth.rate_limit.rejected", "endpoint", endpoint, "key", keyType).increment();
+        log.warn("인증 요청 처리율 초과: endpoint={}, {}={}", endpoint, keyType, key);
+        throw new BusinessException(ErrorCode.TOO_MANY_REQUESTS);
+    }
+}
@@ -3,15 +3,20 @@ package com.rlaqjant.miniature_backlog_api.auth.service;
 import com.rlaqjant.miniature_backlog_api.auth.dto.*;
 import com.rlaqjant.miniature_backlog_api.common.exception.BusinessException;
 import com.rlaqjant.miniature_backlog_api.common.exception.ErrorCode;
+import com.rlaqjant.miniature_backlog_api.common.transaction.TransactionCallbacks;
 import com.rlaqjant.miniature_backlog_api.security.jwt.JwtTokenProvider;
 import com.rlaqjant.miniature_backlog_api.user.domain.User;
 import com.rlaqjant.miniature_backlog_api.user.repository.UserRepository;
+import com.rlaqjant.miniature_backlog_api.user.service.NicknameIndex;
+import com.rlaqjant.miniature_backlog_api.user.service.UserNicknameDirectory;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Locale;
 import java.util.Optional;
 
 /**
@@ -23,9 +28,13 @@ import java.util.Optional;
 @Transactional(readOnly = true)
 public class AuthService {
 
+    private static final int NICKNAME_SUGGESTION_COUNT = 3;
+
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider jwtTokenProvider;
+    private final NicknameIndex nicknameIndex;
+    private final UserNicknameDirectory userNicknameDirectory;
 
     /**
      * 회원가입
@@ -37,8 +46,8 @@ public class AuthService {
             throw new BusinessException(ErrorCode.DUPLICATE_EMAIL);
         }
 
-        // 닉네임 중복 확인
-        if (userRepository.existsByNickname(request.getNickname())) {
+        // 닉네임 중복 확인 (인메모리 인덱스, 최종 판정은 유니크 제약)
+        if (nicknameIndex.isTaken(request.getNickname())) {
             throw new BusinessException(ErrorCode.DUPLICATE_NICKNAME);
         }
 
@@ -49,7 +58,12 @@ public class AuthService {
                 .nickname(request.getNickname())
                 .build();
 
-        userRepository.save(user);
+        try {
+            userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException e) {
+            throw toDuplicateException(e);
+        }
+        TransactionCallbacks.afterCommit(() -> nicknameIndex.add(user.getNickname()));
         log.info("회원가입 완료: {}", request.getEmail());
     }
 
@@ -57,11 +71,11 @@ public class AuthService {
      * 닉네임 사용 가능 여부 확인
      */
     public NicknameCheckResponse checkNicknameAvailable(String nickname) {
-        boolean exists = userRepository.existsByNickname(nickname);
-        if (exists) {
+        if (nicknameIndex.isTaken(nickname)) {
             return NicknameCheckResponse.builder()
                     .available(false)
                     .message("이미 사용 중인 닉네임입니다.")
+                    .suggestions(nicknameIndex.suggest(nickname, NICKNAME_SUGGESTION_COUNT))
                     .build();
         }
         return NicknameCheckResponse.builder()
@@ -167,12 +181,19 @@ public class AuthService {
             throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "닉네임이 이미 설정되어 있습니다.");
         }
 
-        // 닉네임 중복 확인
-        if (userRepository.existsByNickname(request.getNickname())) {
+        // 닉네임 중복 확인 (인메모리 인덱스, 최종 판정은 유니크 제약)
+        if (nicknameIndex.isTaken(request.getNickname())) {
             throw new BusinessException(ErrorCode.DUPLICATE_NICKNAME);
         }
 
         user.updateNickname(request.getNickname());
+        try {
+            userRepository.flush();
+        } catch (DataIntegrityViolationException e) {
+            throw toDuplicateException(e);
+        }
+        TransactionCallbacks.afterCommit(() -> nicknameIndex.add(request.getNickname()));
+        userNicknameDirectory.evictAfterCommit(userId);
         log.info("닉네임 설정 완료: userId={}, nickname={}", userId, request.getNickname());
 
         return AuthResponse.of(UserInfoResponse.from(user));
@@ -216,6 +237,17 @@ public class AuthService {
         return new LoginResult(tokenResponse, authResponse);
     }
 
+    /**
+     * 유니크 제약 위반을 중복 에러로 변환 (동시 가입 경합 시 DB가 최종 판정)
+     */
+    private BusinessException toDuplicateException(DataIntegrityViolationException e) {
+        String message = String.valueOf(e.getMostSpecificCause().getMessage()).toLowerCase(Locale.ROOT);
+        if (message.contains(User.NICKNAME_UNIQUE_CONSTRAINT)) {
+            return new BusinessException(ErrorCode.DUPLICATE_NICKNAME);
+        }
+        return new BusinessException(ErrorCode.DUPLICATE_EMAIL);
+    }
+
     /**
      * 로그인/갱신 결과 (토큰 + 사용자 정보)
      */
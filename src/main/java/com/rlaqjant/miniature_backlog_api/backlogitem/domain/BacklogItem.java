@@ -1,61 +0,0 @@
-package com.rlaqjant.miniature_backlog_api.backlogitem.domain;
-
-import jakarta.persistence.*;
-import lombok.*;
-
-import java.time.LocalDateTime;
-
-/**
- * 백로그 항목 엔티티
- * 미니어처의 도색 단계를 나타냄
- */
-@Entity
-@Table(name = "backlog_items")
-@Getter
-@NoArgsConstructor(access = AccessLevel.PROTECTED)
-@AllArgsConstructor
-@Builder
-public class BacklogItem {
-
-    @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
-    private Long id;
-
-    @Column(name = "miniature_id", nullable = false)
-    private Long miniatureId;
-
-    @Column(name = "step_name", nullable = false, length = 100)
-    private String stepName;
-
-    @Enumerated(EnumType.STRING)
-    @Column(nullable = false, length = 20)
-    @Builder.Default
-    private BacklogItemStatus status = BacklogItemStatus.TODO;
-
-    @Column(name = "order_index", nullable = false)
-    private Integer orderIndex;
-
-    @Column(name = "created_at", nullable = false, updatable = false)
-    private LocalDateTime createdAt;
-
-    @Column(name = "updated_at", nullable = false)
-    private LocalDateTime updatedAt;
-
-    @PrePersist
-    protected void onCreate() {
-        this.createdAt = LocalDateTime.now();
-        this.updatedAt = LocalDateTime.now();
-    }
-
-    @PreUpdate
-    protected void onUpdate() {
-        this.updatedAt = LocalDateTime.now();
-    }
-
-    /**
-     * 상태 변경 비즈니스 메서드
-     */
-    public void updateStatus(BacklogItemStatus newStatus) {
-        this.status = newStatus;
-    }
-}
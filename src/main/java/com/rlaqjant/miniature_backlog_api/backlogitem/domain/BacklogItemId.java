@@ -0,0 +1,25 @@
+package com.rlaqjant.miniature_backlog_api.backlogitem.domain;
+
+/**
+ * 백로그 항목 ID (miniatureId * 32 + 단계 인덱스)
+ * 단계 상태가 미니어처의 비트마스크로 저장되므로 항목별 행/시퀀스 없이 API의 항목 ID를 유지
+ */
+public final class BacklogItemId {
+
+    private static final int SLOTS = StepState.MAX_STEPS + 1;
+
+    private BacklogItemId() {
+    }
+
+    public static long encode(long miniatureId, int index) {
+        return miniatureId * SLOTS + index;
+    }
+
+    public static long miniatureId(long backlogItemId) {
+        return backlogItemId / SLOTS;
+    }
+
+    public static int index(long backlogItemId) {
+        return (int) (backlogItemId % SLOTS);
+    }
+}
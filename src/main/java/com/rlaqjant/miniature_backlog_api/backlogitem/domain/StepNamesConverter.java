@@ -0,0 +1,25 @@
+package com.rlaqjant.miniature_backlog_api.backlogitem.domain;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.util.List;
+
+/**
+ * 단계 이름 목록 ↔ 개행 구분 문자열 (step_templates.step_names)
+ */
+@Converter
+public class StepNamesConverter implements AttributeConverter<List<String>, String> {
+
+    static final String DELIMITER = "\n";
+
+    @Override
+    public String convertToDatabaseColumn(List<String> stepNames) {
+        return stepNames == null ? null : String.join(DELIMITER, stepNames);
+    }
+
+    @Override
+    public List<String> convertToEntityAttribute(String dbData) {
+        return dbData == null ? null : List.of(dbData.split(DELIMITER));
+    }
+}
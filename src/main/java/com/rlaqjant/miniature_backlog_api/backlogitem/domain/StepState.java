@@ -0,0 +1,95 @@
+package com.rlaqjant.miniature_backlog_api.backlogitem.domain;
+
+import java.util.List;
+
+/**
+ * 미니어처 단계 상태 (비트마스크)
+ * i번째 비트 = 템플릿의 i번째 단계, doneMask → DONE, inProgressMask → IN_PROGRESS, 둘 다 0 → TODO
+ * 진행률/현재 단계는 miniatures.progress / current_step에도 저장되어 보드/피드 조회에 사용
+ */
+public record StepState(int doneMask, int inProgressMask) {
+
+    public static final String NOT_STARTED = "시작전";
+    public static final String COMPLETED = "완료";
+
+    // int 마스크 비트 수 (부호 비트 제외)
+    public static final int MAX_STEPS = 31;
+
+    public static final StepState INITIAL = new StepState(0, 0);
+
+    /**
+     * targetIndex 이하 단계 DONE, 이후 TODO (음수면 전부 TODO, stepCount 이상이면 전부 DONE)
+     */
+    public static StepState movedTo(int targetIndex, int stepCount) {
+        int doneCount = Math.max(0, Math.min(targetIndex + 1, stepCount));
+        return new StepState(lowBits(doneCount), 0);
+    }
+
+    public BacklogItemStatus status(int index) {
+        int bit = 1 << index;
+        if ((doneMask & bit) != 0) {
+            return BacklogItemStatus.DONE;
+        }
+        return (inProgressMask & bit) != 0 ? BacklogItemStatus.IN_PROGRESS : BacklogItemStatus.TODO;
+    }
+
+    /**
+     * 단계 상태 변경 (캐스케이드 포함)
+     * - DONE → non-DONE: 이후 단계 TODO로 초기화
+     * - non-DONE → IN_PROGRESS/DONE: 이전 단계 자동 완료
+     */
+    public StepState withStatus(int index, BacklogItemStatus newStatus) {
+        int bit = 1 << index;
+        BacklogItemStatus oldStatus = status(index);
+        int done = doneMask & ~bit;
+        int inProgress = inProgressMask & ~bit;
+
+        if (oldStatus == BacklogItemStatus.DONE && newStatus != BacklogItemStatus.DONE) {
+            int before = lowBits(index);
+            done &= before;
+            inProgress &= before;
+        }
+        if (oldStatus != BacklogItemStatus.DONE && newStatus != BacklogItemStatus.TODO) {
+            done |= lowBits(index);
+            inProgress &= ~lowBits(index);
+        }
+
+        if (newStatus == BacklogItemStatus.DONE) {
+            done |= bit;
+        } else if (newStatus == BacklogItemStatus.IN_PROGRESS) {
+            inProgress |= bit;
+        }
+        return new StepState(done, inProgress);
+    }
+
+    /**
+     * 진행률 (DONE 개수 popcount / 전체 개수 * 100)
+     */
+    public int progress(int stepCount) {
+        if (stepCount == 0) {
+            return 0;
+        }
+        int done = Integer.bitCount(doneMask & lowBits(stepCount));
+        return (int) Math.round((double) done / stepCount * 100);
+    }
+
+    /**
+     * 현재 단계 (처음부터 연속 DONE 개수 = 하위 연속 1비트 수)
+     * - 0개 → "시작전", 모두 DONE → "완료", N개 → N번째 단계 이름
+     */
+    public String currentStep(List<String> stepNames) {
+        int consecutiveDone = Math.min(Integer.numberOfTrailingZeros(~doneMask), stepNames.size());
+        if (consecutiveDone == 0) {
+            return NOT_STARTED;
+        }
+        if (consecutiveDone == stepNames.size()) {
+            return COMPLETED;
+        }
+        return stepNames.get(consecutiveDone - 1);
+    }
+
+    // 하위 n비트 마스크
+    private static int lowBits(int n) {
+        return n >= Integer.SIZE ? -1 : (1 << n) - 1;
+    }
+}
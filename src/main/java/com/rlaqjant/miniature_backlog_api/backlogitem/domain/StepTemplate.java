@@ -0,0 +1,40 @@
+package com.rlaqjant.miniature_backlog_api.backlogitem.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 단계 템플릿 엔티티
+ * 미니어처가 공유하는 단계 이름 목록 (동일 목록은 한 행으로 인터닝)
+ * 기본 단계 목록은 행 없이 miniatures.step_template_id = NULL로 표현
+ */
+@Entity
+@Table(name = "step_templates")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class StepTemplate {
+
+    public static final List<String> DEFAULT_STEP_NAMES = List.of("언박싱", "조립", "프라이밍", "도색", "마무리");
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 순서대로 개행 구분 저장, 목록 전체가 유니크 키
+    @Convert(converter = StepNamesConverter.class)
+    @Column(name = "step_names", nullable = false, unique = true, length = 1000)
+    private List<String> stepNames;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        this.createdAt = LocalDateTime.now();
+    }
+}
@@ -1,11 +1,16 @@
 package com.rlaqjant.miniature_backlog_api.backlogitem.dto;
 
-import com.rlaqjant.miniature_backlog_api.backlogitem.domain.BacklogItem;
+import com.rlaqjant.miniature_backlog_api.backlogitem.domain.BacklogItemId;
 import com.rlaqjant.miniature_backlog_api.backlogitem.domain.BacklogItemStatus;
+import com.rlaqjant.miniature_backlog_api.backlogitem.domain.StepState;
 import lombok.*;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * 백로그 항목 응답 DTO
+ * 미니어처의 단계 템플릿 + 비트마스크에서 단계별로 구성 (id는 BacklogItemId 인코딩)
  */
 @Getter
 @NoArgsConstructor
@@ -18,13 +23,25 @@ public class BacklogItemResponse {
     private BacklogItemStatus status;
     private Integer orderIndex;
     private Integer progress;  // 미니어처 전체 진행률 (상태 변경 응답에서 사용)
+    private Long version;      // 변경 후 미니어처 version (상태 변경 응답에서 사용)
 
-    public static BacklogItemResponse from(BacklogItem backlogItem) {
+    public static BacklogItemResponse of(Long miniatureId, int index, String stepName, BacklogItemStatus status) {
         return BacklogItemResponse.builder()
-                .id(backlogItem.getId())
-                .stepName(backlogItem.getStepName())
-                .status(backlogItem.getStatus())
-                .orderIndex(backlogItem.getOrderIndex())
+                .id(BacklogItemId.encode(miniatureId, index))
+                .stepName(stepName)
+                .status(status)
+                .orderIndex(index)
                 .build();
     }
+
+    /**
+     * 미니어처의 전체 단계 목록 (orderIndex 오름차순)
+     */
+    public static List<BacklogItemResponse> listOf(Long miniatureId, List<String> stepNames, StepState state) {
+        List<BacklogItemResponse> items = new ArrayList<>(stepNames.size());
+        for (int i = 0; i < stepNames.size(); i++) {
+            items.add(of(miniatureId, i, stepNames.get(i), state.status(i)));
+        }
+        return items;
+    }
 }
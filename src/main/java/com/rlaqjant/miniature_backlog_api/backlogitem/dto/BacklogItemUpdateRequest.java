@@ -15,4 +15,7 @@ public class BacklogItemUpdateRequest {
 
     @NotNull(message = "상태는 필수입니다.")
     private BacklogItemStatus status;
+
+    // 마지막으로 본 미니어처 version (없으면 서버가 읽은 version 기준)
+    private Long version;
 }
@@ -0,0 +1,12 @@
+package com.rlaqjant.miniature_backlog_api.backlogitem.repository;
+
+import com.rlaqjant.miniature_backlog_api.backlogitem.domain.StepTemplate;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 단계 템플릿 Repository
+ */
+@Repository
+public interface StepTemplateRepository extends JpaRepository<StepTemplate, Long> {
+}
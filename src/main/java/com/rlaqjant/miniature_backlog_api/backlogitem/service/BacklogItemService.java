@@ -1,23 +1,22 @@
 package com.rlaqjant.miniature_backlog_api.backlogitem.service;
 
-import com.rlaqjant.miniature_backlog_api.backlogitem.domain.BacklogItem;
-import com.rlaqjant.miniature_backlog_api.backlogitem.domain.BacklogItemStatus;
+import com.rlaqjant.miniature_backlog_api.backlogitem.domain.BacklogItemId;
+import com.rlaqjant.miniature_backlog_api.backlogitem.domain.StepState;
 import com.rlaqjant.miniature_backlog_api.backlogitem.dto.BacklogItemResponse;
 import com.rlaqjant.miniature_backlog_api.backlogitem.dto.BacklogItemUpdateRequest;
-import com.rlaqjant.miniature_backlog_api.backlogitem.repository.BacklogItemRepository;
 import com.rlaqjant.miniature_backlog_api.common.exception.BusinessException;
 import com.rlaqjant.miniature_backlog_api.common.exception.ErrorCode;
-import com.rlaqjant.miniature_backlog_api.miniature.domain.Miniature;
-import com.rlaqjant.miniature_backlog_api.miniature.repository.MiniatureRepository;
+import com.rlaqjant.miniature_backlog_api.miniature.service.MiniatureOwnershipIndex;
+import com.rlaqjant.miniature_backlog_api.miniature.service.MiniatureStepStateStore;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
-
 /**
  * 백로그 항목 서비스
+ * 항목 상태는 미니어처의 단계 비트마스크로 저장 (항목 ID = BacklogItemId 인코딩)
+ * 변경은 미니어처 version 조건부 UPDATE로 처리 (동시 변경 시 409)
  */
 @Slf4j
 @Service
@@ -25,88 +24,46 @@ import java.util.List;
 @Transactional(readOnly = true)
 public class BacklogItemService {
 
-    private final BacklogItemRepository backlogItemRepository;
-    private final MiniatureRepository miniatureRepository;
+    private final MiniatureStepStateStore miniatureStepStateStore;
+    private final MiniatureOwnershipIndex miniatureOwnershipIndex;
 
     /**
      * 백로그 항목 상태 변경
      */
     @Transactional
     public BacklogItemResponse updateStatus(Long backlogItemId, BacklogItemUpdateRequest request, Long userId) {
-        // 1. BacklogItem 조회
-        BacklogItem backlogItem = backlogItemRepository.findById(backlogItemId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.BACKLOG_ITEM_NOT_FOUND));
-
-        // 2. 소유권 검증 (BacklogItem → Miniature → userId)
-        validateOwnership(backlogItem.getMiniatureId(), userId);
-
-        // 3. 상태 변경 (역방향 캐스케이드 포함)
-        BacklogItemStatus oldStatus = backlogItem.getStatus();
-        backlogItem.updateStatus(request.getStatus());
-        log.info("백로그 항목 상태 변경: id={}, status={}", backlogItemId, request.getStatus());
-
-        // 역방향 캐스케이드: DONE → non-DONE 전환 시 이후 단계 초기화
-        if (oldStatus == BacklogItemStatus.DONE && request.getStatus() != BacklogItemStatus.DONE) {
-            List<BacklogItem> allItems = backlogItemRepository
-                    .findByMiniatureIdOrderByOrderIndexAsc(backlogItem.getMiniatureId());
-            for (BacklogItem item : allItems) {
-                if (item.getOrderIndex() > backlogItem.getOrderIndex()
-                        && item.getStatus() != BacklogItemStatus.TODO) {
-                    item.updateStatus(BacklogItemStatus.TODO);
-                }
-            }
+        // 1. 항목 ID → 미니어처 ID + 단계 인덱스
+        if (backlogItemId < 0) {
+            throw new BusinessException(ErrorCode.BACKLOG_ITEM_NOT_FOUND);
         }
+        long miniatureId = BacklogItemId.miniatureId(backlogItemId);
+        int index = BacklogItemId.index(backlogItemId);
 
-        // 순방향 캐스케이드: non-DONE → IN_PROGRESS/DONE 전환 시 이전 단계 자동 완료
-        if (oldStatus != BacklogItemStatus.DONE
-                && (request.getStatus() == BacklogItemStatus.IN_PROGRESS
-                    || request.getStatus() == BacklogItemStatus.DONE)) {
-            List<BacklogItem> allItems = backlogItemRepository
-                    .findByMiniatureIdOrderByOrderIndexAsc(backlogItem.getMiniatureId());
-            for (BacklogItem item : allItems) {
-                if (item.getOrderIndex() < backlogItem.getOrderIndex()
-                        && item.getStatus() != BacklogItemStatus.DONE) {
-                    item.updateStatus(BacklogItemStatus.DONE);
-                }
+        // 2. 소유권 검증 (단계 상태를 읽기 전, 없는 미니어처의 항목은 항목 없음으로 응답)
+        try {
+            miniatureOwnershipIndex.validateOwner(miniatureId, userId);
+        } catch (BusinessException e) {
+            if (e.getErrorCode() == ErrorCode.MINIATURE_NOT_FOUND) {
+                throw new BusinessException(ErrorCode.BACKLOG_ITEM_NOT_FOUND);
             }
+            throw e;
         }
+        MiniatureStepStateStore.Snapshot snapshot = miniatureStepStateStore.find(miniatureId)
+                .filter(found -> index < found.steps().size())
+                .orElseThrow(() -> new BusinessException(ErrorCode.BACKLOG_ITEM_NOT_FOUND));
 
-        // 4. 진행률 계산
-        int progress = calculateProgress(backlogItem.getMiniatureId());
+        // 3. 상태 변경 (순방향/역방향 캐스케이드 포함) + 조건부 UPDATE 1회 (충돌 시 409 + 최신 상태)
+        StepState state = snapshot.state().withStatus(index, request.getStatus());
+        long version = miniatureStepStateStore.update(snapshot, request.getVersion(), state);
+        log.info("백로그 항목 상태 변경: id={}, status={}, version={}", backlogItemId, request.getStatus(), version);
 
         return BacklogItemResponse.builder()
-                .id(backlogItem.getId())
-                .stepName(backlogItem.getStepName())
-                .status(backlogItem.getStatus())
-                .orderIndex(backlogItem.getOrderIndex())
-                .progress(progress)
+                .id(backlogItemId)
+                .stepName(snapshot.steps().get(index))
+                .status(state.status(index))
+                .orderIndex(index)
+                .progress(state.progress(snapshot.steps().size()))
+                .version(version)
                 .build();
     }
-
-    /**
-     * 소유권 검증
-     */
-    private void validateOwnership(Long miniatureId, Long userId) {
-        Miniature miniature = miniatureRepository.findById(miniatureId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.MINIATURE_NOT_FOUND));
-
-        if (!miniature.getUserId().equals(userId)) {
-            log.warn("백로그 항목 접근 권한 없음: miniatureId={}, ownerId={}, requesterId={}",
-                    miniatureId, miniature.getUserId(), userId);
-            throw new BusinessException(ErrorCode.MINIATURE_ACCESS_DENIED);
-        }
-    }
-
-    /**
-     * 진행률 계산 (DONE 개수 / 전체 개수 * 100)
-     */
-    private int calculateProgress(Long miniatureId) {
-        long total = backlogItemRepository.countByMiniatureId(miniatureId);
-        if (total == 0) {
-            return 0;
-        }
-        long done = backlogItemRepository.countByMiniatureIdAndStatus(
-                miniatureId, BacklogItemStatus.DONE);
-        return (int) Math.round((double) done / total * 100);
-    }
 }
@@ -0,0 +1,36 @@
+package com.rlaqjant.miniature_backlog_api.backlogitem.service;
+
+import com.rlaqjant.miniature_backlog_api.backlogitem.domain.StepTemplate;
+import com.rlaqjant.miniature_backlog_api.backlogitem.repository.StepTemplateRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 단계 템플릿 조회
+ * 템플릿은 생성 후 변경되지 않으므로 ID → 단계 목록을 인메모리에 계속 보관
+ * 템플릿 ID null = 기본 단계 (StepTemplate.DEFAULT_STEP_NAMES)
+ * 기본 외 템플릿은 기존 백로그 항목 이전(db/miniatures_step_bitmask.sql)에서만 생성됨
+ */
+@Component
+@RequiredArgsConstructor
+public class StepTemplateRegistry {
+
+    private final StepTemplateRepository stepTemplateRepository;
+    private final Map<Long, List<String>> stepsById = new ConcurrentHashMap<>();
+
+    /**
+     * 템플릿 ID → 단계 이름 목록
+     */
+    public List<String> getSteps(Long templateId) {
+        if (templateId == null) {
+            return StepTemplate.DEFAULT_STEP_NAMES;
+        }
+        return stepsById.computeIfAbsent(templateId, id -> stepTemplateRepository.findById(id)
+                .map(StepTemplate::getStepNames)
+                .orElseThrow(() -> new IllegalStateException("단계 템플릿 없음: id=" + id)));
+    }
+}
@@ -0,0 +1,154 @@
+package com.rlaqjant.miniature_backlog_api.common.bulkhead;
+
+import com.rlaqjant.miniature_backlog_api.common.exception.BusinessException;
+import com.rlaqjant.miniature_backlog_api.common.exception.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 외부 의존성별 격리 실행기 (bulkhead)
+ * 의존성마다 이름 붙은 고정 크기 스레드 풀과 대기 한도를 두어, 한 의존성이 느려져도 요청 스레드 전체가 묶이지 않게 함
+ * 실행 중 + 대기 중 작업 수가 maxConcurrent + queueCapacity에 도달하면 maxWait만큼만 기다린 뒤 즉시 거부
+ * 지표: bulkhead.active / bulkhead.queued / bulkhead.rejected / bulkhead.timeouts {name}
+ */
+@Slf4j
+public class Bulkhead {
+
+    private final String name;
+    private final ThreadPoolExecutor executor;
+    private final Semaphore admission;
+    private final long maxWaitMillis;
+
+    private final AtomicInteger active = new AtomicInteger();
+    private final Counter rejected;
+    private final Counter timeouts;
+
+    public Bulkhead(String name, int maxConcurrent, int queueCapacity, Duration maxWait, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.maxWaitMillis = maxWait.toMillis();
+        // 큐 자체는 무제한이지만 admission 세마포어로 실행 + 대기 수를 제한
+        this.admission = new Semaphore(maxConcurrent + queueCapacity);
+        this.executor = new ThreadPoolExecutor(
+                maxConcurrent, maxConcurrent, 60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(),
+                new CustomizableThreadFactory(name + "-"));
+        this.executor.allowCoreThreadTimeOut(true);
+
+        this.rejected = Counter.builder("bulkhead.rejected").tag("name", name).register(meterRegistry);
+        this.timeouts = Counter.builder("bulkhead.timeouts").tag("name", name).register(meterRegistry);
+        Gauge.builder("bulkhead.active", active, AtomicInteger::get).tag("name", name).register(meterRegistry);
+        Gauge.builder("bulkhead.queued", executor, e -> e.getQueue().size()).tag("name", name).register(meterRegistry);
+        Gauge.builder("bulkhead.max", () -> maxConcurrent + queueCapacity).tag("name", name).register(meterRegistry);
+    }
+
+    /**
+     * 격리 풀에서 실행하고 결과를 기다림
+     * @throws BusinessException 포화 또는 timeout 초과 시 (SERVICE_UNAVAILABLE), 작업이 던진 RuntimeException은 그대로 전파
+     */
+    public <T> T call(Supplier<T> task, Duration timeout) {
+        if (!acquire()) {
+            throw new BusinessException(ErrorCode.SERVICE_UNAVAILABLE);
+        }
+        AtomicBoolean started = new AtomicBoolean();
+        Future<T> future = executor.submit(() -> runAdmitted(task, started));
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            // 아직 시작 전이었다면 작업이 실행되지 않으므로 여기서 반환
+            if (started.compareAndSet(false, true)) {
+                admission.release();
+            }
+            timeouts.increment();
+            log.warn("{} 호출 시간 초과: timeoutMs={}", name, timeout.toMillis());
+            throw new BusinessException(ErrorCode.SERVICE_UNAVAILABLE);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new BusinessException(ErrorCode.SERVICE_UNAVAILABLE);
+        }
+    }
+
+    /**
+     * 격리 풀에서 비동기 실행 (포화 시 SERVICE_UNAVAILABLE로 실패한 future)
+     */
+    public <T> CompletableFuture<T> submit(Supplier<T> task) {
+        if (!acquire()) {
+            return CompletableFuture.failedFuture(new BusinessException(ErrorCode.SERVICE_UNAVAILABLE));
+        }
+        AtomicBoolean started = new AtomicBoolean();
+        return CompletableFuture.supplyAsync(() -> runAdmitted(task, started), executor);
+    }
+
+    /**
+     * 결과가 필요 없는 작업 실행
+     * @return 포화로 실행하지 못한 경우 false (호출 측에서 생략/폴백)
+     */
+    public boolean tryExecute(Runnable task) {
+        if (!acquire()) {
+            return false;
+        }
+        AtomicBoolean started = new AtomicBoolean();
+        executor.execute(() -> runAdmitted(() -> {
+            task.run();
+            return null;
+        }, started));
+        return true;
+    }
+
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private boolean acquire() {
+        boolean acquired;
+        try {
+            acquired = maxWaitMillis > 0
+                    ? admission.tryAcquire(maxWaitMillis, TimeUnit.MILLISECONDS)
+                    : admission.tryAcquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        if (!acquired) {
+            rejected.increment();
+            log.warn("{} 격리 풀 포화로 거부", name);
+        }
+        return acquired;
+    }
+
+    private <T> T runAdmitted(Supplier<T> task, AtomicBoolean started) {
+        if (!started.compareAndSet(false, true)) {
+            // 대기 중 호출 측에서 시간 초과로 포기한 작업
+            return null;
+        }
+        active.incrementAndGet();
+        try {
+            return task.get();
+        } finally {
+            active.decrementAndGet();
+            admission.release();
+        }
+    }
+}
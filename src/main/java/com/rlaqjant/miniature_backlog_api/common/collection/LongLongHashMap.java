@@ -0,0 +1,188 @@
+package com.rlaqjant.miniature_backlog_api.common.collection;
+
+import java.util.Arrays;
+
+/**
+ * long → long 오픈 어드레싱 해시 맵 (선형 탐사)
+ * 키/값을 원시 배열에 그대로 저장해 Long 박싱과 엔트리 객체 할당이 없음
+ * 키 0은 빈 슬롯 표식으로 사용하므로 양수 키(엔티티 ID)만 허용
+ * 스레드 안전하지 않음 (호출 측에서 동기화)
+ */
+public class LongLongHashMap {
+
+    private static final long EMPTY_KEY = 0L;
+    private static final float LOAD_FACTOR = 0.5f;
+    private static final int MIN_CAPACITY = 16;
+
+    private long[] keys;
+    private long[] values;
+    private int mask;
+    private int size;
+    private int resizeThreshold;
+
+    public LongLongHashMap(int expectedSize) {
+        allocate(tableSizeFor((int) Math.ceil(Math.max(expectedSize, 1) / LOAD_FACTOR)));
+    }
+
+    /**
+     * 값 조회
+     * @return 키가 없으면 missingValue
+     */
+    public long get(long key, long missingValue) {
+        checkKey(key);
+        int slot = slotOf(key);
+        while (true) {
+            long current = keys[slot];
+            if (current == key) {
+                return values[slot];
+            }
+            if (current == EMPTY_KEY) {
+                return missingValue;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    public boolean containsKey(long key) {
+        checkKey(key);
+        int slot = slotOf(key);
+        while (true) {
+            long current = keys[slot];
+            if (current == key) {
+                return true;
+            }
+            if (current == EMPTY_KEY) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    /**
+     * 저장 (기존 값 덮어쓰기)
+     */
+    public void put(long key, long value) {
+        checkKey(key);
+        int slot = slotOf(key);
+        while (true) {
+            long current = keys[slot];
+            if (current == key) {
+                values[slot] = value;
+                return;
+            }
+            if (current == EMPTY_KEY) {
+                keys[slot] = key;
+                values[slot] = value;
+                if (++size > resizeThreshold) {
+                    rehash(keys.length << 1);
+                }
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    /**
+     * 삭제
+     * 툼스톤 대신 뒤따르는 클러스터를 앞으로 당겨(backward shift) 탐사 길이 유지
+     * @return 삭제되었으면 true
+     */
+    public boolean remove(long key) {
+        checkKey(key);
+        int slot = slotOf(key);
+        while (true) {
+            long current = keys[slot];
+            if (current == EMPTY_KEY) {
+                return false;
+            }
+            if (current == key) {
+                break;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        int hole = slot;
+        int next = (hole + 1) & mask;
+        while (keys[next] != EMPTY_KEY) {
+            int home = slotOf(keys[next]);
+            // home이 (hole, next] 순환 구간 밖이면 hole로 옮겨도 탐사 경로가 끊기지 않음
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                keys[hole] = keys[next];
+                values[hole] = values[next];
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+        keys[hole] = EMPTY_KEY;
+        values[hole] = 0L;
+        size--;
+        return true;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * 전체 삭제 (배열 재사용)
+     */
+    public void clear() {
+        Arrays.fill(keys, EMPTY_KEY);
+        Arrays.fill(values, 0L);
+        size = 0;
+    }
+
+    private void rehash(int newCapacity) {
+        long[] oldKeys = keys;
+        long[] oldValues = values;
+        allocate(newCapacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            long key = oldKeys[i];
+            if (key != EMPTY_KEY) {
+                int slot = slotOf(key);
+                while (keys[slot] != EMPTY_KEY) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = key;
+                values[slot] = oldValues[i];
+                size++;
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new long[capacity];
+        mask = capacity - 1;
+        size = 0;
+        resizeThreshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    /**
+     * 연속된 ID가 인접 슬롯에 몰리지 않도록 비트 혼합 (MurmurHash3 fmix64)
+     */
+    private int slotOf(long key) {
+        long h = key;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return (int) h & mask;
+    }
+
+    private static void checkKey(long key) {
+        if (key == EMPTY_KEY) {
+            throw new IllegalArgumentException("키 0은 사용할 수 없습니다.");
+        }
+    }
+
+    private static int tableSizeFor(int capacity) {
+        int n = Math.max(MIN_CAPACITY, capacity);
+        return n > (1 << 30) ? (1 << 30) : Integer.highestOneBit(n - 1) << 1;
+    }
+}
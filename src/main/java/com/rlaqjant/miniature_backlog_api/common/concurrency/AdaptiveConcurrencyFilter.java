@@ -0,0 +1,200 @@
+package com.rlaqjant.miniature_backlog_api.common.concurrency;
+
+import com.rlaqjant.miniature_backlog_api.common.exception.ErrorCode;
+import com.rlaqjant.miniature_backlog_api.security.jwt.JwtCookieUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 적응형 동시 처리 제한 필터 (부하 차단)
+ * 진행 중 요청 수가 지연 시간 기반 한도를 넘으면 DB 풀 대기열에 쌓지 않고 즉시 503 + Retry-After 응답
+ * /health, /admin/**, /actuator/**는 제한 없음 (과부하 중에도 운영 작업 가능, 긴 관리 작업이 지연 표본을 오염시키지 않음)
+ * 우선순위: 인증 쓰기 > 인증 읽기 > 비로그인 /public/** 읽기 (낮을수록 한도의 일부만 사용)
+ * JWT 검증 전에 실행되므로 인증 여부는 토큰 존재만으로 판단
+ */
+@Slf4j
+@Component
+public class AdaptiveConcurrencyFilter extends OncePerRequestFilter {
+
+    private static final String AUTHORIZATION_HEADER = "Authorization";
+
+    enum Priority {
+        WRITE, READ, PUBLIC_READ
+    }
+
+    private final JwtCookieUtil jwtCookieUtil;
+    private final boolean enabled;
+    private final long retryAfterSeconds;
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final Map<Priority, Double> shares = new EnumMap<>(Priority.class);
+    private final Map<Priority, Counter> rejections = new EnumMap<>(Priority.class);
+
+    public AdaptiveConcurrencyFilter(
+            JwtCookieUtil jwtCookieUtil,
+            @Value("${app.concurrency-limit.enabled:true}") boolean enabled,
+            @Value("${app.concurrency-limit.initial-limit:20}") int initialLimit,
+            @Value("${app.concurrency-limit.min-limit:4}") int minLimit,
+            @Value("${app.concurrency-limit.max-limit:200}") int maxLimit,
+            @Value("${app.concurrency-limit.rtt-tolerance:1.5}") double rttTolerance,
+            @Value("${app.concurrency-limit.read-share:0.9}") double readShare,
+            @Value("${app.concurrency-limit.public-read-share:0.7}") double publicReadShare,
+            @Value("${app.concurrency-limit.retry-after-seconds:1}") long retryAfterSeconds,
+            MeterRegistry meterRegistry) {
+        this.jwtCookieUtil = jwtCookieUtil;
+        this.enabled = enabled;
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.limiter = new AdaptiveConcurrencyLimiter(initialLimit, minLimit, maxLimit, rttTolerance);
+
+        shares.put(Priority.WRITE, 1.0);
+        shares.put(Priority.READ, readShare);
+        shares.put(Priority.PUBLIC_READ, publicReadShare);
+        for (Priority priority : Priority.values()) {
+            rejections.put(priority, Counter.builder("http.server.concurrency.rejected")
+                    .tag("priority", priority.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+        Gauge.builder("http.server.concurrency.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+                .register(meterRegistry);
+        Gauge.builder("http.server.concurrency.inflight", limiter, AdaptiveConcurrencyLimiter::getInflight)
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        return !enabled
+                || "/health".equals(uri)
+                || uri.startsWith("/admin/")
+                || uri.startsWith("/actuator/")
+                || HttpMethod.OPTIONS.matches(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        Priority priority = priorityOf(request);
+        if (!limiter.tryAcquire(shares.get(priority))) {
+            rejections.get(priority).increment();
+            log.debug("동시 처리 한도 초과로 거부: uri={}, priority={}, limit={}",
+                    request.getRequestURI(), priority, limiter.getLimit());
+            reject(response);
+            return;
+        }
+
+        int inflightAtStart = limiter.getInflight();
+        long start = System.nanoTime();
+        boolean completed = false;
+        try {
+            filterChain.doFilter(request, response);
+            completed = true;
+        } finally {
+            if (completed && request.isAsyncStarted()) {
+                // 비동기 처리는 실제 완료 시점에 반환
+                request.getAsyncContext().addListener(new ReleaseOnComplete(start, inflightAtStart));
+            } else if (completed) {
+                limiter.release(System.nanoTime() - start, inflightAtStart);
+            } else {
+                // 예외로 빨리 끝난 요청은 지연 표본에서 제외
+                limiter.release();
+            }
+        }
+    }
+
+    private Priority priorityOf(HttpServletRequest request) {
+        boolean hasToken = StringUtils.hasText(jwtCookieUtil.getTokenFromCookies(request))
+                || StringUtils.hasText(request.getHeader(AUTHORIZATION_HEADER));
+        boolean read = HttpMethod.GET.matches(request.getMethod()) || HttpMethod.HEAD.matches(request.getMethod());
+        if (!read) {
+            return hasToken ? Priority.WRITE : Priority.READ;
+        }
+        if (!hasToken && request.getRequestURI().startsWith("/public/")) {
+            return Priority.PUBLIC_READ;
+        }
+        return Priority.READ;
+    }
+
+    private void reject(HttpServletResponse response) throws IOException {
+        ErrorCode errorCode = ErrorCode.SERVICE_UNAVAILABLE;
+
+        response.setStatus(errorCode.getHttpStatus().value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+
+        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+        String jsonResponse = String.format(
+                "{\"success\":false,\"error\":{\"code\":\"%s\",\"message\":\"%s\"},\"timestamp\":\"%s\"}",
+                errorCode.getCode(),
+                errorCode.getMessage(),
+                timestamp
+        );
+
+        response.getWriter().write(jsonResponse);
+    }
+
+    /**
+     * 비동기 요청 완료/실패/타임아웃 시 한 번만 슬롯 반환
+     */
+    private class ReleaseOnComplete implements AsyncListener {
+
+        private final long start;
+        private final int inflightAtStart;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        ReleaseOnComplete(long start, int inflightAtStart) {
+            this.start = start;
+            this.inflightAtStart = inflightAtStart;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            if (released.compareAndSet(false, true)) {
+                limiter.release(System.nanoTime() - start, inflightAtStart);
+            }
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            if (released.compareAndSet(false, true)) {
+                limiter.release();
+            }
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            if (released.compareAndSet(false, true)) {
+                limiter.release();
+            }
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            // 재시작 시 같은 리스너를 다시 등록해야 완료 이벤트를 받음
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.rlaqjant.miniature_backlog_api.common.concurrency;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 지연 시간 기반 적응형 동시 처리 한도 (gradient 방식)
+ * 최근 응답 시간(단기 평균)이 평소 응답 시간(장기 평균)보다 길어지면 한도를 비율만큼 줄이고,
+ * 비슷하면 sqrt(한도)만큼씩 늘림. 한도를 절반도 쓰지 않는 동안에는 조정하지 않음
+ * 표본 반영은 tryLock에 성공한 스레드만 수행 (경합 중인 표본은 버림, 요청 스레드는 대기하지 않음)
+ * 관리 작업처럼 드물게 매우 긴 요청 하나가 평균을 무너뜨리지 않도록 표본은 장기 평균의 MAX_RTT_MULTIPLE배로 자름
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private static final double SHORT_RTT_ALPHA = 0.1;
+    private static final double LONG_RTT_ALPHA = 0.002;
+    private static final double MIN_GRADIENT = 0.5;
+    private static final double SMOOTHING = 0.2;
+    private static final double MAX_RTT_MULTIPLE = 10.0;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double rttTolerance;
+
+    private final AtomicInteger inflight = new AtomicInteger();
+    private volatile double limit;
+
+    // onSample에서 sampleLock을 잡은 동안에만 갱신
+    private final ReentrantLock sampleLock = new ReentrantLock();
+    private double shortRttNanos = 0;
+    private double longRttNanos = 0;
+
+    /**
+     * @param rttTolerance 장기 평균 대비 허용 지연 배수 (1.5면 평소보다 50% 느려질 때부터 축소)
+     */
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, double rttTolerance) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.rttTolerance = rttTolerance;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+    }
+
+    /**
+     * 처리 슬롯 획득 시도
+     * @param share 이 요청이 사용할 수 있는 한도 비율 (우선순위가 낮을수록 작게)
+     * @return 획득 시 true (처리 후 반드시 release 호출)
+     */
+    public boolean tryAcquire(double share) {
+        int allowed = Math.max(1, (int) (limit * share));
+        while (true) {
+            int current = inflight.get();
+            if (current >= allowed) {
+                return false;
+            }
+            if (inflight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 슬롯 반환 (지연 표본 없이)
+     */
+    public void release() {
+        inflight.decrementAndGet();
+    }
+
+    /**
+     * 슬롯 반환 + 지연 표본 반영
+     * @param inflightAtStart 획득 직후의 동시 처리 수
+     */
+    public void release(long rttNanos, int inflightAtStart) {
+        inflight.decrementAndGet();
+        onSample(rttNanos, inflightAtStart);
+    }
+
+    private void onSample(long rttNanos, int inflightAtStart) {
+        if (!sampleLock.tryLock()) {
+            return;
+        }
+        try {
+            updateLimit(rttNanos, inflightAtStart);
+        } finally {
+            sampleLock.unlock();
+        }
+    }
+
+    private void updateLimit(long rttNanos, int inflightAtStart) {
+        if (shortRttNanos == 0) {
+            shortRttNanos = rttNanos;
+            longRttNanos = rttNanos;
+            return;
+        }
+        double sample = Math.min(rttNanos, longRttNanos * MAX_RTT_MULTIPLE);
+        shortRttNanos += (sample - shortRttNanos) * SHORT_RTT_ALPHA;
+        longRttNanos += (shortRttNanos - longRttNanos) * LONG_RTT_ALPHA;
+        // 부하가 빠진 뒤 장기 평균이 과거의 높은 값에 머물지 않도록 빠르게 낮춤
+        if (longRttNanos > shortRttNanos * 2) {
+            longRttNanos *= 0.95;
+        }
+
+        double current = limit;
+        if (inflightAtStart < current / 2) {
+            return;
+        }
+        double gradient = Math.max(MIN_GRADIENT, Math.min(1.0, rttTolerance * longRttNanos / shortRttNanos));
+        double target = current * gradient + Math.sqrt(current);
+        double next = current * (1 - SMOOTHING) + target * SMOOTHING;
+        limit = Math.max(minLimit, Math.min(maxLimit, next));
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInflight() {
+        return inflight.get();
+    }
+}
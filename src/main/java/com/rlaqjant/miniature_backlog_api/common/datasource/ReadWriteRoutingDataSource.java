@@ -0,0 +1,86 @@
+package com.rlaqjant.miniature_backlog_api.common.datasource;
+
+import com.rlaqjant.miniature_backlog_api.common.transaction.TransactionCallbacks;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 읽기/쓰기 라우팅 DataSource
+ * 읽기 전용 트랜잭션(@Transactional(readOnly = true))은 복제본, 그 외는 주 DB로 연결
+ * 단, 복제 지연이 허용치를 넘었거나 요청 사용자가 최근에 쓰기를 했으면 읽기도 주 DB 사용
+ * 트랜잭션 속성이 정해진 뒤 연결을 고르도록 LazyConnectionDataSourceProxy로 감싸서 사용
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY = "primary";
+    public static final String REPLICA = "replica";
+
+    private final ReplicaLagMonitor lagMonitor;
+    private final ReadYourWritesTracker writesTracker;
+    private final Supplier<Long> currentUserId;
+
+    private final Counter replicaReads;
+    private final Counter primaryReadsLagging;
+    private final Counter primaryReadsSticky;
+    private final Counter primaryWrites;
+
+    public ReadWriteRoutingDataSource(
+            DataSource primary,
+            DataSource replica,
+            ReplicaLagMonitor lagMonitor,
+            ReadYourWritesTracker writesTracker,
+            Supplier<Long> currentUserId,
+            MeterRegistry meterRegistry) {
+        this.lagMonitor = lagMonitor;
+        this.writesTracker = writesTracker;
+        this.currentUserId = currentUserId;
+        setTargetDataSources(Map.of(PRIMARY, primary, REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+
+        this.replicaReads = routingCounter(meterRegistry, REPLICA, "read-only");
+        this.primaryReadsLagging = routingCounter(meterRegistry, PRIMARY, "replica-lag");
+        this.primaryReadsSticky = routingCounter(meterRegistry, PRIMARY, "read-your-writes");
+        this.primaryWrites = routingCounter(meterRegistry, PRIMARY, "write");
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            // 트랜잭션 밖 접근 (스키마 검증, 지연 로딩 등)은 주 DB
+            return PRIMARY;
+        }
+
+        Long userId = currentUserId.get();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            primaryWrites.increment();
+            if (userId != null) {
+                TransactionCallbacks.afterCommit(() -> writesTracker.markWrite(userId));
+            }
+            return PRIMARY;
+        }
+        if (writesTracker.isSticky(userId)) {
+            primaryReadsSticky.increment();
+            return PRIMARY;
+        }
+        if (!lagMonitor.isReplicaUsable()) {
+            primaryReadsLagging.increment();
+            return PRIMARY;
+        }
+        replicaReads.increment();
+        return REPLICA;
+    }
+
+    private static Counter routingCounter(MeterRegistry meterRegistry, String target, String reason) {
+        return Counter.builder("datasource.routing")
+                .tag("target", target)
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,64 @@
+package com.rlaqjant.miniature_backlog_api.common.datasource;
+
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자별 최근 쓰기 시각 추적 (read-your-writes)
+ * 쓰기 커밋 후 일정 시간 동안 해당 사용자의 읽기를 주 DB로 고정하여
+ * 복제 지연 때문에 방금 생성/수정한 데이터가 목록에서 빠지는 현상을 방지
+ */
+public class ReadYourWritesTracker {
+
+    private final long windowNanos;
+    // userId → 고정 해제 시각 (System.nanoTime 기준)
+    private final Map<Long, Long> stickyUntil = new ConcurrentHashMap<>();
+
+    public ReadYourWritesTracker(Duration window) {
+        this.windowNanos = window.toNanos();
+    }
+
+    /**
+     * 쓰기 커밋 기록
+     */
+    public void markWrite(Long userId) {
+        if (userId == null || windowNanos <= 0) {
+            return;
+        }
+        stickyUntil.put(userId, System.nanoTime() + windowNanos);
+    }
+
+    /**
+     * 주 DB 고정 구간 내인지 여부
+     */
+    public boolean isSticky(Long userId) {
+        if (userId == null) {
+            return false;
+        }
+        Long until = stickyUntil.get(userId);
+        if (until == null) {
+            return false;
+        }
+        if (until - System.nanoTime() > 0) {
+            return true;
+        }
+        stickyUntil.remove(userId, until);
+        return false;
+    }
+
+    /**
+     * 만료 항목 정리
+     */
+    @Scheduled(fixedDelayString = "${app.datasource.replica.read-your-writes-purge-interval-ms:60000}")
+    public void purgeExpired() {
+        long now = System.nanoTime();
+        stickyUntil.entrySet().removeIf(entry -> entry.getValue() - now <= 0);
+    }
+
+    public int size() {
+        return stickyUntil.size();
+    }
+}
@@ -0,0 +1,67 @@
+package com.rlaqjant.miniature_backlog_api.common.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * 읽기 복제본 지연 감시
+ * 주기적으로 지연(ms)을 조회하여 허용치를 넘거나 조회에 실패하면 읽기를 주 DB로 보냄
+ * 첫 확인 전에는 복제본을 사용하지 않음
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final String lagQuery;
+    private final long maxLagMillis;
+
+    // 조회 실패/미확인 시 -1
+    private volatile long lagMillis = -1L;
+
+    public ReplicaLagMonitor(DataSource replica, String lagQuery, Duration maxLag) {
+        this.replicaJdbcTemplate = new JdbcTemplate(replica);
+        this.replicaJdbcTemplate.setQueryTimeout(2);
+        this.lagQuery = lagQuery;
+        this.maxLagMillis = maxLag.toMillis();
+    }
+
+    /**
+     * 복제 지연 재측정
+     */
+    @Scheduled(fixedDelayString = "${app.datasource.replica.lag-check-interval-ms:1000}")
+    public void refresh() {
+        long previous = lagMillis;
+        try {
+            Number lag = replicaJdbcTemplate.queryForObject(lagQuery, Number.class);
+            lagMillis = lag != null ? Math.max(0L, lag.longValue()) : 0L;
+        } catch (RuntimeException e) {
+            lagMillis = -1L;
+            if (previous >= 0) {
+                log.warn("읽기 복제본 지연 조회 실패, 주 DB로 전환: {}", e.getMessage());
+            }
+            return;
+        }
+        if (previous >= 0 && previous <= maxLagMillis && lagMillis > maxLagMillis) {
+            log.warn("읽기 복제본 지연 허용치 초과, 주 DB로 전환: lagMs={}, maxLagMs={}", lagMillis, maxLagMillis);
+        }
+    }
+
+    /**
+     * 복제본으로 읽어도 되는지 여부
+     */
+    public boolean isReplicaUsable() {
+        long lag = lagMillis;
+        return lag >= 0 && lag <= maxLagMillis;
+    }
+
+    /**
+     * 마지막 측정 지연 (ms, 미확인 시 -1)
+     */
+    public long getLagMillis() {
+        return lagMillis;
+    }
+}
@@ -83,6 +83,21 @@ public class ApiResponse<T> {
                 .build();
     }
 
+    /**
+     * 실패 응답 (현재 상태 데이터 포함, 예: 409 충돌 시 최신 상태)
+     */
+    public static <T> ApiResponse<T> errorWithData(String code, String message, T data) {
+        return ApiResponse.<T>builder()
+                .success(false)
+                .data(data)
+                .error(ErrorDetail.builder()
+                        .code(code)
+                        .message(message)
+                        .build())
+                .timestamp(LocalDateTime.now())
+                .build();
+    }
+
     /**
      * 에러 상세 정보
      */
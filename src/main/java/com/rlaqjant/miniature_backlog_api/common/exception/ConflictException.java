@@ -0,0 +1,18 @@
+package com.rlaqjant.miniature_backlog_api.common.exception;
+
+import lombok.Getter;
+
+/**
+ * 동시 변경 충돌 예외 (409)
+ * 응답 data에 충돌 시점의 최신 상태를 담아 클라이언트가 재조회 없이 화면을 갱신
+ */
+@Getter
+public class ConflictException extends BusinessException {
+
+    private final transient Object currentState;
+
+    public ConflictException(ErrorCode errorCode, Object currentState) {
+        super(errorCode);
+        this.currentState = currentState;
+    }
+}
@@ -16,6 +16,8 @@ public enum ErrorCode {
     INVALID_INPUT_VALUE("E1001", "입력값이 올바르지 않습니다.", HttpStatus.BAD_REQUEST),
     METHOD_NOT_ALLOWED("E1002", "지원하지 않는 HTTP 메서드입니다.", HttpStatus.METHOD_NOT_ALLOWED),
     RESOURCE_NOT_FOUND("E1003", "요청한 리소스를 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
+    TOO_MANY_REQUESTS("E1004", "요청이 너무 많습니다. 잠시 후 다시 시도해주세요.", HttpStatus.TOO_MANY_REQUESTS),
+    SERVICE_UNAVAILABLE("E1005", "일시적으로 서비스를 이용할 수 없습니다. 잠시 후 다시 시도해주세요.", HttpStatus.SERVICE_UNAVAILABLE),
 
     // 인증/인가 에러 (2xxx)
     UNAUTHORIZED("E2000", "인증이 필요합니다.", HttpStatus.UNAUTHORIZED),
@@ -36,6 +38,7 @@ public enum ErrorCode {
     // 미니어처 에러 (4xxx)
     MINIATURE_NOT_FOUND("E4000", "미니어처를 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
     MINIATURE_ACCESS_DENIED("E4001", "해당 미니어처에 접근 권한이 없습니다.", HttpStatus.FORBIDDEN),
+    MINIATURE_VERSION_CONFLICT("E4002", "다른 곳에서 미니어처가 먼저 변경되었습니다. 최신 상태를 확인 후 다시 시도해주세요.", HttpStatus.CONFLICT),
 
     // 백로그 아이템 에러 (5xxx)
     BACKLOG_ITEM_NOT_FOUND("E5000", "백로그 항목을 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
@@ -47,6 +50,7 @@ public enum ErrorCode {
     // 이미지 에러 (7xxx)
     IMAGE_NOT_FOUND("E7000", "이미지를 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
     IMAGE_UPLOAD_FAILED("E7001", "이미지 업로드에 실패했습니다.", HttpStatus.INTERNAL_SERVER_ERROR),
+    ORPHAN_IMAGE_GC_IN_PROGRESS("E7002", "고아 이미지 정리 작업이 이미 실행 중입니다.", HttpStatus.CONFLICT),
 
     // 좋아요 에러 (8xxx)
     LIKE_NOT_PUBLIC_MINIATURE("E8000", "공개되지 않은 미니어처에는 좋아요할 수 없습니다.", HttpStatus.BAD_REQUEST);
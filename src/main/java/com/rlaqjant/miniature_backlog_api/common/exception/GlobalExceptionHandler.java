@@ -3,6 +3,7 @@ package com.rlaqjant.miniature_backlog_api.common.exception;
 import com.rlaqjant.miniature_backlog_api.common.dto.ApiResponse;
 import jakarta.validation.ConstraintViolationException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -39,6 +40,39 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(errorCode.getHttpStatus()).body(response);
     }
 
+    /**
+     * 충돌 예외 처리 (409 + 최신 상태를 data로 반환, 클라이언트는 재조회 없이 갱신)
+     */
+    @ExceptionHandler(ConflictException.class)
+    public ResponseEntity<ApiResponse<Object>> handleConflictException(ConflictException e) {
+        log.info("ConflictException: {}", e.getErrorCode().getCode());
+
+        ErrorCode errorCode = e.getErrorCode();
+        ApiResponse<Object> response = ApiResponse.errorWithData(
+                errorCode.getCode(),
+                errorCode.getMessage(),
+                e.getCurrentState()
+        );
+
+        return ResponseEntity.status(errorCode.getHttpStatus()).body(response);
+    }
+
+    /**
+     * 엔티티 @Version 충돌 예외 처리 (변경 감지 flush 시점)
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ApiResponse<Void>> handleOptimisticLockingFailure(OptimisticLockingFailureException e) {
+        log.info("Optimistic locking failure: {}", e.getMessage());
+
+        ErrorCode errorCode = ErrorCode.MINIATURE_VERSION_CONFLICT;
+        ApiResponse<Void> response = ApiResponse.error(
+                errorCode.getCode(),
+                errorCode.getMessage()
+        );
+
+        return ResponseEntity.status(errorCode.getHttpStatus()).body(response);
+    }
+
     /**
      * 유효성 검증 실패 예외 처리 (@Valid)
      */
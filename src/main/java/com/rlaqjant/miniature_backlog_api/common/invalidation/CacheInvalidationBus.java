@@ -0,0 +1,244 @@
+package com.rlaqjant.miniature_backlog_api.common.invalidation;
+
+import com.rlaqjant.miniature_backlog_api.common.transaction.TransactionCallbacks;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * 인스턴스 간 캐시 무효화 버스 (PostgreSQL LISTEN/NOTIFY)
+ * 커밋 후 "노드ID|순번|엔티티|ID" 형식의 짧은 메시지를 NOTIFY로 발행하고,
+ * 전용 연결에서 LISTEN 하여 다른 노드의 메시지를 CacheInvalidationEvent로 로컬 전파
+ * NOTIFY는 발행 전용 스레드에서 보냄: 커밋 직후 요청 스레드에는 끝난 트랜잭션의 연결(autocommit off)이
+ * 아직 바인딩되어 있어 그 연결로 보내면 커밋되지 않고 반납 시 롤백됨
+ * 노드별 순번이 건너뛰거나 (재)구독한 경우 놓친 메시지가 있을 수 있으므로 전체 비우기 이벤트 발행
+ */
+@Slf4j
+@Component
+public class CacheInvalidationBus {
+
+    private static final Pattern CHANNEL_PATTERN = Pattern.compile("[a-z_][a-z0-9_]{0,62}");
+    private static final long MIN_BACKOFF_MILLIS = 1_000L;
+    private static final long MAX_BACKOFF_MILLIS = 30_000L;
+    private static final long KEEPALIVE_NANOS = TimeUnit.SECONDS.toNanos(30);
+    private static final long PUBLISH_DRAIN_SECONDS = 5;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean enabled;
+    private final String channel;
+    private final String listenUrl;
+    private final String username;
+    private final String password;
+    private final int pollTimeoutMillis;
+
+    // 프로세스마다 새로 생성: 재시작한 노드는 새 순번 흐름으로 취급
+    private final String nodeId = UUID.randomUUID().toString().substring(0, 8);
+    private final AtomicLong sequence = new AtomicLong();
+    // 리스너 스레드 전용 (노드별 마지막 수신 순번)
+    private final Map<String, Long> lastSequenceByNode = new HashMap<>();
+    private final ExecutorService listenerExecutor;
+    // 단일 스레드: 순번 부여와 전송 순서가 같도록 유지, 트랜잭션이 바인딩되지 않아 매번 autocommit 연결 사용
+    private final ExecutorService publishExecutor;
+    private volatile boolean running = false;
+
+    private final Counter published;
+    private final Counter publishFailures;
+    private final Counter received;
+    private final MeterRegistry meterRegistry;
+
+    public CacheInvalidationBus(
+            JdbcTemplate jdbcTemplate,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${app.invalidation.enabled:false}") boolean enabled,
+            @Value("${app.invalidation.channel:cache_invalidation}") String channel,
+            @Value("${app.invalidation.listen-url:${spring.datasource.url}}") String listenUrl,
+            @Value("${spring.datasource.username:}") String username,
+            @Value("${spring.datasource.password:}") String password,
+            @Value("${app.invalidation.poll-timeout-ms:1000}") int pollTimeoutMillis,
+            MeterRegistry meterRegistry) {
+        if (!CHANNEL_PATTERN.matcher(channel).matches()) {
+            throw new IllegalArgumentException("app.invalidation.channel은 소문자 식별자여야 합니다: " + channel);
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.eventPublisher = eventPublisher;
+        this.enabled = enabled;
+        this.channel = channel;
+        this.listenUrl = listenUrl;
+        this.username = username;
+        this.password = password;
+        this.pollTimeoutMillis = pollTimeoutMillis;
+        this.meterRegistry = meterRegistry;
+        this.listenerExecutor = enabled
+                ? Executors.newSingleThreadExecutor(new CustomizableThreadFactory("cache-invalidation-"))
+                : null;
+        this.publishExecutor = enabled
+                ? Executors.newSingleThreadExecutor(new CustomizableThreadFactory("cache-invalidation-publish-"))
+                : null;
+
+        this.published = Counter.builder("cache.invalidation.published").register(meterRegistry);
+        this.publishFailures = Counter.builder("cache.invalidation.publish.failures").register(meterRegistry);
+        this.received = Counter.builder("cache.invalidation.received").register(meterRegistry);
+    }
+
+    /**
+     * 기동 완료 후 리스너 시작
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        listenerExecutor.submit(this::listenLoop);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        if (listenerExecutor != null) {
+            listenerExecutor.shutdownNow();
+        }
+        if (publishExecutor != null) {
+            // 대기 중인 무효화는 가능한 한 내보낸 뒤 종료
+            publishExecutor.shutdown();
+            try {
+                publishExecutor.awaitTermination(PUBLISH_DRAIN_SECONDS, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * 무효화 메시지 발행 (커밋 후 발행 스레드에서 전송, 비활성화 시 무시)
+     */
+    public void publishAfterCommit(String entity, Long id) {
+        if (!enabled) {
+            return;
+        }
+        TransactionCallbacks.afterCommit(() -> {
+            try {
+                publishExecutor.execute(() -> publish(entity, id));
+            } catch (RejectedExecutionException e) {
+                publishFailures.increment();
+                log.warn("캐시 무효화 발행 생략 (종료 중): entity={}, id={}", entity, id);
+            }
+        });
+    }
+
+    // 발행 스레드에서만 호출
+    private void publish(String entity, Long id) {
+        // 전송 실패 시에도 순번은 소비되어 수신 측에서 건너뜀으로 감지 → 전체 비우기
+        String payload = nodeId + "|" + sequence.incrementAndGet() + "|" + entity + "|" + id;
+        try {
+            jdbcTemplate.query("SELECT pg_notify(?, ?)", rs -> { }, channel, payload);
+            published.increment();
+        } catch (RuntimeException e) {
+            publishFailures.increment();
+            log.warn("캐시 무효화 발행 실패: entity={}, id={}, error={}", entity, id, e.getMessage());
+        }
+    }
+
+    private void listenLoop() {
+        long backoffMillis = MIN_BACKOFF_MILLIS;
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(listenUrl, username, password)) {
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + channel);
+                }
+                log.info("캐시 무효화 채널 구독: channel={}, nodeId={}", channel, nodeId);
+                // 구독 전(또는 연결이 끊긴 동안)의 메시지는 받을 수 없으므로 전체 비우기
+                lastSequenceByNode.clear();
+                flushAll("subscribe");
+                backoffMillis = MIN_BACKOFF_MILLIS;
+
+                long lastActivity = System.nanoTime();
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(pollTimeoutMillis);
+                    if (notifications != null && notifications.length > 0) {
+                        for (PGNotification notification : notifications) {
+                            handle(notification.getParameter());
+                        }
+                        lastActivity = System.nanoTime();
+                    } else if (System.nanoTime() - lastActivity > KEEPALIVE_NANOS) {
+                        // 유휴 연결이 조용히 끊긴 경우를 감지하기 위한 왕복
+                        try (Statement statement = connection.createStatement()) {
+                            statement.execute("SELECT 1");
+                        }
+                        lastActivity = System.nanoTime();
+                    }
+                }
+            } catch (SQLException | RuntimeException e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("캐시 무효화 리스너 오류, 재연결 대기: backoffMs={}, error={}", backoffMillis, e.getMessage());
+                try {
+                    Thread.sleep(backoffMillis);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                backoffMillis = Math.min(backoffMillis * 2, MAX_BACKOFF_MILLIS);
+            }
+        }
+    }
+
+    private void handle(String payload) {
+        String[] parts = payload.split("\\|", 4);
+        if (parts.length != 4 || !isNumber(parts[1]) || !isNumber(parts[3])) {
+            log.warn("잘못된 캐시 무효화 메시지 무시: payload={}", payload);
+            return;
+        }
+        String senderNodeId = parts[0];
+        if (nodeId.equals(senderNodeId)) {
+            // 자기 메시지 (로컬 캐시는 커밋 후 이미 갱신됨)
+            return;
+        }
+        received.increment();
+
+        long seq = Long.parseLong(parts[1]);
+        Long lastSeq = lastSequenceByNode.put(senderNodeId, seq);
+        if (lastSeq != null && seq != lastSeq + 1) {
+            log.warn("캐시 무효화 메시지 누락 감지: node={}, expected={}, received={}", senderNodeId, lastSeq + 1, seq);
+            flushAll("gap");
+            return;
+        }
+        eventPublisher.publishEvent(new CacheInvalidationEvent(parts[2], Long.valueOf(parts[3])));
+    }
+
+    private static boolean isNumber(String value) {
+        return !value.isEmpty() && value.length() < 19 && value.chars().allMatch(Character::isDigit);
+    }
+
+    private void flushAll(String reason) {
+        meterRegistry.counter("cache.invalidation.flushes", "reason", reason).increment();
+        eventPublisher.publishEvent(CacheInvalidationEvent.flushAll());
+    }
+}
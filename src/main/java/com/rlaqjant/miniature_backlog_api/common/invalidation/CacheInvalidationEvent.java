@@ -0,0 +1,26 @@
+package com.rlaqjant.miniature_backlog_api.common.invalidation;
+
+/**
+ * 다른 인스턴스에서 수신한 캐시 무효화 이벤트
+ * id가 null이면 전체 비우기 (메시지 유실 가능성이 있을 때)
+ */
+public record CacheInvalidationEvent(String entity, Long id) {
+
+    public static final String MINIATURE = "miniature";
+    public static final String USER = "user";
+
+    public static CacheInvalidationEvent flushAll() {
+        return new CacheInvalidationEvent(null, null);
+    }
+
+    public boolean isFlushAll() {
+        return id == null;
+    }
+
+    /**
+     * 해당 엔티티의 단건 무효화인지 여부
+     */
+    public boolean targets(String entityName) {
+        return id != null && entityName.equals(entity);
+    }
+}
@@ -0,0 +1,190 @@
+package com.rlaqjant.miniature_backlog_api.common.partition;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * progress_logs / images 월 파티션 관리 (PostgreSQL, db/progress_logs_images_partitioning.sql 적용 후)
+ * - 이번 달부터 premake-months 뒤까지 파티션을 미리 생성 (DEFAULT 파티션으로 행이 떨어지지 않도록)
+ * - 보관 모드: archive.after-months보다 오래된 파티션을 분리하여 *_archive 부모에 붙임
+ *   일반 조회/피드는 최근 파티션만 읽고, 보관 파티션은 미니어처 전체 이력 조회 시에만 읽음
+ * 여러 인스턴스가 동시에 실행하지 않도록 advisory lock 사용
+ */
+@Slf4j
+@Component
+public class MonthlyPartitionMaintainer {
+
+    private static final List<String> TABLES = List.of("progress_logs", "images");
+    private static final String ARCHIVE_SUFFIX = "_archive";
+    private static final long ADVISORY_LOCK_KEY = 0x70617274L;
+    private static final DateTimeFormatter MONTH_SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private final int premakeMonths;
+    private final boolean archiveEnabled;
+    private final int archiveAfterMonths;
+
+    public MonthlyPartitionMaintainer(
+            JdbcTemplate jdbcTemplate,
+            @Value("${app.partition.enabled:false}") boolean enabled,
+            @Value("${app.partition.premake-months:3}") int premakeMonths,
+            @Value("${app.partition.archive.enabled:false}") boolean archiveEnabled,
+            @Value("${app.partition.archive.after-months:24}") int archiveAfterMonths) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+        this.premakeMonths = premakeMonths;
+        this.archiveEnabled = archiveEnabled;
+        this.archiveAfterMonths = archiveAfterMonths;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        maintain();
+    }
+
+    @Scheduled(cron = "${app.partition.cron:0 15 3 * * *}")
+    public void scheduledMaintain() {
+        maintain();
+    }
+
+    /**
+     * 파티션 생성 + (보관 모드) 오래된 파티션 분리
+     */
+    public void maintain() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+                if (!tryLock(connection)) {
+                    log.debug("다른 인스턴스가 파티션 관리 중, 생략");
+                    return null;
+                }
+                try {
+                    for (String table : TABLES) {
+                        if (!isPartitioned(connection, table)) {
+                            log.warn("파티션 테이블이 아니어서 관리 생략 (마이그레이션 미적용): table={}", table);
+                            continue;
+                        }
+                        createUpcoming(connection, table);
+                        if (archiveEnabled) {
+                            archiveOld(connection, table);
+                        }
+                    }
+                } finally {
+                    unlock(connection);
+                }
+                return null;
+            });
+        } catch (DataAccessException e) {
+            log.warn("파티션 관리 실패: {}", e.getMessage());
+        }
+    }
+
+    private void createUpcoming(Connection connection, String table) throws SQLException {
+        YearMonth current = YearMonth.now();
+        try (PreparedStatement statement = connection.prepareStatement(
+                "SELECT create_monthly_partition(CAST(? AS regclass), CAST(? AS date))")) {
+            for (int i = 0; i <= premakeMonths; i++) {
+                LocalDate monthStart = current.plusMonths(i).atDay(1);
+                statement.setString(1, table);
+                statement.setString(2, monthStart.toString());
+                try {
+                    statement.execute();
+                } catch (SQLException e) {
+                    // DEFAULT 파티션에 해당 월의 행이 이미 있으면 생성 불가 (수동 정리 필요)
+                    log.error("월 파티션 생성 실패: table={}, month={}, error={}", table, monthStart, e.getMessage());
+                }
+            }
+        }
+    }
+
+    private void archiveOld(Connection connection, String table) throws SQLException {
+        YearMonth cutoff = YearMonth.now().minusMonths(archiveAfterMonths);
+        for (String partition : attachedMonthlyPartitions(connection, table)) {
+            YearMonth month = YearMonth.parse(partition.substring(partition.length() - 6), MONTH_SUFFIX);
+            if (!month.isBefore(cutoff)) {
+                continue;
+            }
+            String from = month.atDay(1).toString();
+            String to = month.plusMonths(1).atDay(1).toString();
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try (Statement statement = connection.createStatement()) {
+                // 부모 테이블 잠금을 오래 기다리지 않음 (다음 실행에서 재시도)
+                statement.execute("SET LOCAL lock_timeout = '5s'");
+                statement.execute("ALTER TABLE " + table + " DETACH PARTITION " + partition);
+                statement.execute("ALTER TABLE " + table + ARCHIVE_SUFFIX + " ATTACH PARTITION " + partition
+                        + " FOR VALUES FROM ('" + from + "') TO ('" + to + "')");
+                connection.commit();
+                log.info("파티션 보관 이동: table={}, partition={}", table, partition);
+            } catch (SQLException e) {
+                connection.rollback();
+                log.warn("파티션 보관 이동 실패: table={}, partition={}, error={}", table, partition, e.getMessage());
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        }
+    }
+
+    private static List<String> attachedMonthlyPartitions(Connection connection, String table) throws SQLException {
+        List<String> partitions = new ArrayList<>();
+        try (PreparedStatement statement = connection.prepareStatement("""
+                SELECT c.relname
+                FROM pg_inherits i
+                JOIN pg_class c ON c.oid = i.inhrelid
+                WHERE i.inhparent = to_regclass(?) AND c.relname ~ '_p[0-9]{6}$'
+                ORDER BY c.relname
+                """)) {
+            statement.setString(1, table);
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    partitions.add(rs.getString(1));
+                }
+            }
+        }
+        return partitions;
+    }
+
+    private static boolean isPartitioned(Connection connection, String table) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "SELECT EXISTS (SELECT 1 FROM pg_partitioned_table WHERE partrelid = to_regclass(?))")) {
+            statement.setString(1, table);
+            try (ResultSet rs = statement.executeQuery()) {
+                return rs.next() && rs.getBoolean(1);
+            }
+        }
+    }
+
+    private static boolean tryLock(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT pg_try_advisory_lock(" + ADVISORY_LOCK_KEY + ")")) {
+            return rs.next() && rs.getBoolean(1);
+        }
+    }
+
+    private static void unlock(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("SELECT pg_advisory_unlock(" + ADVISORY_LOCK_KEY + ")");
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.rlaqjant.miniature_backlog_api.common.ratelimit;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 키별 토큰 버킷 처리율 제한기 (lock-free)
+ * 버킷 상태를 "이론적 도착 시각(TAT)" 하나로 표현하는 GCRA 방식이라
+ * 키당 AtomicLong 하나와 CAS만으로 토큰 버킷과 동일하게 동작
+ * 추적 키 수는 maxKeys로 제한: 가득 차면 유휴 버킷 정리를 최대 MIN_SWEEP_INTERVAL마다 한 번만 시도하고,
+ * 그래도 가득 차 있으면 새 키는 OverflowPolicy에 따라 추적 없이 허용하거나 거부
+ */
+public class TokenBucketRateLimiter {
+
+    /**
+     * 추적 키가 가득 찼을 때 새 키 처리 방식
+     */
+    public enum OverflowPolicy {
+        // 추적하지 않고 허용 (다른 제한기가 함께 보호하는 경우)
+        ALLOW,
+        // 거부 (fail closed)
+        REJECT
+    }
+
+    private static final long MIN_SWEEP_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+    private final int maxKeys;
+    private final OverflowPolicy overflowPolicy;
+    private final LongSupplier nanoClock;
+    private final ConcurrentHashMap<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final AtomicLong lastSweepNanos;
+
+    /**
+     * @param capacity 버킷 크기 (연속 허용 요청 수)
+     * @param refillPeriod 토큰 1개가 다시 채워지는 시간
+     * @param maxKeys 추적할 최대 키 수
+     * @param overflowPolicy 추적 키가 가득 찼을 때 새 키 처리 방식
+     */
+    public TokenBucketRateLimiter(int capacity, Duration refillPeriod, int maxKeys, OverflowPolicy overflowPolicy) {
+        this(capacity, refillPeriod, maxKeys, overflowPolicy, System::nanoTime);
+    }
+
+    TokenBucketRateLimiter(int capacity, Duration refillPeriod, int maxKeys, OverflowPolicy overflowPolicy,
+                           LongSupplier nanoClock) {
+        this.emissionIntervalNanos = refillPeriod.toNanos();
+        this.burstToleranceNanos = emissionIntervalNanos * capacity;
+        this.maxKeys = maxKeys;
+        this.overflowPolicy = overflowPolicy;
+        this.nanoClock = nanoClock;
+        this.lastSweepNanos = new AtomicLong(nanoClock.getAsLong() - MIN_SWEEP_INTERVAL_NANOS);
+    }
+
+    /**
+     * 토큰 1개 소비 시도
+     * @return 허용 시 0, 거부 시 다음 토큰까지 남은 시간(ns)
+     */
+    public long tryAcquire(String key) {
+        AtomicLong bucket = buckets.get(key);
+        if (bucket == null) {
+            if (buckets.size() >= maxKeys) {
+                sweepIfDue();
+            }
+            if (buckets.size() >= maxKeys) {
+                return overflowPolicy == OverflowPolicy.ALLOW ? 0 : emissionIntervalNanos;
+            }
+            // TAT <= now 이면 버킷이 가득 찬 상태
+            bucket = buckets.computeIfAbsent(key, k -> new AtomicLong(nanoClock.getAsLong()));
+        }
+        while (true) {
+            long now = nanoClock.getAsLong();
+            long tat = bucket.get();
+            long base = tat - now < 0 ? now : tat;
+            long newTat = base + emissionIntervalNanos;
+            long excess = newTat - now - burstToleranceNanos;
+            if (excess > 0) {
+                return excess;
+            }
+            if (bucket.compareAndSet(tat, newTat)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * 가득 찬(유휴) 버킷 정리 (정기 작업에서 호출)
+     */
+    public void evictIdle() {
+        long now = nanoClock.getAsLong();
+        lastSweepNanos.set(now);
+        buckets.entrySet().removeIf(entry -> entry.getValue().get() - now <= 0);
+    }
+
+    public int size() {
+        return buckets.size();
+    }
+
+    /**
+     * 요청 경로의 정리: 최소 간격이 지났고 CAS에 성공한 한 스레드만 전체를 훑음
+     */
+    private void sweepIfDue() {
+        long now = nanoClock.getAsLong();
+        long last = lastSweepNanos.get();
+        if (now - last >= MIN_SWEEP_INTERVAL_NANOS && lastSweepNanos.compareAndSet(last, now)) {
+            buckets.entrySet().removeIf(entry -> entry.getValue().get() - now <= 0);
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.rlaqjant.miniature_backlog_api.config;
+
+import com.rlaqjant.miniature_backlog_api.common.datasource.ReadWriteRoutingDataSource;
+import com.rlaqjant.miniature_backlog_api.common.datasource.ReadYourWritesTracker;
+import com.rlaqjant.miniature_backlog_api.common.datasource.ReplicaLagMonitor;
+import com.rlaqjant.miniature_backlog_api.security.userdetails.CustomUserDetails;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * 주 DB / 읽기 복제본 DataSource 라우팅 설정
+ * app.datasource.replica.enabled=true 일 때만 적용 (미설정 시 spring.datasource 단일 풀)
+ * 풀 메트릭은 hikaricp.*{pool=primary|replica}, 라우팅 결과는 datasource.routing{target,reason}
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.replica.enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    @Value("${spring.datasource.url}")
+    private String primaryUrl;
+
+    @Value("${spring.datasource.username}")
+    private String primaryUsername;
+
+    @Value("${spring.datasource.password}")
+    private String primaryPassword;
+
+    @Value("${spring.datasource.driver-class-name:}")
+    private String driverClassName;
+
+    @Value("${spring.datasource.hikari.maximum-pool-size:10}")
+    private int primaryMaxPoolSize;
+
+    @Value("${app.datasource.replica.url}")
+    private String replicaUrl;
+
+    @Value("${app.datasource.replica.username:${spring.datasource.username}}")
+    private String replicaUsername;
+
+    @Value("${app.datasource.replica.password:${spring.datasource.password}}")
+    private String replicaPassword;
+
+    @Value("${app.datasource.replica.maximum-pool-size:10}")
+    private int replicaMaxPoolSize;
+
+    @Value("${app.datasource.replica.max-lag-ms:1000}")
+    private long maxLagMillis;
+
+    // 복제 수신 위치까지 재생이 끝났으면 0, 아니면 마지막 재생 트랜잭션 이후 경과 시간
+    // 복제본이 아닌 독립 DB(로컬 테스트)에서는 두 함수가 NULL이므로 0
+    @Value("${app.datasource.replica.lag-query:SELECT CASE WHEN pg_last_wal_receive_lsn() IS NULL OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 ELSE COALESCE(EXTRACT(EPOCH FROM (now() - pg_last_xact_replay_timestamp())) * 1000, 0) END}")
+    private String lagQuery;
+
+    @Value("${app.datasource.replica.read-your-writes-window-ms:5000}")
+    private long readYourWritesWindowMillis;
+
+    @Bean(destroyMethod = "close")
+    public HikariDataSource primaryDataSource() {
+        return pool("primary", primaryUrl, primaryUsername, primaryPassword, primaryMaxPoolSize, false);
+    }
+
+    @Bean(destroyMethod = "close")
+    public HikariDataSource replicaDataSource() {
+        return pool("replica", replicaUrl, replicaUsername, replicaPassword, replicaMaxPoolSize, true);
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(
+            @Qualifier("replicaDataSource") DataSource replicaDataSource,
+            MeterRegistry meterRegistry) {
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(
+                replicaDataSource, lagQuery, Duration.ofMillis(maxLagMillis));
+        Gauge.builder("datasource.replica.lag", monitor, ReplicaLagMonitor::getLagMillis)
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        return monitor;
+    }
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(MeterRegistry meterRegistry) {
+        ReadYourWritesTracker tracker = new ReadYourWritesTracker(Duration.ofMillis(readYourWritesWindowMillis));
+        Gauge.builder("datasource.read-your-writes.users", tracker, ReadYourWritesTracker::size)
+                .register(meterRegistry);
+        return tracker;
+    }
+
+    /**
+     * JPA/JdbcTemplate이 사용하는 DataSource
+     * 트랜잭션 시작 시점에는 실제 연결을 잡지 않고 첫 SQL 실행 시 readOnly 여부로 풀 선택
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            @Qualifier("primaryDataSource") DataSource primaryDataSource,
+            @Qualifier("replicaDataSource") DataSource replicaDataSource,
+            ReplicaLagMonitor replicaLagMonitor,
+            ReadYourWritesTracker readYourWritesTracker,
+            MeterRegistry meterRegistry) {
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(
+                primaryDataSource, replicaDataSource, replicaLagMonitor, readYourWritesTracker,
+                DataSourceRoutingConfig::currentUserId, meterRegistry);
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    private HikariDataSource pool(String name, String url, String username, String password,
+                                  int maxPoolSize, boolean readOnly) {
+        HikariConfig config = new HikariConfig();
+        config.setPoolName(name);
+        config.setJdbcUrl(url);
+        config.setUsername(username);
+        config.setPassword(password);
+        if (!driverClassName.isBlank()) {
+            config.setDriverClassName(driverClassName);
+        }
+        config.setMaximumPoolSize(maxPoolSize);
+        config.setReadOnly(readOnly);
+        return new HikariDataSource(config);
+    }
+
+    private static Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof CustomUserDetails userDetails) {
+            return userDetails.getUserId();
+        }
+        return null;
+    }
+}
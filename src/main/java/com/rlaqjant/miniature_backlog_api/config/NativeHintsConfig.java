@@ -0,0 +1,63 @@
+package com.rlaqjant.miniature_backlog_api.config;
+
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+import java.util.List;
+
+/**
+ * 네이티브 이미지 실행에 필요한 리플렉션/리소스 힌트
+ * JPA 엔티티와 컨트롤러 요청/응답 DTO는 Spring AOT가 자동 등록하므로,
+ * 여기서는 라이브러리가 클래스 이름 문자열로 로딩하는 구현체만 등록 (JVM 실행 시에는 영향 없음)
+ */
+@Configuration
+@ImportRuntimeHints(NativeHintsConfig.LibraryRuntimeHints.class)
+public class NativeHintsConfig {
+
+    /**
+     * jjwt: api 모듈이 impl 구현체(빌더, 알고리즘 레지스트리, JWK 파서)를 Class.forName으로 생성하고
+     * JSON 직렬화기는 ServiceLoader로 찾음
+     */
+    private static final List<String> JJWT_TYPES = List.of(
+            "io.jsonwebtoken.impl.DefaultJwtBuilder",
+            "io.jsonwebtoken.impl.DefaultJwtParserBuilder",
+            "io.jsonwebtoken.impl.DefaultClaimsBuilder",
+            "io.jsonwebtoken.impl.io.StandardCompressionAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardSecureDigestAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardEncryptionAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardKeyAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardHashAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardKeyOperations",
+            "io.jsonwebtoken.impl.security.StandardCurves",
+            "io.jsonwebtoken.impl.security.KeysBridge",
+            "io.jsonwebtoken.impl.security.JwksBridge",
+            "io.jsonwebtoken.impl.security.DefaultDynamicJwkBuilder",
+            "io.jsonwebtoken.impl.security.DefaultJwkParserBuilder",
+            "io.jsonwebtoken.impl.security.DefaultJwkSetBuilder",
+            "io.jsonwebtoken.impl.security.DefaultJwkSetParserBuilder",
+            "io.jsonwebtoken.jackson.io.JacksonSerializer",
+            "io.jsonwebtoken.jackson.io.JacksonDeserializer"
+    );
+
+    static class LibraryRuntimeHints implements RuntimeHintsRegistrar {
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            for (String type : JJWT_TYPES) {
+                hints.reflection().registerType(TypeReference.of(type),
+                        MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                        MemberCategory.INVOKE_PUBLIC_METHODS);
+            }
+            hints.resources().registerPattern("META-INF/services/io.jsonwebtoken.*");
+
+            // AWS SDK v2: 실행 인터셉터 목록과 HTTP 클라이언트 구현체를 클래스패스 리소스로 탐색
+            hints.resources().registerPattern("software/amazon/awssdk/global/handlers/execution.interceptors");
+            hints.resources().registerPattern("software/amazon/awssdk/services/s3/execution.interceptors");
+            hints.resources().registerPattern("META-INF/services/software.amazon.awssdk.*");
+        }
+    }
+}
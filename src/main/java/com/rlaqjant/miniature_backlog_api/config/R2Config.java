@@ -1,15 +1,20 @@
 package com.rlaqjant.miniature_backlog_api.config;
 
+import com.rlaqjant.miniature_backlog_api.common.bulkhead.Bulkhead;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3Configuration;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 
 import java.net.URI;
+import java.time.Duration;
 
 /**
  * Cloudflare R2 설정
@@ -30,23 +35,64 @@ public class R2Config {
     @Value("${cloudflare.r2.bucket-name}")
     private String bucketName;
 
+    @Value("${cloudflare.r2.region:auto}")
+    private String region;
+
+    // 로컬 S3 호환 서버(MinIO 등)로 대체할 때 true
+    @Value("${cloudflare.r2.path-style-access:false}")
+    private boolean pathStyleAccess;
+
+    // R2 호출 1건(재시도 포함) / 시도 1회 상한
+    @Value("${cloudflare.r2.api-call-timeout-ms:10000}")
+    private long apiCallTimeoutMs;
+
+    @Value("${cloudflare.r2.api-call-attempt-timeout-ms:5000}")
+    private long apiCallAttemptTimeoutMs;
+
+    @Value("${cloudflare.r2.bulkhead.threads:2}")
+    private int bulkheadThreads;
+
+    @Value("${cloudflare.r2.bulkhead.queue-capacity:100}")
+    private int bulkheadQueueCapacity;
+
     @Bean
     public S3Client s3Client() {
         return S3Client.builder()
                 .endpointOverride(URI.create(endpointUrl))
                 .credentialsProvider(StaticCredentialsProvider.create(
                         AwsBasicCredentials.create(accessKeyId, secretAccessKey)))
-                .region(Region.of("auto"))
+                .region(Region.of(region))
+                .serviceConfiguration(serviceConfiguration())
+                .overrideConfiguration(ClientOverrideConfiguration.builder()
+                        .apiCallTimeout(Duration.ofMillis(apiCallTimeoutMs))
+                        .apiCallAttemptTimeout(Duration.ofMillis(apiCallAttemptTimeoutMs))
+                        .build())
                 .build();
     }
 
+    /**
+     * 요청 경로에서 발생하는 R2 호출(오브젝트 삭제) 전용 격리 풀
+     * 포화 시 대기하지 않고 즉시 거부 (호출 측에서 생략)
+     */
+    @Bean(destroyMethod = "shutdown")
+    public Bulkhead r2Bulkhead(MeterRegistry meterRegistry) {
+        return new Bulkhead("r2", bulkheadThreads, bulkheadQueueCapacity, Duration.ZERO, meterRegistry);
+    }
+
     @Bean
     public S3Presigner s3Presigner() {
         return S3Presigner.builder()
                 .endpointOverride(URI.create(endpointUrl))
                 .credentialsProvider(StaticCredentialsProvider.create(
                         AwsBasicCredentials.create(accessKeyId, secretAccessKey)))
-                .region(Region.of("auto"))
+                .region(Region.of(region))
+                .serviceConfiguration(serviceConfiguration())
+                .build();
+    }
+
+    private S3Configuration serviceConfiguration() {
+        return S3Configuration.builder()
+                .pathStyleAccessEnabled(pathStyleAccess)
                 .build();
     }
 
@@ -0,0 +1,13 @@
+package com.rlaqjant.miniature_backlog_api.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링 설정
+ * 각 작업의 실행 여부는 작업별 enabled 설정으로 제어
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -1,9 +1,13 @@
 package com.rlaqjant.miniature_backlog_api.config;
 
+import com.rlaqjant.miniature_backlog_api.common.concurrency.AdaptiveConcurrencyFilter;
 import com.rlaqjant.miniature_backlog_api.security.handler.JwtAuthenticationEntryPoint;
+import com.rlaqjant.miniature_backlog_api.security.password.BoundedPasswordEncoder;
 import com.rlaqjant.miniature_backlog_api.security.jwt.JwtAuthenticationFilter;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -17,6 +21,8 @@ import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfigurationSource;
 
+import java.time.Duration;
+
 /**
  * Spring Security 설정
  * JWT 기반 인증, Stateless 세션 정책
@@ -27,6 +33,7 @@ import org.springframework.web.cors.CorsConfigurationSource;
 public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final AdaptiveConcurrencyFilter adaptiveConcurrencyFilter;
     private final JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
     private final CorsConfigurationSource corsConfigurationSource;
 
@@ -67,19 +74,30 @@ public class SecurityConfig {
                         .requestMatchers("/public/**").permitAll()
                         // 관리자 전용 엔드포인트
                         .requestMatchers("/admin/**").hasRole("ADMIN")
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
                         // 나머지는 인증 필요
                         .anyRequest().authenticated()
                 )
 
                 // JWT 필터 추가
-                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+                // 동시 처리 한도 초과 요청은 토큰 검증(DB 조회) 전에 차단
+                .addFilterBefore(adaptiveConcurrencyFilter, JwtAuthenticationFilter.class);
 
         return http.build();
     }
 
+    /**
+     * BCrypt 해싱을 전용 bounded 풀에서 실행 (요청 스레드 CPU 독점 방지)
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(
+            MeterRegistry meterRegistry,
+            @Value("${app.auth.password-hash.threads:2}") int threads,
+            @Value("${app.auth.password-hash.queue-capacity:32}") int queueCapacity,
+            @Value("${app.auth.password-hash.timeout-ms:2000}") long timeoutMs) {
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(), threads, queueCapacity,
+                Duration.ofMillis(timeoutMs), meterRegistry);
     }
 
     @Bean
@@ -4,6 +4,8 @@ import jakarta.persistence.*;
 import lombok.*;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * 이미지 엔티티
@@ -35,9 +37,35 @@ public class Image {
     @Column(name = "content_type", length = 100)
     private String contentType;
 
+    // 썸네일 파이프라인이 생성한 리사이즈 변형 (생성 전이거나 원본이 충분히 작으면 null)
+    @Column(name = "thumbnail_object_key", length = 500)
+    private String thumbnailObjectKey;
+
+    @Column(name = "medium_object_key", length = 500)
+    private String mediumObjectKey;
+
+    // 원본 크기와 로딩 전 플레이스홀더 (썸네일 파이프라인이 기록)
+    private Integer width;
+
+    private Integer height;
+
+    @Column(name = "blur_hash", length = 100)
+    private String blurHash;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
+    /**
+     * 원본 + 리사이즈 변형 objectKey 목록 (R2 삭제 대상 수집용)
+     */
+    public List<String> getAllObjectKeys() {
+        List<String> keys = new ArrayList<>(3);
+        keys.add(objectKey);
+        if (thumbnailObjectKey != null) keys.add(thumbnailObjectKey);
+        if (mediumObjectKey != null) keys.add(mediumObjectKey);
+        return keys;
+    }
+
     @PrePersist
     protected void onCreate() {
         this.createdAt = LocalDateTime.now();
@@ -20,6 +20,9 @@ public class ImageResponse {
     private String fileName;
     private String contentType;
     private String imageUrl;
+    private Integer width;
+    private Integer height;
+    private String blurHash;
     private LocalDateTime createdAt;
 
     /**
@@ -32,6 +35,9 @@ public class ImageResponse {
                 .objectKey(image.getObjectKey())
                 .fileName(image.getFileName())
                 .contentType(image.getContentType())
+                .width(image.getWidth())
+                .height(image.getHeight())
+                .blurHash(image.getBlurHash())
                 .createdAt(image.getCreatedAt())
                 .build();
     }
@@ -47,6 +53,9 @@ public class ImageResponse {
                 .fileName(image.getFileName())
                 .contentType(image.getContentType())
                 .imageUrl(imageUrl)
+                .width(image.getWidth())
+                .height(image.getHeight())
+                .blurHash(image.getBlurHash())
                 .createdAt(image.getCreatedAt())
                 .build();
     }
@@ -0,0 +1,27 @@
+package com.rlaqjant.miniature_backlog_api.image.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 고아 이미지 오브젝트 정리 결과 리포트
+ */
+@Getter
+@Builder
+public class OrphanImageGcReport {
+
+    private boolean dryRun;
+    private long scannedObjects;
+    private long referencedObjects;
+    private long recentObjects;
+    private long orphanObjects;
+    private long orphanBytes;
+    private long deletedObjects;
+    private long failedDeletes;
+    private List<String> sampleOrphanKeys;
+    private long elapsedMs;
+    private LocalDateTime startedAt;
+}
@@ -0,0 +1,8 @@
+package com.rlaqjant.miniature_backlog_api.image.dto;
+
+/**
+ * 목록용 썸네일 정보
+ * 크기/BlurHash는 썸네일 파이프라인 처리 전이면 null
+ */
+public record ThumbnailInfo(String url, Integer width, Integer height, String blurHash) {
+}
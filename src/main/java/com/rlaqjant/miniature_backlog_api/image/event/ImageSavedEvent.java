@@ -0,0 +1,8 @@
+package com.rlaqjant.miniature_backlog_api.image.event;
+
+/**
+ * 이미지 메타데이터 저장 이벤트
+ * 트랜잭션 커밋 후 썸네일 파이프라인이 수신
+ */
+public record ImageSavedEvent(Long imageId, String objectKey) {
+}
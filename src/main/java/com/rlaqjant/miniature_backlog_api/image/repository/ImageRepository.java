@@ -1,12 +1,18 @@
 package com.rlaqjant.miniature_backlog_api.image.repository;
 
 import com.rlaqjant.miniature_backlog_api.image.domain.Image;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * 이미지 Repository
@@ -29,12 +35,92 @@ public interface ImageRepository extends JpaRepository<Image, Long> {
      */
     void deleteByProgressLogIdIn(List<Long> progressLogIds);
 
+    /**
+     * 리사이즈 변형 objectKey + 원본 크기 + BlurHash 기록 (썸네일 파이프라인 전용)
+     * @return 갱신된 행 수 (이미지가 그사이 삭제되었으면 0)
+     */
+    @Transactional
+    @Modifying
+    @Query("""
+            UPDATE Image i
+            SET i.thumbnailObjectKey = :thumbnailKey, i.mediumObjectKey = :mediumKey,
+                i.width = :width, i.height = :height, i.blurHash = :blurHash
+            WHERE i.id = :id
+            """)
+    int updateVariants(@Param("id") Long id,
+                       @Param("thumbnailKey") String thumbnailKey,
+                       @Param("mediumKey") String mediumKey,
+                       @Param("width") Integer width,
+                       @Param("height") Integer height,
+                       @Param("blurHash") String blurHash);
+
+    /**
+     * 고아 오브젝트 GC용: 참조 중인 모든 objectKey(원본 + 변형)를 키 순서로 스트리밍
+     * R2 ListObjectsV2 정렬(바이트 순서)과 맞추기 위해 COLLATE "C" 사용
+     * 트랜잭션 안에서 소비하고 반드시 close
+     */
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "1000"))
+    @Query(nativeQuery = true, value = """
+            SELECT k.object_key FROM (
+                SELECT object_key FROM images
+                UNION ALL
+                SELECT thumbnail_object_key FROM images WHERE thumbnail_object_key IS NOT NULL
+                UNION ALL
+                SELECT medium_object_key FROM images WHERE medium_object_key IS NOT NULL
+            ) k
+            ORDER BY k.object_key COLLATE "C"
+            """)
+    Stream<String> streamAllReferencedObjectKeys();
+
+    /**
+     * 고아 오브젝트 GC용: 보관(archive) 파티션 이미지까지 포함한 참조 키 스트리밍
+     * app.partition.archive.enabled=true일 때 사용 (보관 이미지 오브젝트가 고아로 오인되지 않도록)
+     */
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "1000"))
+    @Query(nativeQuery = true, value = """
+            SELECT k.object_key FROM (
+                SELECT object_key FROM images
+                UNION ALL
+                SELECT thumbnail_object_key FROM images WHERE thumbnail_object_key IS NOT NULL
+                UNION ALL
+                SELECT medium_object_key FROM images WHERE medium_object_key IS NOT NULL
+                UNION ALL
+                SELECT object_key FROM images_archive
+                UNION ALL
+                SELECT thumbnail_object_key FROM images_archive WHERE thumbnail_object_key IS NOT NULL
+                UNION ALL
+                SELECT medium_object_key FROM images_archive WHERE medium_object_key IS NOT NULL
+            ) k
+            ORDER BY k.object_key COLLATE "C"
+            """)
+    Stream<String> streamAllReferencedObjectKeysIncludingArchive();
+
+    /**
+     * 전체 이력 조회용: 보관(archive) 파티션을 포함한 진행 로그별 이미지 목록
+     */
+    @Query(nativeQuery = true, value = """
+            SELECT h.* FROM (
+                SELECT id, progress_log_id, object_key, file_name, content_type, thumbnail_object_key,
+                       medium_object_key, width, height, blur_hash, created_at
+                FROM images WHERE progress_log_id = :progressLogId
+                UNION ALL
+                SELECT id, progress_log_id, object_key, file_name, content_type, thumbnail_object_key,
+                       medium_object_key, width, height, blur_hash, created_at
+                FROM images_archive WHERE progress_log_id = :progressLogId
+            ) h
+            ORDER BY h.created_at ASC
+            """)
+    List<Image> findHistoryByProgressLogId(@Param("progressLogId") Long progressLogId);
+
     /**
      * 내 백로그용: 미니어처별 최신 이미지 objectKey 일괄 조회
+     * 썸네일 변형이 있으면 원본 대신 썸네일 objectKey 반환
+     * 행 형식: [miniatureId, objectKey, width, height, blurHash]
      */
     @Query(nativeQuery = true, value = """
             SELECT DISTINCT ON (pl.miniature_id)
-                pl.miniature_id as miniatureId, i.object_key as objectKey
+                pl.miniature_id as miniatureId, COALESCE(i.thumbnail_object_key, i.object_key) as objectKey,
+                i.width as width, i.height as height, i.blur_hash as blurHash
             FROM images i
             JOIN progress_logs pl ON pl.id = i.progress_log_id
             WHERE pl.miniature_id IN (:miniatureIds)
@@ -44,14 +130,37 @@ public interface ImageRepository extends JpaRepository<Image, Long> {
 
     /**
      * 공개 게시판용: 공개 진행 로그에서만 최신 이미지 objectKey 일괄 조회
+     * 썸네일 변형이 있으면 원본 대신 썸네일 objectKey 반환
+     * 행 형식: [miniatureId, objectKey, width, height, blurHash]
      */
     @Query(nativeQuery = true, value = """
             SELECT DISTINCT ON (pl.miniature_id)
-                pl.miniature_id as miniatureId, i.object_key as objectKey
+                pl.miniature_id as miniatureId, COALESCE(i.thumbnail_object_key, i.object_key) as objectKey,
+                i.width as width, i.height as height, i.blur_hash as blurHash
             FROM images i
             JOIN progress_logs pl ON pl.id = i.progress_log_id
             WHERE pl.miniature_id IN (:miniatureIds) AND pl.is_public = true
             ORDER BY pl.miniature_id, i.created_at DESC
             """)
     List<Object[]> findLatestPublicImageByMiniatureIds(@Param("miniatureIds") List<Long> miniatureIds);
+
+    /**
+     * 여러 미니어처에 속한 이미지의 objectKey (원본, 썸네일, 중간 크기)
+     * 행 형식: [objectKey, thumbnailObjectKey, mediumObjectKey]
+     */
+    @Query("""
+            SELECT i.objectKey, i.thumbnailObjectKey, i.mediumObjectKey FROM Image i
+            WHERE i.progressLogId IN (SELECT p.id FROM ProgressLog p WHERE p.miniatureId IN :miniatureIds)
+            """)
+    List<Object[]> findObjectKeysByMiniatureIdIn(@Param("miniatureIds") Collection<Long> miniatureIds);
+
+    /**
+     * 여러 미니어처에 속한 이미지 일괄 삭제 (벌크 DELETE, 진행 로그보다 먼저)
+     */
+    @Modifying
+    @Query("""
+            DELETE FROM Image i
+            WHERE i.progressLogId IN (SELECT p.id FROM ProgressLog p WHERE p.miniatureId IN :miniatureIds)
+            """)
+    int deleteByMiniatureIdIn(@Param("miniatureIds") Collection<Long> miniatureIds);
 }
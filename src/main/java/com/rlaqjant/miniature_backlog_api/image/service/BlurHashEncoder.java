@@ -0,0 +1,135 @@
+package com.rlaqjant.miniature_backlog_api.image.service;
+
+import java.awt.image.BufferedImage;
+
+/**
+ * BlurHash 인코더
+ * 이미지의 저주파 DCT 성분을 base83 문자열(수십 바이트)로 압축해 로딩 전 플레이스홀더로 사용
+ * 입력은 수십 픽셀 크기로 축소한 이미지를 전제 (연산량이 픽셀 수 x 성분 수에 비례)
+ */
+public final class BlurHashEncoder {
+
+    private static final String BASE83_CHARS =
+            "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz#$%*+,-.:;=?@[]^_{|}~";
+
+    private BlurHashEncoder() {
+    }
+
+    /**
+     * BlurHash 문자열 생성
+     * @param componentsX 가로 성분 수 (1~9)
+     * @param componentsY 세로 성분 수 (1~9)
+     */
+    public static String encode(BufferedImage image, int componentsX, int componentsY) {
+        if (componentsX < 1 || componentsX > 9 || componentsY < 1 || componentsY > 9) {
+            throw new IllegalArgumentException("BlurHash 성분 수는 1~9 범위여야 합니다.");
+        }
+
+        int width = image.getWidth();
+        int height = image.getHeight();
+        int[] pixels = image.getRGB(0, 0, width, height, null, 0, width);
+
+        // 픽셀을 선형 색공간으로 한 번만 변환
+        double[] linearR = new double[pixels.length];
+        double[] linearG = new double[pixels.length];
+        double[] linearB = new double[pixels.length];
+        for (int p = 0; p < pixels.length; p++) {
+            linearR[p] = sRgbToLinear((pixels[p] >> 16) & 0xff);
+            linearG[p] = sRgbToLinear((pixels[p] >> 8) & 0xff);
+            linearB[p] = sRgbToLinear(pixels[p] & 0xff);
+        }
+
+        double[][] factors = new double[componentsX * componentsY][];
+        double scale = 1.0 / (width * height);
+        for (int j = 0; j < componentsY; j++) {
+            double[] cosY = cosines(j, height);
+            for (int i = 0; i < componentsX; i++) {
+                double[] cosX = cosines(i, width);
+                double normalisation = (i == 0 && j == 0) ? 1 : 2;
+                double r = 0, g = 0, b = 0;
+                for (int y = 0; y < height; y++) {
+                    int row = y * width;
+                    for (int x = 0; x < width; x++) {
+                        double basis = cosX[x] * cosY[y];
+                        r += basis * linearR[row + x];
+                        g += basis * linearG[row + x];
+                        b += basis * linearB[row + x];
+                    }
+                }
+                double s = normalisation * scale;
+                factors[j * componentsX + i] = new double[]{r * s, g * s, b * s};
+            }
+        }
+
+        StringBuilder hash = new StringBuilder(4 + 2 * factors.length);
+        appendBase83(hash, (componentsX - 1) + (componentsY - 1) * 9, 1);
+
+        double maximumValue;
+        if (factors.length > 1) {
+            double actualMaximum = 0;
+            for (int k = 1; k < factors.length; k++) {
+                for (double value : factors[k]) {
+                    actualMaximum = Math.max(actualMaximum, Math.abs(value));
+                }
+            }
+            int quantisedMaximum = (int) Math.max(0, Math.min(82, Math.floor(actualMaximum * 166 - 0.5)));
+            maximumValue = (quantisedMaximum + 1) / 166.0;
+            appendBase83(hash, quantisedMaximum, 1);
+        } else {
+            maximumValue = 1;
+            appendBase83(hash, 0, 1);
+        }
+
+        appendBase83(hash, encodeDc(factors[0]), 4);
+        for (int k = 1; k < factors.length; k++) {
+            appendBase83(hash, encodeAc(factors[k], maximumValue), 2);
+        }
+        return hash.toString();
+    }
+
+    private static double[] cosines(int component, int size) {
+        double[] values = new double[size];
+        for (int n = 0; n < size; n++) {
+            values[n] = Math.cos(Math.PI * component * n / size);
+        }
+        return values;
+    }
+
+    private static int encodeDc(double[] color) {
+        return (linearToSRgb(color[0]) << 16) + (linearToSRgb(color[1]) << 8) + linearToSRgb(color[2]);
+    }
+
+    private static int encodeAc(double[] color, double maximumValue) {
+        int r = quantiseAc(color[0] / maximumValue);
+        int g = quantiseAc(color[1] / maximumValue);
+        int b = quantiseAc(color[2] / maximumValue);
+        return r * 19 * 19 + g * 19 + b;
+    }
+
+    private static int quantiseAc(double value) {
+        double signedRoot = Math.copySign(Math.sqrt(Math.abs(value)), value);
+        return (int) Math.max(0, Math.min(18, Math.floor(signedRoot * 9 + 9.5)));
+    }
+
+    private static double sRgbToLinear(int value) {
+        double v = value / 255.0;
+        return v <= 0.04045 ? v / 12.92 : Math.pow((v + 0.055) / 1.055, 2.4);
+    }
+
+    private static int linearToSRgb(double value) {
+        double v = Math.max(0, Math.min(1, value));
+        return v <= 0.0031308
+                ? (int) (v * 12.92 * 255 + 0.5)
+                : (int) ((1.055 * Math.pow(v, 1 / 2.4) - 0.055) * 255 + 0.5);
+    }
+
+    private static void appendBase83(StringBuilder hash, int value, int length) {
+        for (int i = 1; i <= length; i++) {
+            int divisor = 1;
+            for (int k = 0; k < length - i; k++) {
+                divisor *= 83;
+            }
+            hash.append(BASE83_CHARS.charAt((value / divisor) % 83));
+        }
+    }
+}
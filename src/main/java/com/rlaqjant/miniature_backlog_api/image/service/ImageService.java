@@ -1,19 +1,26 @@
 package com.rlaqjant.miniature_backlog_api.image.service;
 
+import com.rlaqjant.miniature_backlog_api.common.bulkhead.Bulkhead;
 import com.rlaqjant.miniature_backlog_api.common.exception.BusinessException;
 import com.rlaqjant.miniature_backlog_api.common.exception.ErrorCode;
+import com.rlaqjant.miniature_backlog_api.common.transaction.TransactionCallbacks;
 import com.rlaqjant.miniature_backlog_api.image.domain.Image;
 import com.rlaqjant.miniature_backlog_api.image.dto.*;
+import com.rlaqjant.miniature_backlog_api.image.event.ImageSavedEvent;
 import com.rlaqjant.miniature_backlog_api.image.repository.ImageRepository;
 import com.rlaqjant.miniature_backlog_api.progresslog.domain.ProgressLog;
 import com.rlaqjant.miniature_backlog_api.progresslog.repository.ProgressLogRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import software.amazon.awssdk.services.s3.S3Client;
-import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.Delete;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
 import software.amazon.awssdk.services.s3.presigner.model.PresignedGetObjectRequest;
@@ -39,11 +46,16 @@ public class ImageService {
     private static final Pattern VALID_OBJECT_KEY_PATTERN =
             Pattern.compile("^users/\\d+/[a-f0-9-]{36}\\.(png|jpg|jpeg|gif|webp)$");
 
+    // DeleteObjects 요청당 최대 키 수 (S3 API 제한)
+    private static final int DELETE_BATCH_SIZE = 1000;
+
     private final S3Client s3Client;
     private final S3Presigner s3Presigner;
     private final String r2BucketName;
     private final ImageRepository imageRepository;
     private final ProgressLogRepository progressLogRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Bulkhead r2Bulkhead;
 
     @Value("${cloudflare.r2.presign-expiration-minutes}")
     private int presignExpirationMinutes;
@@ -114,6 +126,9 @@ public class ImageService {
         Image savedImage = imageRepository.save(image);
         log.info("이미지 메타데이터 저장 완료: imageId={}, progressLogId={}", savedImage.getId(), request.getProgressLogId());
 
+        // 썸네일 생성은 커밋 후 백그라운드에서 처리 (응답 지연 없음)
+        eventPublisher.publishEvent(new ImageSavedEvent(savedImage.getId(), savedImage.getObjectKey()));
+
         // 읽기용 presigned URL 생성
         String imageUrl = generateReadPresignedUrl(savedImage.getObjectKey());
         return ImageResponse.from(savedImage, imageUrl);
@@ -142,6 +157,15 @@ public class ImageService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 보관(archive) 파티션을 포함한 진행 로그별 이미지 목록 조회 (비공개용 - presigned URL)
+     */
+    public List<ImageResponse> getHistoryImagesByProgressLogId(Long progressLogId) {
+        return imageRepository.findHistoryByProgressLogId(progressLogId).stream()
+                .map(image -> ImageResponse.from(image, generateReadPresignedUrl(image.getObjectKey())))
+                .collect(Collectors.toList());
+    }
+
     /**
      * 비공개 이미지용 Presigned URL 생성 (15분 유효)
      */
@@ -221,32 +245,41 @@ public class ImageService {
         return objectKey.substring(objectKey.lastIndexOf("/") + 1);
     }
 
-    /**
-     * R2 오브젝트 단건 삭제 (best-effort)
-     * 삭제 실패 시 warn 로그만 남기고 예외를 전파하지 않음
-     */
-    public void deleteR2Object(String objectKey) {
-        try {
-            DeleteObjectRequest deleteRequest = DeleteObjectRequest.builder()
-                    .bucket(r2BucketName)
-                    .key(objectKey)
-                    .build();
-            s3Client.deleteObject(deleteRequest);
-        } catch (Exception e) {
-            log.warn("R2 오브젝트 삭제 실패 (고아 파일 발생): objectKey={}, error={}",
-                    objectKey, e.getMessage());
-        }
-    }
-
     /**
      * R2 오브젝트 일괄 삭제 (best-effort)
-     * 각 오브젝트를 개별 삭제하며 실패 시 로그만 남김
+     * 커밋 후 r2 bulkhead 풀에서 DeleteObjects(최대 1000건 단위)로 삭제하여 요청 스레드/DB 연결을 붙잡지 않음
+     * 풀 포화 또는 삭제 실패 시 로그만 남김 (남은 오브젝트는 고아 이미지 정리 작업이 회수)
      */
     public void deleteR2Objects(List<String> objectKeys) {
-        for (String objectKey : objectKeys) {
-            deleteR2Object(objectKey);
+        List<String> keys = List.copyOf(objectKeys);
+        TransactionCallbacks.afterCommit(() -> {
+            if (!r2Bulkhead.tryExecute(() -> deleteInBatches(keys))) {
+                log.warn("R2 삭제 풀 포화로 삭제 생략 (고아 파일 발생): 총 {}건", keys.size());
+            }
+        });
+    }
+
+    private void deleteInBatches(List<String> objectKeys) {
+        int failed = 0;
+        for (int from = 0; from < objectKeys.size(); from += DELETE_BATCH_SIZE) {
+            List<String> batch = objectKeys.subList(from, Math.min(from + DELETE_BATCH_SIZE, objectKeys.size()));
+            List<ObjectIdentifier> identifiers = batch.stream()
+                    .map(key -> ObjectIdentifier.builder().key(key).build())
+                    .toList();
+            try {
+                DeleteObjectsResponse response = s3Client.deleteObjects(DeleteObjectsRequest.builder()
+                        .bucket(r2BucketName)
+                        .delete(Delete.builder().objects(identifiers).quiet(true).build())
+                        .build());
+                response.errors().forEach(error -> log.warn("R2 오브젝트 삭제 실패 (고아 파일 발생): objectKey={}, code={}",
+                        error.key(), error.code()));
+                failed += response.errors().size();
+            } catch (Exception e) {
+                log.warn("R2 오브젝트 일괄 삭제 실패 (고아 파일 발생): count={}, error={}", batch.size(), e.getMessage());
+                failed += batch.size();
+            }
         }
-        log.info("R2 오브젝트 일괄 삭제 시도 완료: 총 {}건", objectKeys.size());
+        log.info("R2 오브젝트 일괄 삭제 완료: 총 {}건, 실패 {}건", objectKeys.size(), failed);
     }
 
     /**
@@ -0,0 +1,289 @@
+package com.rlaqjant.miniature_backlog_api.image.service;
+
+import com.rlaqjant.miniature_backlog_api.common.bulkhead.Bulkhead;
+import com.rlaqjant.miniature_backlog_api.image.event.ImageSavedEvent;
+import com.rlaqjant.miniature_backlog_api.image.repository.ImageRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Iterator;
+
+/**
+ * 이미지 리사이즈 변형(썸네일/중간 크기) 생성 서비스
+ * 업로드 커밋 후 bounded 워커에서 원본을 내려받아 JPEG 변형을 만들고 R2에 업로드
+ * 같은 디코딩 결과로 원본 크기와 BlurHash 플레이스홀더도 기록
+ */
+@Slf4j
+@Service
+public class ImageVariantService {
+
+    private static final String VARIANT_CONTENT_TYPE = "image/jpeg";
+    private static final String VARIANT_CACHE_CONTROL = "public, max-age=31536000, immutable";
+
+    // BlurHash 입력 축소 너비와 성분 수 (4x3 → 28자)
+    private static final int BLUR_HASH_SAMPLE_WIDTH = 32;
+    private static final int BLUR_HASH_COMPONENTS_X = 4;
+    private static final int BLUR_HASH_COMPONENTS_Y = 3;
+
+    private final S3Client s3Client;
+    private final String r2BucketName;
+    private final ImageRepository imageRepository;
+    private final Bulkhead bulkhead;
+
+    private final boolean enabled;
+    private final int thumbnailWidth;
+    private final int mediumWidth;
+    private final int maxDecodeHeight;
+    private final long maxSourcePixels;
+    private final long maxSourceBytes;
+    private final float jpegQuality;
+
+    public ImageVariantService(
+            S3Client s3Client,
+            String r2BucketName,
+            ImageRepository imageRepository,
+            @Value("${app.image.variants.enabled:true}") boolean enabled,
+            @Value("${app.image.variants.thumbnail-width:320}") int thumbnailWidth,
+            @Value("${app.image.variants.medium-width:800}") int mediumWidth,
+            @Value("${app.image.variants.max-decode-height:2400}") int maxDecodeHeight,
+            @Value("${app.image.variants.max-source-pixels:40000000}") long maxSourcePixels,
+            @Value("${app.image.variants.max-source-bytes:20971520}") long maxSourceBytes,
+            @Value("${app.image.variants.jpeg-quality:0.8}") float jpegQuality,
+            @Value("${app.image.variants.worker-threads:1}") int workerThreads,
+            @Value("${app.image.variants.queue-capacity:100}") int queueCapacity,
+            MeterRegistry meterRegistry) {
+        this.s3Client = s3Client;
+        this.r2BucketName = r2BucketName;
+        this.imageRepository = imageRepository;
+        this.enabled = enabled;
+        this.thumbnailWidth = thumbnailWidth;
+        this.mediumWidth = mediumWidth;
+        this.maxDecodeHeight = maxDecodeHeight;
+        this.maxSourcePixels = maxSourcePixels;
+        this.maxSourceBytes = maxSourceBytes;
+        this.jpegQuality = jpegQuality;
+        // 큐가 가득 차면 거부 (요청 스레드가 대신 실행하거나 기다리지 않음)
+        this.bulkhead = new Bulkhead("image-variant", workerThreads, queueCapacity, Duration.ZERO, meterRegistry);
+    }
+
+    /**
+     * 이미지 저장 커밋 후 변형 생성 작업 등록
+     * 큐 포화 시 작업을 버리고 원본 이미지로 폴백
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onImageSaved(ImageSavedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        if (!bulkhead.tryExecute(() -> generateVariants(event))) {
+            log.warn("썸네일 작업 큐 포화로 생성 생략: imageId={}, objectKey={}", event.imageId(), event.objectKey());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        bulkhead.shutdown();
+    }
+
+    /**
+     * 원본 다운로드 → 리사이즈 → R2 업로드 → 크기/BlurHash 계산 → DB 기록
+     * 실패 시 로그만 남김 (목록은 원본 objectKey로 폴백)
+     */
+    void generateVariants(ImageSavedEvent event) {
+        String objectKey = event.objectKey();
+        try {
+            // 원본 전체를 메모리에 올리기 전에 크기 확인
+            Long contentLength = s3Client.headObject(builder -> builder
+                    .bucket(r2BucketName)
+                    .key(objectKey)).contentLength();
+            if (contentLength == null || contentLength > maxSourceBytes) {
+                log.info("원본 용량 초과, 썸네일 생략: objectKey={}, bytes={}, maxBytes={}",
+                        objectKey, contentLength, maxSourceBytes);
+                return;
+            }
+
+            byte[] originalBytes = s3Client.getObjectAsBytes(builder -> builder
+                    .bucket(r2BucketName)
+                    .key(objectKey)).asByteArray();
+
+            DecodedImage decoded = decode(originalBytes);
+            if (decoded == null) {
+                log.info("디코딩할 수 없거나 픽셀 수 한도를 넘는 이미지, 썸네일 생략: objectKey={}", objectKey);
+                return;
+            }
+            BufferedImage source = decoded.image();
+
+            String mediumKey = uploadVariant(source, objectKey, mediumWidth);
+            String thumbnailKey = uploadVariant(source, objectKey, thumbnailWidth);
+
+            BufferedImage sample = source.getWidth() > BLUR_HASH_SAMPLE_WIDTH
+                    ? resize(source, BLUR_HASH_SAMPLE_WIDTH)
+                    : source;
+            String blurHash = BlurHashEncoder.encode(sample, BLUR_HASH_COMPONENTS_X, BLUR_HASH_COMPONENTS_Y);
+
+            int updated = imageRepository.updateVariants(event.imageId(), thumbnailKey, mediumKey,
+                    decoded.width(), decoded.height(), blurHash);
+            if (updated == 0) {
+                // 작업 중 이미지가 삭제된 경우 방금 올린 변형도 정리
+                deleteQuietly(thumbnailKey);
+                deleteQuietly(mediumKey);
+                return;
+            }
+
+            log.info("썸네일 생성 완료: imageId={}, thumbnailKey={}, mediumKey={}, size={}x{}",
+                    event.imageId(), thumbnailKey, mediumKey, decoded.width(), decoded.height());
+        } catch (Exception e) {
+            log.warn("썸네일 생성 실패: imageId={}, objectKey={}, error={}",
+                    event.imageId(), objectKey, e.getMessage());
+        }
+    }
+
+    /**
+     * 원본 디코딩
+     * 중간 크기 변형보다 충분히 크면 서브샘플링으로 읽어 메모리/CPU 사용량 절감
+     * 너비와 높이 중 더 큰 비율로 서브샘플링하여 세로로 긴 이미지도 디코딩 크기가 제한됨
+     * 헤더상 픽셀 수가 한도를 넘으면 디코딩하지 않고 null 반환 (압축 폭탄 방지)
+     * 원본 크기는 서브샘플링 전 헤더 값으로 기록
+     */
+    private DecodedImage decode(byte[] bytes) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(new ByteArrayInputStream(bytes))) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int sourceWidth = reader.getWidth(0);
+                int sourceHeight = reader.getHeight(0);
+                if ((long) sourceWidth * sourceHeight > maxSourcePixels) {
+                    return null;
+                }
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                int subsampling = Math.max(1, Math.max(sourceWidth / mediumWidth, sourceHeight / maxDecodeHeight));
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                return new DecodedImage(reader.read(0, param), sourceWidth, sourceHeight);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * 지정 너비로 리사이즈한 JPEG 업로드
+     * 원본이 목표 너비 이하이면 변형을 만들지 않고 null 반환
+     */
+    private String uploadVariant(BufferedImage source, String objectKey, int targetWidth) throws IOException {
+        if (source.getWidth() <= targetWidth) {
+            return null;
+        }
+
+        byte[] bytes = encodeJpeg(resize(source, targetWidth));
+        String variantKey = toVariantKey(objectKey, targetWidth);
+
+        PutObjectRequest putRequest = PutObjectRequest.builder()
+                .bucket(r2BucketName)
+                .key(variantKey)
+                .contentType(VARIANT_CONTENT_TYPE)
+                .cacheControl(VARIANT_CACHE_CONTROL)
+                .build();
+        s3Client.putObject(putRequest, RequestBody.fromBytes(bytes));
+        return variantKey;
+    }
+
+    /**
+     * 단계적 절반 축소 후 최종 보간 (한 번에 크게 줄일 때의 계단 현상 방지)
+     * 투명 배경은 흰색으로 채움 (JPEG는 알파 채널 없음)
+     */
+    private BufferedImage resize(BufferedImage source, int targetWidth) {
+        BufferedImage current = source;
+        int width = source.getWidth();
+        int height = source.getHeight();
+
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(1, (int) Math.round((double) source.getHeight() * width / source.getWidth()));
+
+            BufferedImage next = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+            Graphics2D graphics = next.createGraphics();
+            try {
+                graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                graphics.setColor(Color.WHITE);
+                graphics.fillRect(0, 0, width, height);
+                graphics.drawImage(current, 0, 0, width, height, null);
+            } finally {
+                graphics.dispose();
+            }
+            current = next;
+        } while (width > targetWidth);
+
+        return current;
+    }
+
+    private byte[] encodeJpeg(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ImageWriteParam param = writer.getDefaultWriteParam();
+        param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        param.setCompressionQuality(jpegQuality);
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (ImageOutputStream imageOutput = ImageIO.createImageOutputStream(output)) {
+            writer.setOutput(imageOutput);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return output.toByteArray();
+    }
+
+    /**
+     * 변형 objectKey 생성
+     * 형식: users/{userId}/{UUID}.{ext} -> users/{userId}/{UUID}_w{width}.jpg
+     */
+    private String toVariantKey(String objectKey, int width) {
+        return objectKey.substring(0, objectKey.lastIndexOf('.')) + "_w" + width + ".jpg";
+    }
+
+    private void deleteQuietly(String objectKey) {
+        if (objectKey == null) {
+            return;
+        }
+        try {
+            s3Client.deleteObject(builder -> builder.bucket(r2BucketName).key(objectKey));
+        } catch (Exception e) {
+            log.warn("R2 오브젝트 삭제 실패 (고아 파일 발생): objectKey={}, error={}", objectKey, e.getMessage());
+        }
+    }
+
+    /**
+     * 디코딩 결과 (서브샘플링된 이미지 + 원본 크기)
+     */
+    private record DecodedImage(BufferedImage image, int width, int height) {
+    }
+}
@@ -0,0 +1,212 @@
+package com.rlaqjant.miniature_backlog_api.image.service;
+
+import com.rlaqjant.miniature_backlog_api.common.exception.BusinessException;
+import com.rlaqjant.miniature_backlog_api.common.exception.ErrorCode;
+import com.rlaqjant.miniature_backlog_api.image.dto.OrphanImageGcReport;
+import com.rlaqjant.miniature_backlog_api.image.repository.ImageRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.Delete;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
+import software.amazon.awssdk.services.s3.model.S3Object;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+/**
+ * 고아 이미지 오브젝트 정리 (GC)
+ * R2 목록(키 순서 페이지)과 DB 참조 키 스트림(같은 순서)을 머지 조인하여
+ * 버킷 크기와 무관하게 페이지 단위 메모리로 미참조 오브젝트를 찾아 삭제
+ */
+@Slf4j
+@Service
+public class OrphanImageCollector {
+
+    private static final String OBJECT_PREFIX = "users/";
+    // DeleteObjects 요청당 최대 키 수
+    private static final int DELETE_BATCH_SIZE = 1000;
+    private static final int SAMPLE_KEY_LIMIT = 20;
+
+    private final S3Client s3Client;
+    private final String r2BucketName;
+    private final ImageRepository imageRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    private final boolean enabled;
+    private final boolean dryRun;
+    private final Duration gracePeriod;
+    // 보관 파티션 사용 시 보관 이미지도 참조 키로 취급
+    private final boolean includeArchive;
+
+    public OrphanImageCollector(
+            S3Client s3Client,
+            String r2BucketName,
+            ImageRepository imageRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.image.orphan-gc.enabled:false}") boolean enabled,
+            @Value("${app.image.orphan-gc.dry-run:true}") boolean dryRun,
+            @Value("${app.image.orphan-gc.grace-period-hours:24}") long gracePeriodHours,
+            @Value("${app.partition.archive.enabled:false}") boolean includeArchive) {
+        this.s3Client = s3Client;
+        this.r2BucketName = r2BucketName;
+        this.imageRepository = imageRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.enabled = enabled;
+        this.dryRun = dryRun;
+        this.gracePeriod = Duration.ofHours(gracePeriodHours);
+        this.includeArchive = includeArchive;
+    }
+
+    /**
+     * 정기 실행 (기본 비활성화, 활성화 시에도 기본은 dry-run)
+     */
+    @Scheduled(cron = "${app.image.orphan-gc.cron:0 30 4 * * *}")
+    public void scheduledCollect() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            collect(dryRun);
+        } catch (BusinessException e) {
+            log.info("고아 이미지 정리 작업이 이미 실행 중이어서 건너뜀");
+        }
+    }
+
+    /**
+     * 고아 오브젝트 정리 실행
+     * @param dryRun true: 대상만 집계하고 삭제하지 않음
+     */
+    public OrphanImageGcReport collect(boolean dryRun) {
+        if (!running.compareAndSet(false, true)) {
+            throw new BusinessException(ErrorCode.ORPHAN_IMAGE_GC_IN_PROGRESS);
+        }
+        try {
+            // DB 키 스트림(커서)은 트랜잭션 안에서만 유효
+            OrphanImageGcReport report = readOnlyTransaction.execute(status -> scan(dryRun));
+            log.info("고아 이미지 정리 완료: dryRun={}, scanned={}, referenced={}, recent={}, orphans={} ({} bytes), deleted={}, failed={}, elapsedMs={}",
+                    report.isDryRun(), report.getScannedObjects(), report.getReferencedObjects(),
+                    report.getRecentObjects(), report.getOrphanObjects(), report.getOrphanBytes(),
+                    report.getDeletedObjects(), report.getFailedDeletes(), report.getElapsedMs());
+            return report;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private OrphanImageGcReport scan(boolean dryRun) {
+        LocalDateTime startedAt = LocalDateTime.now();
+        long startNanos = System.nanoTime();
+        // 업로드 직후 아직 POST /images 전이거나 변형 키 기록 전인 오브젝트 보호
+        Instant cutoff = Instant.now().minus(gracePeriod);
+
+        long scanned = 0, referenced = 0, recent = 0, orphans = 0, orphanBytes = 0, deleted = 0, failed = 0;
+        List<String> samples = new ArrayList<>();
+        List<String> batch = new ArrayList<>(DELETE_BATCH_SIZE);
+
+        ListObjectsV2Request listRequest = ListObjectsV2Request.builder()
+                .bucket(r2BucketName)
+                .prefix(OBJECT_PREFIX)
+                .build();
+
+        try (Stream<String> referencedKeys = includeArchive
+                ? imageRepository.streamAllReferencedObjectKeysIncludingArchive()
+                : imageRepository.streamAllReferencedObjectKeys()) {
+            Iterator<String> dbKeys = referencedKeys.iterator();
+            String dbKey = dbKeys.hasNext() ? dbKeys.next() : null;
+
+            for (ListObjectsV2Response page : s3Client.listObjectsV2Paginator(listRequest)) {
+                for (S3Object object : page.contents()) {
+                    String key = object.key();
+                    scanned++;
+
+                    // 두 목록 모두 키 오름차순: DB 커서를 현재 키까지 전진
+                    while (dbKey != null && dbKey.compareTo(key) < 0) {
+                        dbKey = dbKeys.hasNext() ? dbKeys.next() : null;
+                    }
+                    if (key.equals(dbKey)) {
+                        referenced++;
+                        continue;
+                    }
+                    if (object.lastModified().isAfter(cutoff)) {
+                        recent++;
+                        continue;
+                    }
+
+                    orphans++;
+                    orphanBytes += object.size() != null ? object.size() : 0;
+                    if (samples.size() < SAMPLE_KEY_LIMIT) {
+                        samples.add(key);
+                    }
+                    if (!dryRun) {
+                        batch.add(key);
+                        if (batch.size() == DELETE_BATCH_SIZE) {
+                            int failures = deleteBatch(batch);
+                            deleted += batch.size() - failures;
+                            failed += failures;
+                            batch.clear();
+                        }
+                    }
+                }
+            }
+        }
+
+        if (!batch.isEmpty()) {
+            int failures = deleteBatch(batch);
+            deleted += batch.size() - failures;
+            failed += failures;
+        }
+
+        return OrphanImageGcReport.builder()
+                .dryRun(dryRun)
+                .scannedObjects(scanned)
+                .referencedObjects(referenced)
+                .recentObjects(recent)
+                .orphanObjects(orphans)
+                .orphanBytes(orphanBytes)
+                .deletedObjects(deleted)
+                .failedDeletes(failed)
+                .sampleOrphanKeys(samples)
+                .elapsedMs(Duration.ofNanos(System.nanoTime() - startNanos).toMillis())
+                .startedAt(startedAt)
+                .build();
+    }
+
+    /**
+     * DeleteObjects 일괄 삭제
+     * @return 삭제 실패 건수
+     */
+    private int deleteBatch(List<String> keys) {
+        List<ObjectIdentifier> identifiers = keys.stream()
+                .map(key -> ObjectIdentifier.builder().key(key).build())
+                .toList();
+        try {
+            DeleteObjectsResponse response = s3Client.deleteObjects(DeleteObjectsRequest.builder()
+                    .bucket(r2BucketName)
+                    .delete(Delete.builder().objects(identifiers).quiet(true).build())
+                    .build());
+            response.errors().forEach(error -> log.warn("고아 오브젝트 삭제 실패: objectKey={}, code={}, message={}",
+                    error.key(), error.code(), error.message()));
+            return response.errors().size();
+        } catch (Exception e) {
+            log.warn("고아 오브젝트 일괄 삭제 실패: count={}, error={}", keys.size(), e.getMessage());
+            return keys.size();
+        }
+    }
+}
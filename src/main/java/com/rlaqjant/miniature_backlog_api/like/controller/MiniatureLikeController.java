@@ -31,4 +31,30 @@ public class MiniatureLikeController {
         LikeResponse response = miniatureLikeService.toggleLike(userDetails.getUserId(), id);
         return ResponseEntity.ok(ApiResponse.success(response));
     }
+
+    /**
+     * 좋아요 (멱등, 재시도 안전)
+     * PUT /miniatures/{id}/like
+     */
+    @PutMapping("/{id}/like")
+    public ResponseEntity<ApiResponse<LikeResponse>> like(
+            @PathVariable Long id,
+            @AuthenticationPrincipal CustomUserDetails userDetails
+    ) {
+        LikeResponse response = miniatureLikeService.like(userDetails.getUserId(), id);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    /**
+     * 좋아요 취소 (멱등, 재시도 안전)
+     * DELETE /miniatures/{id}/like
+     */
+    @DeleteMapping("/{id}/like")
+    public ResponseEntity<ApiResponse<LikeResponse>> unlike(
+            @PathVariable Long id,
+            @AuthenticationPrincipal CustomUserDetails userDetails
+    ) {
+        LikeResponse response = miniatureLikeService.unlike(userDetails.getUserId(), id);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
 }
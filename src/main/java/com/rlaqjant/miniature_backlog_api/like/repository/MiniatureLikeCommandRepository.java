@@ -0,0 +1,93 @@
+package com.rlaqjant.miniature_backlog_api.like.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.OptionalLong;
+
+/**
+ * 좋아요 추가/취소 (PostgreSQL, 문장 1회)
+ * 좋아요 행 변경과 miniatures.like_count 증감을 한 문장(data-modifying CTE)으로 처리하고 갱신된 좋아요 수를 반환
+ * 이미 같은 상태면 아무것도 변경하지 않고 현재 좋아요 수만 반환 (재시도/중복 클릭에 안전)
+ */
+@Repository
+@RequiredArgsConstructor
+public class MiniatureLikeCommandRepository {
+
+    // 유니크 (user_id, miniature_id) 충돌은 무시 → 동시 요청도 1행만 추가
+    private static final String LIKE_SQL = """
+            WITH inserted AS (
+                INSERT INTO miniature_likes (user_id, miniature_id, created_at)
+                VALUES (:userId, :miniatureId, now())
+                ON CONFLICT (user_id, miniature_id) DO NOTHING
+                RETURNING miniature_id
+            ), updated AS (
+                UPDATE miniatures m SET like_count = m.like_count + 1
+                FROM inserted i
+                WHERE m.id = i.miniature_id
+                RETURNING m.like_count
+            )
+            SELECT like_count FROM updated
+            UNION ALL
+            SELECT like_count FROM miniatures
+            WHERE id = :miniatureId AND NOT EXISTS (SELECT 1 FROM inserted)
+            """;
+
+    private static final String UNLIKE_SQL = """
+            WITH deleted AS (
+                DELETE FROM miniature_likes
+                WHERE user_id = :userId AND miniature_id = :miniatureId
+                RETURNING miniature_id
+            ), updated AS (
+                UPDATE miniatures m SET like_count = m.like_count - 1
+                FROM deleted d
+                WHERE m.id = d.miniature_id
+                RETURNING m.like_count
+            )
+            SELECT like_count FROM updated
+            UNION ALL
+            SELECT like_count FROM miniatures
+            WHERE id = :miniatureId AND NOT EXISTS (SELECT 1 FROM deleted)
+            """;
+
+    private static final String LIKE_COUNT_SQL = "SELECT like_count FROM miniatures WHERE id = :miniatureId";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * 좋아요 추가 (이미 있으면 변경 없음)
+     * @return 갱신된 좋아요 수 (미니어처가 없으면 empty)
+     */
+    public OptionalLong like(Long userId, Long miniatureId) {
+        return execute(LIKE_SQL, userId, miniatureId);
+    }
+
+    /**
+     * 좋아요 취소 (없으면 변경 없음)
+     * @return 갱신된 좋아요 수 (미니어처가 없으면 empty)
+     */
+    public OptionalLong unlike(Long userId, Long miniatureId) {
+        return execute(UNLIKE_SQL, userId, miniatureId);
+    }
+
+    /**
+     * 현재 좋아요 수 (miniatures.like_count, 좋아요 행 COUNT 없음)
+     * @return 좋아요 수 (미니어처가 없으면 empty)
+     */
+    public OptionalLong findLikeCount(Long miniatureId) {
+        List<Long> counts = jdbcTemplate.queryForList(LIKE_COUNT_SQL,
+                new MapSqlParameterSource("miniatureId", miniatureId), Long.class);
+        return counts.isEmpty() ? OptionalLong.empty() : OptionalLong.of(counts.get(0));
+    }
+
+    private OptionalLong execute(String sql, Long userId, Long miniatureId) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("userId", userId)
+                .addValue("miniatureId", miniatureId);
+        List<Long> counts = jdbcTemplate.queryForList(sql, params, Long.class);
+        return counts.isEmpty() ? OptionalLong.empty() : OptionalLong.of(counts.get(0));
+    }
+}
@@ -2,18 +2,15 @@ package com.rlaqjant.miniature_backlog_api.like.service;
 
 import com.rlaqjant.miniature_backlog_api.common.exception.BusinessException;
 import com.rlaqjant.miniature_backlog_api.common.exception.ErrorCode;
-import com.rlaqjant.miniature_backlog_api.like.domain.MiniatureLike;
 import com.rlaqjant.miniature_backlog_api.like.dto.LikeResponse;
+import com.rlaqjant.miniature_backlog_api.like.repository.MiniatureLikeCommandRepository;
 import com.rlaqjant.miniature_backlog_api.like.repository.MiniatureLikeRepository;
-import com.rlaqjant.miniature_backlog_api.miniature.domain.Miniature;
-import com.rlaqjant.miniature_backlog_api.miniature.repository.MiniatureRepository;
+import com.rlaqjant.miniature_backlog_api.miniature.service.MiniatureOwnershipIndex;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Optional;
-
 /**
  * 미니어처 좋아요 서비스
  */
@@ -24,50 +21,55 @@ import java.util.Optional;
 public class MiniatureLikeService {
 
     private final MiniatureLikeRepository miniatureLikeRepository;
-    private final MiniatureRepository miniatureRepository;
+    private final MiniatureLikeCommandRepository miniatureLikeCommandRepository;
+    private final MiniatureOwnershipIndex miniatureOwnershipIndex;
 
     /**
-     * 좋아요 토글 (있으면 삭제, 없으면 생성)
+     * 좋아요 추가 (멱등, 이미 좋아요 상태면 변경 없음)
      */
     @Transactional
-    public LikeResponse toggleLike(Long userId, Long miniatureId) {
-        // 공개 미니어처 여부 검증
-        Miniature miniature = miniatureRepository.findByIdAndIsPublicTrue(miniatureId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.LIKE_NOT_PUBLIC_MINIATURE));
-
-        Optional<MiniatureLike> existingLike = miniatureLikeRepository
-                .findByUserIdAndMiniatureId(userId, miniatureId);
-
-        boolean liked;
-        if (existingLike.isPresent()) {
-            // 좋아요 취소
-            miniatureLikeRepository.delete(existingLike.get());
-            liked = false;
-            log.info("좋아요 취소: userId={}, miniatureId={}", userId, miniatureId);
-        } else {
-            // 좋아요 추가
-            MiniatureLike newLike = MiniatureLike.builder()
-                    .userId(userId)
-                    .miniatureId(miniatureId)
-                    .build();
-            miniatureLikeRepository.save(newLike);
-            liked = true;
-            log.info("좋아요 추가: userId={}, miniatureId={}", userId, miniatureId);
-        }
-
-        long likeCount = miniatureLikeRepository.countByMiniatureId(miniatureId);
+    public LikeResponse like(Long userId, Long miniatureId) {
+        validatePublic(miniatureId);
+        long likeCount = miniatureLikeCommandRepository.like(userId, miniatureId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.MINIATURE_NOT_FOUND));
+        log.info("좋아요 추가: userId={}, miniatureId={}", userId, miniatureId);
+        return LikeResponse.builder()
+                .liked(true)
+                .likeCount(likeCount)
+                .build();
+    }
 
+    /**
+     * 좋아요 취소 (멱등, 좋아요가 없으면 변경 없음)
+     */
+    @Transactional
+    public LikeResponse unlike(Long userId, Long miniatureId) {
+        validatePublic(miniatureId);
+        long likeCount = miniatureLikeCommandRepository.unlike(userId, miniatureId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.MINIATURE_NOT_FOUND));
+        log.info("좋아요 취소: userId={}, miniatureId={}", userId, miniatureId);
         return LikeResponse.builder()
-                .liked(liked)
+                .liked(false)
                 .likeCount(likeCount)
                 .build();
     }
 
     /**
-     * 좋아요 수 조회
+     * 좋아요 토글 (있으면 취소, 없으면 추가)
+     * 재시도 시 상태가 다시 뒤집히므로 클라이언트는 PUT/DELETE 사용 권장
+     */
+    @Transactional
+    public LikeResponse toggleLike(Long userId, Long miniatureId) {
+        return miniatureLikeRepository.existsByUserIdAndMiniatureId(userId, miniatureId)
+                ? unlike(userId, miniatureId)
+                : like(userId, miniatureId);
+    }
+
+    /**
+     * 좋아요 수 조회 (miniatures.like_count)
      */
     public long getLikeCount(Long miniatureId) {
-        return miniatureLikeRepository.countByMiniatureId(miniatureId);
+        return miniatureLikeCommandRepository.findLikeCount(miniatureId).orElse(0L);
     }
 
     /**
@@ -77,6 +79,13 @@ public class MiniatureLikeService {
         return miniatureLikeRepository.existsByUserIdAndMiniatureId(userId, miniatureId);
     }
 
+    // 공개 미니어처 여부 검증 (인메모리 인덱스)
+    private void validatePublic(Long miniatureId) {
+        if (!miniatureOwnershipIndex.isPublic(miniatureId)) {
+            throw new BusinessException(ErrorCode.LIKE_NOT_PUBLIC_MINIATURE);
+        }
+    }
+
     /**
      * 미니어처 삭제 시 좋아요 연쇄 삭제
      */
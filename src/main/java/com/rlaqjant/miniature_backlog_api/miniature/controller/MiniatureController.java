@@ -1,18 +1,25 @@
 package com.rlaqjant.miniature_backlog_api.miniature.controller;
 
 import com.rlaqjant.miniature_backlog_api.common.dto.ApiResponse;
+import com.rlaqjant.miniature_backlog_api.miniature.dto.MiniatureBoardResponse;
+import com.rlaqjant.miniature_backlog_api.miniature.dto.MiniatureBulkRequest;
+import com.rlaqjant.miniature_backlog_api.miniature.dto.MiniatureBulkResponse;
 import com.rlaqjant.miniature_backlog_api.miniature.dto.MiniatureCreateRequest;
 import com.rlaqjant.miniature_backlog_api.miniature.dto.MiniatureDetailResponse;
 import com.rlaqjant.miniature_backlog_api.miniature.dto.MiniatureResponse;
 import com.rlaqjant.miniature_backlog_api.miniature.dto.MiniatureStepUpdateRequest;
 import com.rlaqjant.miniature_backlog_api.miniature.dto.MiniatureUpdateRequest;
+import com.rlaqjant.miniature_backlog_api.miniature.service.MiniatureBulkService;
 import com.rlaqjant.miniature_backlog_api.miniature.service.MiniatureService;
 import com.rlaqjant.miniature_backlog_api.security.userdetails.CustomUserDetails;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -23,9 +30,11 @@ import java.util.List;
 @RestController
 @RequestMapping("/miniatures")
 @RequiredArgsConstructor
+@Validated
 public class MiniatureController {
 
     private final MiniatureService miniatureService;
+    private final MiniatureBulkService miniatureBulkService;
 
     /**
      * 내 백로그 목록 조회
@@ -40,6 +49,26 @@ public class MiniatureController {
         return ResponseEntity.ok(ApiResponse.success(miniatures));
     }
 
+    /**
+     * 내 백로그 보드 조회 (현재 단계별 컬럼 + 컬럼별 건수, 컬럼마다 커서 페이지)
+     * GET /miniatures/board?size={size}&title={title}&isPublic={true|false}
+     * GET /miniatures/board?column={step}&cursor={nextCursor}  (컬럼 이어서 조회)
+     */
+    @GetMapping("/board")
+    public ResponseEntity<ApiResponse<MiniatureBoardResponse>> getMyBoard(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestParam(required = false) String column,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") @Min(value = 1, message = "페이지 크기는 1 이상이어야 합니다.")
+            @Max(value = 100, message = "페이지 크기는 100 이하여야 합니다.") int size,
+            @RequestParam(required = false) String title,
+            @RequestParam(required = false) Boolean isPublic
+    ) {
+        MiniatureBoardResponse response = miniatureService.getMyBoard(
+                userDetails.getUserId(), column, cursor, size, title, isPublic);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
     /**
      * 백로그 생성
      * POST /miniatures
@@ -98,6 +127,19 @@ public class MiniatureController {
         return ResponseEntity.ok(ApiResponse.success());
     }
 
+    /**
+     * 미니어처 일괄 작업 (공개 여부 / 단계 이동 / 삭제), ID별 결과 반환
+     * POST /miniatures/bulk
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<ApiResponse<MiniatureBulkResponse>> bulk(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @Valid @RequestBody MiniatureBulkRequest request
+    ) {
+        MiniatureBulkResponse response = miniatureBulkService.execute(userDetails.getUserId(), request);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
     /**
      * 단계 일괄 변경 (칸반 드래그)
      * PATCH /miniatures/{id}/current-step
@@ -1,7 +1,9 @@
 package com.rlaqjant.miniature_backlog_api.miniature.domain;
 
+import com.rlaqjant.miniature_backlog_api.backlogitem.domain.StepState;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDateTime;
 
@@ -34,6 +36,44 @@ public class Miniature {
     @Builder.Default
     private Boolean isPublic = false;
 
+    // 단계 템플릿 (null = 기본 단계)
+    @Column(name = "step_template_id")
+    private Long stepTemplateId;
+
+    // 단계 상태 비트마스크 (i번째 비트 = i번째 단계)
+    @Column(name = "done_mask", nullable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    private Integer doneMask = 0;
+
+    @Column(name = "in_progress_mask", nullable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    private Integer inProgressMask = 0;
+
+    // 비트마스크에서 계산한 진행 상태 (보드 그룹/필터용, 단계 상태 변경 시 함께 갱신)
+    @Column(name = "current_step", nullable = false, length = 100)
+    @ColumnDefault("'시작전'")
+    @Builder.Default
+    private String currentStep = "시작전";
+
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    private Integer progress = 0;
+
+    // 좋아요 수 (좋아요 추가/취소 SQL이 함께 증감, 엔티티 수정 시 덮어쓰지 않도록 읽기 전용)
+    @Column(name = "like_count", nullable = false, insertable = false, updatable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    private Long likeCount = 0L;
+
+    // 낙관적 동시성 제어: 엔티티 수정 시 Hibernate가, 단계 변경(JPQL 조건부 UPDATE) 시 직접 증가
+    @Version
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private Long version;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
@@ -50,6 +90,10 @@ public class Miniature {
         if (isPublic != null) this.isPublic = isPublic;
     }
 
+    public StepState stepState() {
+        return new StepState(doneMask, inProgressMask);
+    }
+
     @PrePersist
     protected void onCreate() {
         this.createdAt = LocalDateTime.now();
@@ -0,0 +1,22 @@
+package com.rlaqjant.miniature_backlog_api.miniature.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 보드 컬럼 응답 DTO (현재 단계별 그룹)
+ * nextCursor로 해당 컬럼만 이어서 조회
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MiniatureBoardColumn {
+
+    private String step;
+    private long count;
+    private List<MiniatureResponse> items;
+    private boolean hasNext;
+    private String nextCursor;
+}
@@ -0,0 +1,39 @@
+package com.rlaqjant.miniature_backlog_api.miniature.dto;
+
+import com.rlaqjant.miniature_backlog_api.common.exception.BusinessException;
+import com.rlaqjant.miniature_backlog_api.common.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 보드 컬럼 커서 (마지막 행의 created_at, id)
+ * 정렬 키 (created_at DESC, id DESC)와 같은 순서로 이어서 조회, 클라이언트에는 불투명 문자열로 전달
+ */
+public record MiniatureBoardCursor(LocalDateTime createdAt, Long id) {
+
+    public String encode() {
+        String raw = createdAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws BusinessException 형식이 올바르지 않은 커서
+     */
+    public static MiniatureBoardCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf('|');
+            if (separator < 0) {
+                throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+            }
+            return new MiniatureBoardCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+    }
+}
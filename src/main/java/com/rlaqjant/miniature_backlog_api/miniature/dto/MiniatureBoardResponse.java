@@ -0,0 +1,17 @@
+package com.rlaqjant.miniature_backlog_api.miniature.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 내 백로그 보드 응답 DTO ("시작전" → 각 단계 → "완료" 순서의 컬럼 목록)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MiniatureBoardResponse {
+
+    private List<MiniatureBoardColumn> columns;
+}
@@ -0,0 +1,36 @@
+package com.rlaqjant.miniature_backlog_api.miniature.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 미니어처 일괄 작업 요청 DTO
+ * - VISIBILITY: isPublic 필수
+ * - STEP: currentStep 필수 ("시작전", 단계명, "완료")
+ * - DELETE
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MiniatureBulkRequest {
+
+    @NotEmpty(message = "대상 미니어처 ID는 필수입니다")
+    @Size(max = 100, message = "한 번에 최대 100개까지 처리할 수 있습니다")
+    private List<@NotNull Long> ids;
+
+    @NotNull(message = "작업 종류는 필수입니다")
+    private Operation operation;
+
+    private Boolean isPublic;
+
+    private String currentStep;
+
+    public enum Operation {
+        VISIBILITY, STEP, DELETE
+    }
+}
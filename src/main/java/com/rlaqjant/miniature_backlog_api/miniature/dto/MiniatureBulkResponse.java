@@ -0,0 +1,46 @@
+package com.rlaqjant.miniature_backlog_api.miniature.dto;
+
+import com.rlaqjant.miniature_backlog_api.common.exception.ErrorCode;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 미니어처 일괄 작업 응답 DTO (요청 ID 순서의 ID별 결과)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MiniatureBulkResponse {
+
+    private MiniatureBulkRequest.Operation operation;
+    private int succeeded;
+    private int failed;
+    private List<Result> results;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Result {
+
+        private Long id;
+        private boolean success;
+        private String errorCode;
+        private String message;
+
+        public static Result ok(Long id) {
+            return Result.builder().id(id).success(true).build();
+        }
+
+        public static Result fail(Long id, ErrorCode errorCode) {
+            return Result.builder()
+                    .id(id)
+                    .success(false)
+                    .errorCode(errorCode.getCode())
+                    .message(errorCode.getMessage())
+                    .build();
+        }
+    }
+}
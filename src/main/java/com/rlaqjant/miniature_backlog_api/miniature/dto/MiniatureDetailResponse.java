@@ -22,6 +22,7 @@ public class MiniatureDetailResponse {
     private Boolean isPublic;
     private Integer progress;
     private List<BacklogItemResponse> backlogItems;
+    private Long version;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
@@ -37,6 +38,7 @@ public class MiniatureDetailResponse {
                 .isPublic(miniature.getIsPublic())
                 .progress(progress)
                 .backlogItems(backlogItems)
+                .version(miniature.getVersion())
                 .createdAt(miniature.getCreatedAt())
                 .updatedAt(miniature.getUpdatedAt())
                 .build();
@@ -1,5 +1,6 @@
 package com.rlaqjant.miniature_backlog_api.miniature.dto;
 
+import com.rlaqjant.miniature_backlog_api.image.dto.ThumbnailInfo;
 import com.rlaqjant.miniature_backlog_api.miniature.domain.Miniature;
 import lombok.*;
 
@@ -20,22 +21,52 @@ public class MiniatureResponse {
     private Integer progress;
     private String currentStep;
     private String thumbnailUrl;
+    private Integer thumbnailWidth;
+    private Integer thumbnailHeight;
+    private String thumbnailBlurHash;
+    private Long version;  // 단계 변경 요청에 그대로 전달 (낙관적 동시성 제어)
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
     /**
-     * Entity + 진행률 + 현재 단계 + 썸네일 URL로 Response 생성
+     * Entity + 단계 변경 후 version + 진행률 + 현재 단계 + 썸네일 정보로 Response 생성
+     * 단계 변경은 JPQL 조건부 UPDATE로 처리되어 엔티티의 version이 갱신되지 않으므로 version을 따로 받음
      */
-    public static MiniatureResponse of(Miniature miniature, int progress, String currentStep, String thumbnailUrl) {
+    public static MiniatureResponse of(Miniature miniature, long version, int progress, String currentStep,
+                                       ThumbnailInfo thumbnail) {
         return MiniatureResponse.builder()
                 .id(miniature.getId())
                 .title(miniature.getTitle())
                 .isPublic(miniature.getIsPublic())
                 .progress(progress)
                 .currentStep(currentStep)
-                .thumbnailUrl(thumbnailUrl)
+                .thumbnailUrl(thumbnail != null ? thumbnail.url() : null)
+                .thumbnailWidth(thumbnail != null ? thumbnail.width() : null)
+                .thumbnailHeight(thumbnail != null ? thumbnail.height() : null)
+                .thumbnailBlurHash(thumbnail != null ? thumbnail.blurHash() : null)
+                .version(version)
                 .createdAt(miniature.getCreatedAt())
                 .updatedAt(miniature.getUpdatedAt())
                 .build();
     }
+
+    /**
+     * 목록 프로젝션 + 진행률 + 현재 단계 + 썸네일 정보로 Response 생성
+     */
+    public static MiniatureResponse of(MiniatureSummary summary, int progress, String currentStep, ThumbnailInfo thumbnail) {
+        return MiniatureResponse.builder()
+                .id(summary.id())
+                .title(summary.title())
+                .isPublic(summary.isPublic())
+                .progress(progress)
+                .currentStep(currentStep)
+                .thumbnailUrl(thumbnail != null ? thumbnail.url() : null)
+                .thumbnailWidth(thumbnail != null ? thumbnail.width() : null)
+                .thumbnailHeight(thumbnail != null ? thumbnail.height() : null)
+                .thumbnailBlurHash(thumbnail != null ? thumbnail.blurHash() : null)
+                .version(summary.version())
+                .createdAt(summary.createdAt())
+                .updatedAt(summary.updatedAt())
+                .build();
+    }
 }
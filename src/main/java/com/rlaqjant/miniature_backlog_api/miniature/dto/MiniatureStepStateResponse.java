@@ -0,0 +1,23 @@
+package com.rlaqjant.miniature_backlog_api.miniature.dto;
+
+import com.rlaqjant.miniature_backlog_api.backlogitem.dto.BacklogItemResponse;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 미니어처 단계 상태 응답 DTO (단계 변경 충돌 시 409 응답의 data)
+ * 보드 카드/상세 화면의 단계 상태를 재조회 없이 갱신하는 데 필요한 값만 포함
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MiniatureStepStateResponse {
+
+    private Long id;
+    private Long version;
+    private Integer progress;
+    private String currentStep;
+    private List<BacklogItemResponse> backlogItems;
+}
@@ -0,0 +1,22 @@
+package com.rlaqjant.miniature_backlog_api.miniature.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 미니어처 목록 조회용 읽기 전용 프로젝션
+ * 목록 화면에 필요한 컬럼만 생성자 표현식으로 조회 (엔티티 생성/영속성 컨텍스트 등록 없음)
+ * 진행률/현재 단계/좋아요 수는 miniatures에 저장된 값을 그대로 사용
+ */
+public record MiniatureSummary(
+        Long id,
+        Long userId,
+        String title,
+        Boolean isPublic,
+        Integer progress,
+        String currentStep,
+        Long likeCount,
+        Long version,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+}
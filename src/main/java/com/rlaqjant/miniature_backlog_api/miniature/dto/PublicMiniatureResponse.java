@@ -1,6 +1,6 @@
 package com.rlaqjant.miniature_backlog_api.miniature.dto;
 
-import com.rlaqjant.miniature_backlog_api.miniature.domain.Miniature;
+import com.rlaqjant.miniature_backlog_api.image.dto.ThumbnailInfo;
 import lombok.*;
 
 import java.time.LocalDateTime;
@@ -22,24 +22,30 @@ public class PublicMiniatureResponse {
     private Long likeCount;
     private Boolean liked;
     private String thumbnailUrl;
+    private Integer thumbnailWidth;
+    private Integer thumbnailHeight;
+    private String thumbnailBlurHash;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
     /**
-     * Entity + 진행률 + 작성자 닉네임 + 좋아요 정보 + 썸네일 URL로 Response 생성
+     * 목록 프로젝션 + 진행률 + 작성자 닉네임 + 좋아요 정보 + 썸네일 정보로 Response 생성
      */
-    public static PublicMiniatureResponse of(Miniature miniature, int progress, String userNickname, long likeCount, boolean liked, String thumbnailUrl) {
+    public static PublicMiniatureResponse of(MiniatureSummary miniature, int progress, String userNickname, long likeCount, boolean liked, ThumbnailInfo thumbnail) {
         return PublicMiniatureResponse.builder()
-                .id(miniature.getId())
-                .title(miniature.getTitle())
-                .isPublic(miniature.getIsPublic())
+                .id(miniature.id())
+                .title(miniature.title())
+                .isPublic(miniature.isPublic())
                 .progress(progress)
                 .userNickname(userNickname)
                 .likeCount(likeCount)
                 .liked(liked)
-                .thumbnailUrl(thumbnailUrl)
-                .createdAt(miniature.getCreatedAt())
-                .updatedAt(miniature.getUpdatedAt())
+                .thumbnailUrl(thumbnail != null ? thumbnail.url() : null)
+                .thumbnailWidth(thumbnail != null ? thumbnail.width() : null)
+                .thumbnailHeight(thumbnail != null ? thumbnail.height() : null)
+                .thumbnailBlurHash(thumbnail != null ? thumbnail.blurHash() : null)
+                .createdAt(miniature.createdAt())
+                .updatedAt(miniature.updatedAt())
                 .build();
     }
 }
@@ -0,0 +1,133 @@
+package com.rlaqjant.miniature_backlog_api.miniature.repository;
+
+import com.rlaqjant.miniature_backlog_api.miniature.dto.MiniatureBoardCursor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 내 백로그 보드 읽기 모델 (PostgreSQL)
+ * miniatures에 저장된 진행 상태(current_step, progress)로 그룹/필터하므로 backlog_items를 읽지 않음
+ * 컬럼/인덱스: db/miniatures_progress_state.sql
+ */
+@Repository
+@RequiredArgsConstructor
+public class MiniatureBoardRepository {
+
+    // 컬럼(단계)마다 (user_id, current_step, created_at DESC, id DESC) 인덱스를 LIMIT만큼만 읽음
+    private static final String COLUMN_PAGES_SQL = """
+            SELECT c.step, m.id, m.title, m.is_public, m.progress, m.version, m.created_at, m.updated_at
+            FROM unnest(CAST(ARRAY[:steps] AS varchar[])) WITH ORDINALITY AS c(step, ord)
+            CROSS JOIN LATERAL (
+                SELECT m.id, m.title, m.is_public, m.progress, m.version, m.created_at, m.updated_at
+                FROM miniatures m
+                WHERE m.user_id = :userId AND m.current_step = c.step%s
+                ORDER BY m.created_at DESC, m.id DESC
+                LIMIT :limit
+            ) m
+            ORDER BY c.ord, m.created_at DESC, m.id DESC
+            """;
+
+    private static final String COUNT_SQL = """
+            SELECT m.current_step, COUNT(*) AS cnt
+            FROM miniatures m
+            WHERE m.user_id = :userId AND m.current_step IN (:steps)%s
+            GROUP BY m.current_step
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * 보드 행 (컬럼 단계 + 목록 표시 컬럼)
+     */
+    public record BoardRow(String step, Long id, String title, Boolean isPublic, Integer progress, Long version,
+                           LocalDateTime createdAt, LocalDateTime updatedAt) {
+    }
+
+    /**
+     * 컬럼별 페이지를 한 번에 조회 (컬럼 순서 → 생성일 내림차순)
+     * @param cursor null이면 첫 페이지 (단일 컬럼 조회 시에만 사용)
+     * @param limit 컬럼당 최대 행 수
+     */
+    public List<BoardRow> findColumnPages(Long userId, List<String> steps, Filter filter,
+                                          MiniatureBoardCursor cursor, int limit) {
+        MapSqlParameterSource params = baseParams(userId, steps, filter).addValue("limit", limit);
+        StringBuilder conditions = new StringBuilder(filter.conditions());
+        if (cursor != null) {
+            conditions.append(" AND (m.created_at, m.id) < (:cursorCreatedAt, :cursorId)");
+            params.addValue("cursorCreatedAt", cursor.createdAt())
+                    .addValue("cursorId", cursor.id());
+        }
+
+        return jdbcTemplate.query(COLUMN_PAGES_SQL.formatted(conditions), params, (rs, rowNum) -> new BoardRow(
+                rs.getString("step"),
+                rs.getLong("id"),
+                rs.getString("title"),
+                rs.getBoolean("is_public"),
+                rs.getInt("progress"),
+                rs.getLong("version"),
+                rs.getObject("created_at", LocalDateTime.class),
+                rs.getObject("updated_at", LocalDateTime.class)));
+    }
+
+    /**
+     * 컬럼별 전체 건수 (필터 적용, 행이 없는 컬럼은 결과에 없음)
+     */
+    public Map<String, Long> countBySteps(Long userId, List<String> steps, Filter filter) {
+        Map<String, Long> counts = new HashMap<>();
+        jdbcTemplate.query(COUNT_SQL.formatted(filter.conditions()), baseParams(userId, steps, filter),
+                rs -> {
+                    counts.put(rs.getString("current_step"), rs.getLong("cnt"));
+                });
+        return counts;
+    }
+
+    private static MapSqlParameterSource baseParams(Long userId, List<String> steps, Filter filter) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("userId", userId)
+                .addValue("steps", steps);
+        if (filter.titlePattern() != null) {
+            params.addValue("title", filter.titlePattern());
+        }
+        if (filter.isPublic() != null) {
+            params.addValue("isPublic", filter.isPublic());
+        }
+        return params;
+    }
+
+    /**
+     * 보드 필터 (값이 있는 조건만 SQL에 추가하여 인덱스 사용 계획 유지)
+     * @param title 제목 부분 일치 (대소문자 무시, pg_trgm 인덱스)
+     * @param isPublic 공개 여부
+     */
+    public record Filter(String title, Boolean isPublic) {
+
+        String titlePattern() {
+            if (title == null || title.isBlank()) {
+                return null;
+            }
+            String escaped = title.strip()
+                    .replace("\\", "\\\\")
+                    .replace("%", "\\%")
+                    .replace("_", "\\_");
+            return "%" + escaped + "%";
+        }
+
+        String conditions() {
+            StringBuilder sql = new StringBuilder();
+            if (titlePattern() != null) {
+                sql.append(" AND m.title ILIKE :title");
+            }
+            if (isPublic != null) {
+                sql.append(" AND m.is_public = :isPublic");
+            }
+            return sql.toString();
+        }
+    }
+}
@@ -1,18 +1,23 @@
 package com.rlaqjant.miniature_backlog_api.miniature.repository;
 
 import com.rlaqjant.miniature_backlog_api.miniature.domain.Miniature;
+import com.rlaqjant.miniature_backlog_api.miniature.dto.MiniatureSummary;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 /**
  * 미니어처 Repository
+ * 목록 조회는 MiniatureSummary 프로젝션 반환 (엔티티 미적재)
  */
 @Repository
 public interface MiniatureRepository extends JpaRepository<Miniature, Long> {
@@ -20,12 +25,12 @@ public interface MiniatureRepository extends JpaRepository<Miniature, Long> {
     /**
      * 사용자 ID로 미니어처 목록 조회 (생성일 내림차순)
      */
-    List<Miniature> findByUserIdOrderByCreatedAtDesc(Long userId);
+    List<MiniatureSummary> findByUserIdOrderByCreatedAtDesc(Long userId);
 
     /**
      * 공개 미니어처 목록 조회 (수정일 내림차순, 페이지네이션)
      */
-    Page<Miniature> findByIsPublicTrueOrderByUpdatedAtDesc(Pageable pageable);
+    Page<MiniatureSummary> findByIsPublicTrueOrderByUpdatedAtDesc(Pageable pageable);
 
     /**
      * 공개 미니어처 단건 조회 (공개 상태 검증 포함)
@@ -35,7 +40,7 @@ public interface MiniatureRepository extends JpaRepository<Miniature, Long> {
     /**
      * 전체 미니어처 조회 (생성일 내림차순, 페이지네이션) - 관리자용
      */
-    Page<Miniature> findAllByOrderByCreatedAtDesc(Pageable pageable);
+    Page<MiniatureSummary> findAllByOrderByCreatedAtDesc(Pageable pageable);
 
     /**
      * 사용자별 미니어처 수 조회 - 관리자용
@@ -45,16 +50,106 @@ public interface MiniatureRepository extends JpaRepository<Miniature, Long> {
     /**
      * 제목으로 검색 (생성일 내림차순, 페이지네이션) - 관리자용
      */
-    Page<Miniature> findByTitleContainingIgnoreCaseOrderByCreatedAtDesc(String title, Pageable pageable);
+    Page<MiniatureSummary> findByTitleContainingIgnoreCaseOrderByCreatedAtDesc(String title, Pageable pageable);
 
     /**
      * userId 목록으로 검색 (생성일 내림차순, 페이지네이션) - 관리자용
      */
-    Page<Miniature> findByUserIdInOrderByCreatedAtDesc(List<Long> userIds, Pageable pageable);
+    Page<MiniatureSummary> findByUserIdInOrderByCreatedAtDesc(List<Long> userIds, Pageable pageable);
 
     /**
      * 제목 AND userId 목록으로 검색 (생성일 내림차순, 페이지네이션) - 관리자용
      */
-    @Query("SELECT m FROM Miniature m WHERE LOWER(m.title) LIKE LOWER(CONCAT('%', :title, '%')) AND m.userId IN :userIds ORDER BY m.createdAt DESC")
-    Page<Miniature> searchByTitleAndUserIds(@Param("title") String title, @Param("userIds") List<Long> userIds, Pageable pageable);
+    @Query(value = "SELECT new com.rlaqjant.miniature_backlog_api.miniature.dto.MiniatureSummary(m.id, m.userId, m.title, m.isPublic, m.progress, m.currentStep, m.likeCount, m.version, m.createdAt, m.updatedAt) "
+            + "FROM Miniature m WHERE LOWER(m.title) LIKE LOWER(CONCAT('%', :title, '%')) AND m.userId IN :userIds ORDER BY m.createdAt DESC",
+            countQuery = "SELECT COUNT(m) FROM Miniature m WHERE LOWER(m.title) LIKE LOWER(CONCAT('%', :title, '%')) AND m.userId IN :userIds")
+    Page<MiniatureSummary> searchByTitleAndUserIds(@Param("title") String title, @Param("userIds") List<Long> userIds, Pageable pageable);
+
+    /**
+     * 소유자/공개 여부만 조회 (권한 확인용, 엔티티 미적재)
+     * @return [userId, isPublic]
+     */
+    @Query("SELECT m.userId, m.isPublic FROM Miniature m WHERE m.id = :id")
+    List<Object[]> findOwnershipById(@Param("id") Long id);
+
+    /**
+     * 제목만 조회
+     */
+    @Query("SELECT m.title FROM Miniature m WHERE m.id = :id")
+    Optional<String> findTitleById(@Param("id") Long id);
+
+    /**
+     * ID 목록으로 제목만 조회
+     * @return [id, title]
+     */
+    @Query("SELECT m.id, m.title FROM Miniature m WHERE m.id IN :ids")
+    List<Object[]> findTitlesByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 단계 템플릿 + 상태 비트마스크 조회 (단계 상태 변경용, 엔티티 미적재)
+     * 영속성 컨텍스트를 거치지 않으므로 같은 트랜잭션에서도 최신 커밋 값을 읽음 (충돌 시 최신 상태 응답)
+     * @return [stepTemplateId, doneMask, inProgressMask, version]
+     */
+    @Query("SELECT m.stepTemplateId, m.doneMask, m.inProgressMask, m.version FROM Miniature m WHERE m.id = :id")
+    List<Object[]> findStepStateById(@Param("id") Long id);
+
+    /**
+     * 단계 상태 + 저장된 진행 상태 조건부 갱신 (version이 일치할 때만, version + 1)
+     * 단계 변경은 미니어처 수정으로 보지 않으므로 updated_at은 유지
+     * @return 0이면 다른 요청이 먼저 변경 (충돌)
+     */
+    @Modifying
+    @Query("UPDATE Miniature m SET m.doneMask = :doneMask, m.inProgressMask = :inProgressMask, "
+            + "m.progress = :progress, m.currentStep = :currentStep, m.version = m.version + 1 "
+            + "WHERE m.id = :id AND m.version = :version")
+    int updateStepState(@Param("id") Long id,
+                        @Param("version") long version,
+                        @Param("doneMask") int doneMask,
+                        @Param("inProgressMask") int inProgressMask,
+                        @Param("progress") int progress,
+                        @Param("currentStep") String currentStep);
+
+    /**
+     * 일괄 작업 대상 중 소유한 미니어처 ID (소유권 검증 1회)
+     */
+    @Query("SELECT m.id FROM Miniature m WHERE m.userId = :userId AND m.id IN :ids")
+    List<Long> findIdsByUserIdAndIdIn(@Param("userId") Long userId, @Param("ids") Collection<Long> ids);
+
+    /**
+     * 일괄 단계 이동 대상 중 소유한 미니어처의 단계 템플릿
+     * @return [id, stepTemplateId]
+     */
+    @Query("SELECT m.id, m.stepTemplateId FROM Miniature m WHERE m.userId = :userId AND m.id IN :ids")
+    List<Object[]> findStepTemplateIdsByUserIdAndIdIn(@Param("userId") Long userId, @Param("ids") Collection<Long> ids);
+
+    /**
+     * 공개 여부 일괄 변경 (벌크 UPDATE는 @PreUpdate를 거치지 않으므로 updated_at 직접 지정)
+     */
+    @Modifying
+    @Query("UPDATE Miniature m SET m.isPublic = :isPublic, m.updatedAt = :now, m.version = m.version + 1 "
+            + "WHERE m.userId = :userId AND m.id IN :ids")
+    int updateVisibilityByUserIdAndIdIn(@Param("userId") Long userId,
+                                        @Param("ids") Collection<Long> ids,
+                                        @Param("isPublic") boolean isPublic,
+                                        @Param("now") LocalDateTime now);
+
+    /**
+     * 단계 상태 일괄 갱신 (같은 템플릿, 같은 상태로 옮겨진 미니어처 묶음)
+     * 이전 상태와 무관한 절대 이동이므로 조건 없이 적용하고 version만 증가 (열려 있는 다른 화면은 다음 변경 시 409)
+     */
+    @Modifying
+    @Query("UPDATE Miniature m SET m.doneMask = :doneMask, m.inProgressMask = :inProgressMask, "
+            + "m.progress = :progress, m.currentStep = :currentStep, m.version = m.version + 1 WHERE m.id IN :ids")
+    int updateStepStateByIdIn(@Param("ids") Collection<Long> ids,
+                              @Param("doneMask") int doneMask,
+                              @Param("inProgressMask") int inProgressMask,
+                              @Param("progress") int progress,
+                              @Param("currentStep") String currentStep);
+
+    /**
+     * 미니어처 일괄 삭제 (하위 데이터는 먼저 삭제)
+     */
+    @Modifying
+    @Query("DELETE FROM Miniature m WHERE m.userId = :userId AND m.id IN :ids")
+    int deleteByUserIdAndIdIn(@Param("userId") Long userId, @Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,107 @@
+package com.rlaqjant.miniature_backlog_api.miniature.repository;
+
+import com.rlaqjant.miniature_backlog_api.miniature.dto.PublicMiniatureResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.UnaryOperator;
+
+/**
+ * 공개 미니어처 피드 읽기 모델 (PostgreSQL)
+ * 페이지 + 작성자 닉네임 + 좋아요 수/여부 + 진행률 + 최신 공개 썸네일을 SQL 1회로 조회
+ * 전체 건수는 필요한 경우에만 별도 COUNT로 조회
+ * 진행률은 miniatures.progress (단계 비트마스크에서 계산되어 저장된 값), 좋아요 수는 miniatures.like_count
+ * 엔티티를 영속성 컨텍스트에 올리지 않고 행을 바로 응답 DTO로 매핑
+ */
+@Repository
+@RequiredArgsConstructor
+public class PublicMiniatureFeedRepository {
+
+    // 페이지를 먼저 자른 뒤(page CTE) 해당 행에 대해서만 LATERAL 서브쿼리 실행
+    // page CTE에 전체 집합 대상 연산(윈도 함수 등)을 두지 않아야 공개 피드 인덱스 순서로 상위 N건만 읽음
+    private static final String FEED_SQL = """
+            WITH page AS (
+                SELECT m.id, m.user_id, m.title, m.is_public, m.progress, m.like_count, m.created_at, m.updated_at
+                FROM miniatures m
+                WHERE m.is_public = true
+                ORDER BY m.updated_at DESC, m.id DESC
+                LIMIT :limit OFFSET :offset
+            )
+            SELECT p.id, p.title, p.is_public, p.progress, p.created_at, p.updated_at,
+                   COALESCE(u.nickname, '') AS user_nickname,
+                   p.like_count,
+                   EXISTS (
+                       SELECT 1 FROM miniature_likes ml
+                       WHERE ml.miniature_id = p.id AND ml.user_id = CAST(:viewerId AS BIGINT)
+                   ) AS liked,
+                   thumb.object_key AS thumbnail_object_key,
+                   thumb.width AS thumbnail_width, thumb.height AS thumbnail_height,
+                   thumb.blur_hash AS thumbnail_blur_hash
+            FROM page p
+            LEFT JOIN users u ON u.id = p.user_id
+            LEFT JOIN LATERAL (
+                SELECT COALESCE(i.thumbnail_object_key, i.object_key) AS object_key,
+                       i.width, i.height, i.blur_hash
+                FROM images i
+                JOIN progress_logs pl ON pl.id = i.progress_log_id
+                WHERE pl.miniature_id = p.id AND pl.is_public = true
+                ORDER BY i.created_at DESC
+                LIMIT 1
+            ) thumb ON true
+            ORDER BY p.updated_at DESC, p.id DESC
+            """;
+
+    private static final String COUNT_SQL = "SELECT COUNT(*) FROM miniatures WHERE is_public = true";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * 공개 미니어처 피드 페이지 조회
+     * @param viewerId 현재 로그인 사용자 ID (null이면 비로그인, liked는 항상 false)
+     * @param thumbnailUrlResolver 썸네일 objectKey → 공개 URL 변환
+     */
+    public Page<PublicMiniatureResponse> findPage(Pageable pageable, Long viewerId,
+                                                  UnaryOperator<String> thumbnailUrlResolver) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("limit", pageable.getPageSize())
+                .addValue("offset", pageable.getOffset())
+                .addValue("viewerId", viewerId);
+
+        List<PublicMiniatureResponse> content =
+                jdbcTemplate.query(FEED_SQL, params, (rs, rowNum) -> mapRow(rs, thumbnailUrlResolver));
+
+        // 첫 페이지가 덜 찼거나 마지막 페이지이면 건수를 계산할 수 있으므로 COUNT 생략
+        return PageableExecutionUtils.getPage(content, pageable,
+                () -> jdbcTemplate.getJdbcTemplate().queryForObject(COUNT_SQL, Long.class));
+    }
+
+    private PublicMiniatureResponse mapRow(ResultSet rs, UnaryOperator<String> thumbnailUrlResolver)
+            throws SQLException {
+        String thumbnailObjectKey = rs.getString("thumbnail_object_key");
+
+        return PublicMiniatureResponse.builder()
+                .id(rs.getLong("id"))
+                .title(rs.getString("title"))
+                .isPublic(rs.getBoolean("is_public"))
+                .progress(rs.getInt("progress"))
+                .userNickname(rs.getString("user_nickname"))
+                .likeCount(rs.getLong("like_count"))
+                .liked(rs.getBoolean("liked"))
+                .thumbnailUrl(thumbnailObjectKey != null ? thumbnailUrlResolver.apply(thumbnailObjectKey) : null)
+                .thumbnailWidth(rs.getObject("thumbnail_width", Integer.class))
+                .thumbnailHeight(rs.getObject("thumbnail_height", Integer.class))
+                .thumbnailBlurHash(rs.getString("thumbnail_blur_hash"))
+                .createdAt(rs.getObject("created_at", LocalDateTime.class))
+                .updatedAt(rs.getObject("updated_at", LocalDateTime.class))
+                .build();
+    }
+}
@@ -0,0 +1,171 @@
+package com.rlaqjant.miniature_backlog_api.miniature.service;
+
+import com.rlaqjant.miniature_backlog_api.backlogitem.domain.StepState;
+import com.rlaqjant.miniature_backlog_api.backlogitem.service.StepTemplateRegistry;
+import com.rlaqjant.miniature_backlog_api.common.exception.BusinessException;
+import com.rlaqjant.miniature_backlog_api.common.exception.ErrorCode;
+import com.rlaqjant.miniature_backlog_api.image.repository.ImageRepository;
+import com.rlaqjant.miniature_backlog_api.image.service.ImageService;
+import com.rlaqjant.miniature_backlog_api.like.repository.MiniatureLikeRepository;
+import com.rlaqjant.miniature_backlog_api.miniature.dto.MiniatureBulkRequest;
+import com.rlaqjant.miniature_backlog_api.miniature.dto.MiniatureBulkResponse;
+import com.rlaqjant.miniature_backlog_api.miniature.repository.MiniatureRepository;
+import com.rlaqjant.miniature_backlog_api.progresslog.repository.ProgressLogArchiveRepository;
+import com.rlaqjant.miniature_backlog_api.progresslog.repository.ProgressLogRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 미니어처 일괄 작업 (공개 여부 / 단계 이동 / 삭제)
+ * 소유권은 한 번에 검증하고 (WHERE user_id = :me AND id IN (...)), 작업은 한 트랜잭션의 집합 단위 SQL로 실행
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MiniatureBulkService {
+
+    private final MiniatureRepository miniatureRepository;
+    private final StepTemplateRegistry stepTemplateRegistry;
+    private final ProgressLogRepository progressLogRepository;
+    private final ProgressLogArchiveRepository progressLogArchiveRepository;
+    private final ImageRepository imageRepository;
+    private final ImageService imageService;
+    private final MiniatureLikeRepository miniatureLikeRepository;
+    private final MiniatureOwnershipIndex miniatureOwnershipIndex;
+
+    // 보관(archive) 파티션 사용 여부 (삭제 시 보관 로그/이미지까지 정리)
+    @Value("${app.partition.archive.enabled:false}")
+    private boolean archiveEnabled;
+
+    /**
+     * 일괄 작업 실행
+     * 소유하지 않았거나 없는 ID, 대상 단계가 없는 미니어처는 실패로 표시하고 나머지는 처리
+     */
+    @Transactional
+    public MiniatureBulkResponse execute(Long userId, MiniatureBulkRequest request) {
+        validateRequest(request);
+        List<Long> ids = request.getIds().stream().distinct().toList();
+
+        // 1. 소유권 검증 (쿼리 1회)
+        Set<Long> owned = new LinkedHashSet<>(miniatureRepository.findIdsByUserIdAndIdIn(userId, ids));
+        Map<Long, ErrorCode> failures = new HashMap<>();
+        ids.stream()
+                .filter(id -> !owned.contains(id))
+                .forEach(id -> failures.put(id, ErrorCode.MINIATURE_NOT_FOUND));
+
+        // 2. 작업 실행
+        if (!owned.isEmpty()) {
+            switch (request.getOperation()) {
+                case VISIBILITY -> updateVisibility(userId, owned, request.getIsPublic());
+                case STEP -> moveToStep(userId, owned, request.getCurrentStep(), failures);
+                case DELETE -> delete(userId, owned);
+            }
+        }
+
+        // 3. 요청 순서대로 결과 구성
+        List<MiniatureBulkResponse.Result> results = ids.stream()
+                .map(id -> failures.containsKey(id)
+                        ? MiniatureBulkResponse.Result.fail(id, failures.get(id))
+                        : MiniatureBulkResponse.Result.ok(id))
+                .toList();
+
+        log.info("미니어처 일괄 작업: userId={}, operation={}, requested={}, failed={}",
+                userId, request.getOperation(), ids.size(), failures.size());
+
+        return MiniatureBulkResponse.builder()
+                .operation(request.getOperation())
+                .succeeded(ids.size() - failures.size())
+                .failed(failures.size())
+                .results(results)
+                .build();
+    }
+
+    private void validateRequest(MiniatureBulkRequest request) {
+        boolean missingValue = switch (request.getOperation()) {
+            case VISIBILITY -> request.getIsPublic() == null;
+            case STEP -> request.getCurrentStep() == null || request.getCurrentStep().isBlank();
+            case DELETE -> false;
+        };
+        if (missingValue) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+    }
+
+    private void updateVisibility(Long userId, Set<Long> ids, boolean isPublic) {
+        miniatureRepository.updateVisibilityByUserIdAndIdIn(userId, ids, isPublic, LocalDateTime.now());
+        ids.forEach(id -> miniatureOwnershipIndex.putAfterCommit(id, userId, isPublic));
+    }
+
+    /**
+     * 단계 이동: 옮긴 뒤 상태(비트마스크 + 진행 상태)가 같은 미니어처끼리 묶어 UPDATE (기본 단계만 쓰면 1회)
+     */
+    private void moveToStep(Long userId, Set<Long> ids, String targetStep, Map<Long, ErrorCode> failures) {
+        Map<MovedState, List<Long>> idsByState = new HashMap<>();
+        for (Object[] row : miniatureRepository.findStepTemplateIdsByUserIdAndIdIn(userId, ids)) {
+            Long id = (Long) row[0];
+            List<String> steps = stepTemplateRegistry.getSteps((Long) row[1]);
+            Integer targetIndex = findTargetIndex(steps, targetStep);
+            if (targetIndex == null) {
+                failures.put(id, ErrorCode.INVALID_INPUT_VALUE);
+                continue;
+            }
+            StepState state = StepState.movedTo(targetIndex, steps.size());
+            MovedState moved = new MovedState(state, state.progress(steps.size()), state.currentStep(steps));
+            idsByState.computeIfAbsent(moved, key -> new ArrayList<>()).add(id);
+        }
+
+        idsByState.forEach((moved, group) -> miniatureRepository.updateStepStateByIdIn(group,
+                moved.state().doneMask(), moved.state().inProgressMask(), moved.progress(), moved.currentStep()));
+    }
+
+    /**
+     * 대상 단계의 인덱스 (시작전: -1, 완료: 단계 수), 해당 단계가 없으면 null
+     */
+    private Integer findTargetIndex(List<String> steps, String targetStep) {
+        if (StepState.NOT_STARTED.equals(targetStep)) {
+            return -1;
+        }
+        if (StepState.COMPLETED.equals(targetStep)) {
+            return steps.size();
+        }
+        int index = steps.indexOf(targetStep);
+        return index < 0 ? null : index;
+    }
+
+    private record MovedState(StepState state, int progress, String currentStep) {
+    }
+
+    /**
+     * 연쇄 삭제 (Image → ProgressLog → MiniatureLike → Miniature), R2 삭제는 커밋 후 1회
+     */
+    private void delete(Long userId, Set<Long> ids) {
+        List<String> objectKeysToDelete = new ArrayList<>();
+        for (Object[] row : imageRepository.findObjectKeysByMiniatureIdIn(ids)) {
+            for (Object key : row) {
+                if (key != null) {
+                    objectKeysToDelete.add((String) key);
+                }
+            }
+        }
+
+        imageRepository.deleteByMiniatureIdIn(ids);
+        progressLogRepository.deleteByMiniatureIdIn(ids);
+        if (archiveEnabled) {
+            objectKeysToDelete.addAll(progressLogArchiveRepository.deleteArchivedByMiniatureIds(ids));
+        }
+        miniatureLikeRepository.deleteByMiniatureIdIn(ids);
+        miniatureRepository.deleteByUserIdAndIdIn(userId, ids);
+        ids.forEach(miniatureOwnershipIndex::removeAfterCommit);
+
+        // R2 오브젝트 삭제 (best-effort, 배치 전체를 한 번에)
+        if (!objectKeysToDelete.isEmpty()) {
+            imageService.deleteR2Objects(objectKeysToDelete);
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package com.rlaqjant.miniature_backlog_api.miniature.service;
+
+import com.rlaqjant.miniature_backlog_api.common.collection.LongLongHashMap;
+import com.rlaqjant.miniature_backlog_api.common.exception.BusinessException;
+import com.rlaqjant.miniature_backlog_api.common.exception.ErrorCode;
+import com.rlaqjant.miniature_backlog_api.common.invalidation.CacheInvalidationBus;
+import com.rlaqjant.miniature_backlog_api.common.invalidation.CacheInvalidationEvent;
+import com.rlaqjant.miniature_backlog_api.common.transaction.TransactionCallbacks;
+import com.rlaqjant.miniature_backlog_api.miniature.repository.MiniatureRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 미니어처 소유자/공개 여부 인메모리 인덱스
+ * 쓰기 API의 권한 확인을 엔티티 조회 없이 처리 (미스 시 소유자/공개 여부 두 컬럼만 조회 후 적재)
+ * 값은 (ownerId << 1 | isPublic) 하나의 long으로 저장하여 박싱 없음
+ * 생성/삭제/공개 여부 변경은 커밋 후 반영, 다른 인스턴스의 변경은 무효화 버스와 주기적 초기화로 보정
+ */
+@Slf4j
+@Component
+public class MiniatureOwnershipIndex {
+
+    private static final long MISSING = -1L;
+
+    private final MiniatureRepository miniatureRepository;
+    private final CacheInvalidationBus invalidationBus;
+    private final boolean enabled;
+    private final int maxEntries;
+
+    private final LongLongHashMap entries;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    // 변경 반영 시 증가: 조회 중 변경이 끼어들면 (옛 값일 수 있는) 조회 결과를 적재하지 않음
+    private long version = 0L;
+
+    public MiniatureOwnershipIndex(
+            MiniatureRepository miniatureRepository,
+            CacheInvalidationBus invalidationBus,
+            @Value("${app.miniature-ownership.enabled:true}") boolean enabled,
+            @Value("${app.miniature-ownership.max-entries:100000}") int maxEntries) {
+        this.miniatureRepository = miniatureRepository;
+        this.invalidationBus = invalidationBus;
+        this.enabled = enabled;
+        this.maxEntries = maxEntries;
+        this.entries = new LongLongHashMap(enabled ? Math.min(maxEntries, 1024) : 1);
+    }
+
+    /**
+     * 소유권 검증
+     * @throws BusinessException 미니어처가 없거나 (MINIATURE_NOT_FOUND) 소유자가 아닌 경우 (MINIATURE_ACCESS_DENIED)
+     */
+    public void validateOwner(Long miniatureId, Long userId) {
+        long packed = lookup(miniatureId);
+        if (packed == MISSING) {
+            throw new BusinessException(ErrorCode.MINIATURE_NOT_FOUND);
+        }
+        long ownerId = packed >>> 1;
+        if (ownerId != userId) {
+            log.warn("미니어처 접근 권한 없음: miniatureId={}, ownerId={}, requesterId={}",
+                    miniatureId, ownerId, userId);
+            throw new BusinessException(ErrorCode.MINIATURE_ACCESS_DENIED);
+        }
+    }
+
+    /**
+     * 공개 미니어처 여부 (없으면 false)
+     */
+    public boolean isPublic(Long miniatureId) {
+        long packed = lookup(miniatureId);
+        return packed != MISSING && (packed & 1L) == 1L;
+    }
+
+    /**
+     * 생성/공개 여부 변경 반영 (커밋 후)
+     */
+    public void putAfterCommit(Long miniatureId, Long ownerId, Boolean isPublic) {
+        long packed = pack(ownerId, Boolean.TRUE.equals(isPublic));
+        TransactionCallbacks.afterCommit(() -> update(miniatureId, packed));
+        invalidationBus.publishAfterCommit(CacheInvalidationEvent.MINIATURE, miniatureId);
+    }
+
+    /**
+     * 삭제 반영 (커밋 후)
+     */
+    public void removeAfterCommit(Long miniatureId) {
+        TransactionCallbacks.afterCommit(() -> update(miniatureId, MISSING));
+        invalidationBus.publishAfterCommit(CacheInvalidationEvent.MINIATURE, miniatureId);
+    }
+
+    /**
+     * 다른 인스턴스의 변경 반영 (해당 항목 제거 후 다음 조회 시 재적재)
+     */
+    @EventListener
+    public void onInvalidation(CacheInvalidationEvent event) {
+        if (event.isFlushAll()) {
+            reset();
+        } else if (event.targets(CacheInvalidationEvent.MINIATURE)) {
+            update(event.id(), MISSING);
+        }
+    }
+
+    /**
+     * 주기적 초기화 (다른 인스턴스에서의 공개 여부 변경/삭제 반영)
+     */
+    @Scheduled(initialDelayString = "${app.miniature-ownership.reset-interval-ms:600000}",
+            fixedDelayString = "${app.miniature-ownership.reset-interval-ms:600000}")
+    public void reset() {
+        lock.writeLock().lock();
+        try {
+            entries.clear();
+            version++;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private long lookup(Long miniatureId) {
+        if (!enabled) {
+            return load(miniatureId);
+        }
+
+        long observedVersion;
+        lock.readLock().lock();
+        try {
+            long packed = entries.get(miniatureId, MISSING);
+            if (packed != MISSING) {
+                return packed;
+            }
+            observedVersion = version;
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        long packed = load(miniatureId);
+        if (packed == MISSING) {
+            return MISSING;
+        }
+
+        lock.writeLock().lock();
+        try {
+            if (version == observedVersion) {
+                if (entries.size() >= maxEntries) {
+                    // 상한 도달 시 전체 비우고 다시 채움 (접근 순서 추적 비용 없이 메모리 상한 유지)
+                    entries.clear();
+                    log.info("미니어처 소유권 인덱스 상한 도달로 초기화: maxEntries={}", maxEntries);
+                }
+                entries.put(miniatureId, packed);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        return packed;
+    }
+
+    private long load(Long miniatureId) {
+        List<Object[]> rows = miniatureRepository.findOwnershipById(miniatureId);
+        if (rows.isEmpty()) {
+            return MISSING;
+        }
+        Object[] row = rows.get(0);
+        return pack((Long) row[0], Boolean.TRUE.equals(row[1]));
+    }
+
+    private void update(Long miniatureId, long packed) {
+        if (!enabled) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (packed == MISSING) {
+                entries.remove(miniatureId);
+            } else if (entries.containsKey(miniatureId) || entries.size() < maxEntries) {
+                entries.put(miniatureId, packed);
+            }
+            version++;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static long pack(Long ownerId, boolean isPublic) {
+        return (ownerId << 1) | (isPublic ? 1L : 0L);
+    }
+}
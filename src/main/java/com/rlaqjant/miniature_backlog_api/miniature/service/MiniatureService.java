@@ -1,24 +1,28 @@
 package com.rlaqjant.miniature_backlog_api.miniature.service;
 
-import com.rlaqjant.miniature_backlog_api.backlogitem.domain.BacklogItem;
-import com.rlaqjant.miniature_backlog_api.backlogitem.domain.BacklogItemStatus;
+import com.rlaqjant.miniature_backlog_api.backlogitem.domain.StepState;
+import com.rlaqjant.miniature_backlog_api.backlogitem.domain.StepTemplate;
 import com.rlaqjant.miniature_backlog_api.backlogitem.dto.BacklogItemResponse;
-import com.rlaqjant.miniature_backlog_api.backlogitem.repository.BacklogItemRepository;
+import com.rlaqjant.miniature_backlog_api.backlogitem.service.StepTemplateRegistry;
 import com.rlaqjant.miniature_backlog_api.common.exception.BusinessException;
 import com.rlaqjant.miniature_backlog_api.common.exception.ErrorCode;
 import com.rlaqjant.miniature_backlog_api.image.domain.Image;
+import com.rlaqjant.miniature_backlog_api.image.dto.ThumbnailInfo;
 import com.rlaqjant.miniature_backlog_api.image.repository.ImageRepository;
 import com.rlaqjant.miniature_backlog_api.image.service.ImageService;
 import com.rlaqjant.miniature_backlog_api.like.repository.MiniatureLikeRepository;
 import com.rlaqjant.miniature_backlog_api.miniature.domain.Miniature;
 import com.rlaqjant.miniature_backlog_api.miniature.dto.*;
+import com.rlaqjant.miniature_backlog_api.miniature.repository.MiniatureBoardRepository;
 import com.rlaqjant.miniature_backlog_api.miniature.repository.MiniatureRepository;
+import com.rlaqjant.miniature_backlog_api.miniature.repository.PublicMiniatureFeedRepository;
 import com.rlaqjant.miniature_backlog_api.progresslog.domain.ProgressLog;
+import com.rlaqjant.miniature_backlog_api.progresslog.repository.ProgressLogArchiveRepository;
 import com.rlaqjant.miniature_backlog_api.progresslog.repository.ProgressLogRepository;
-import com.rlaqjant.miniature_backlog_api.user.domain.User;
-import com.rlaqjant.miniature_backlog_api.user.repository.UserRepository;
+import com.rlaqjant.miniature_backlog_api.user.service.UserNicknameDirectory;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -38,51 +42,109 @@ import java.util.stream.Collectors;
 public class MiniatureService {
 
     private final MiniatureRepository miniatureRepository;
-    private final BacklogItemRepository backlogItemRepository;
+    private final StepTemplateRegistry stepTemplateRegistry;
+    private final MiniatureStepStateStore miniatureStepStateStore;
     private final ProgressLogRepository progressLogRepository;
     private final ImageRepository imageRepository;
     private final ImageService imageService;
-    private final UserRepository userRepository;
+    private final UserNicknameDirectory userNicknameDirectory;
     private final MiniatureLikeRepository miniatureLikeRepository;
-
-    // 기본 백로그 항목 이름
-    private static final List<String> DEFAULT_BACKLOG_STEPS = Arrays.asList(
-            "언박싱",
-            "조립",
-            "프라이밍",
-            "도색",
-            "마무리"
-    );
+    private final MiniatureOwnershipIndex miniatureOwnershipIndex;
+    private final PublicMiniatureFeedRepository publicMiniatureFeedRepository;
+    private final MiniatureBoardRepository miniatureBoardRepository;
+    private final ProgressLogArchiveRepository progressLogArchiveRepository;
+
+    // 공개 피드 단일 SQL 읽기 모델 사용 여부 (false면 기존 일괄 조회 경로)
+    @Value("${app.feed.single-query.enabled:true}")
+    private boolean feedSingleQueryEnabled;
+
+    // 보관(archive) 파티션 사용 여부 (삭제 시 보관 로그/이미지까지 정리)
+    @Value("${app.partition.archive.enabled:false}")
+    private boolean archiveEnabled;
+
+    // 보드 컬럼: 시작전 → 각 단계 → 완료
+    // 마지막 단계까지 연속 DONE이면 "완료"이므로 마지막 단계 이름은 현재 단계가 될 수 없음
+    private static final List<String> BOARD_COLUMNS = boardColumns();
+
+    private static List<String> boardColumns() {
+        List<String> columns = new ArrayList<>();
+        List<String> defaultSteps = StepTemplate.DEFAULT_STEP_NAMES;
+        columns.add(StepState.NOT_STARTED);
+        columns.addAll(defaultSteps.subList(0, defaultSteps.size() - 1));
+        columns.add(StepState.COMPLETED);
+        return List.copyOf(columns);
+    }
 
     /**
-     * 내 백로그 목록 조회 (N+1 → 일괄 조회 최적화)
+     * 내 백로그 목록 조회 (진행 상태는 저장된 컬럼 사용, 썸네일만 일괄 조회)
      */
     public List<MiniatureResponse> getMyMiniatures(Long userId) {
-        List<Miniature> miniatures = miniatureRepository.findByUserIdOrderByCreatedAtDesc(userId);
+        List<MiniatureSummary> miniatures = miniatureRepository.findByUserIdOrderByCreatedAtDesc(userId);
 
-        // 미니어처 ID 목록으로 backlogItem 일괄 조회
         List<Long> miniatureIds = miniatures.stream()
-                .map(Miniature::getId)
+                .map(MiniatureSummary::id)
                 .toList();
 
-        Map<Long, List<BacklogItem>> backlogItemsMap = backlogItemRepository
-                .findByMiniatureIdInOrderByMiniatureIdAscOrderIndexAsc(miniatureIds)
-                .stream()
-                .collect(Collectors.groupingBy(BacklogItem::getMiniatureId));
-
         // 미니어처별 최신 썸네일 일괄 조회
-        Map<Long, String> thumbnailMap = buildThumbnailMap(miniatureIds, false);
+        Map<Long, ThumbnailInfo> thumbnailMap = buildThumbnailMap(miniatureIds, false);
 
         return miniatures.stream()
-                .map(miniature -> {
-                    List<BacklogItem> items = backlogItemsMap.getOrDefault(
-                            miniature.getId(), Collections.emptyList());
-                    int progress = calculateProgressFromItems(items);
-                    String currentStep = calculateCurrentStep(items);
-                    String thumbnailUrl = thumbnailMap.get(miniature.getId());
-                    return MiniatureResponse.of(miniature, progress, currentStep, thumbnailUrl);
+                .map(miniature -> MiniatureResponse.of(miniature, miniature.progress(), miniature.currentStep(),
+                        thumbnailMap.get(miniature.id())))
+                .toList();
+    }
+
+    /**
+     * 내 백로그 보드 조회 (현재 단계별 컬럼, 컬럼마다 커서 페이지)
+     * @param column null이면 모든 컬럼의 첫 페이지, 지정하면 해당 컬럼만 cursor 이후 페이지
+     * @param cursor 이전 응답의 컬럼 nextCursor (column 지정 시에만)
+     */
+    public MiniatureBoardResponse getMyBoard(Long userId, String column, String cursor, int size,
+                                             String title, Boolean isPublic) {
+        if (column != null && !BOARD_COLUMNS.contains(column)) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+        if (cursor != null && column == null) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+        List<String> steps = column != null ? List.of(column) : BOARD_COLUMNS;
+        MiniatureBoardCursor after = cursor != null ? MiniatureBoardCursor.decode(cursor) : null;
+        MiniatureBoardRepository.Filter filter = new MiniatureBoardRepository.Filter(title, isPublic);
+
+        // 컬럼당 size + 1건 조회하여 다음 페이지 여부 판단
+        Map<String, Long> counts = miniatureBoardRepository.countBySteps(userId, steps, filter);
+        Map<String, List<MiniatureBoardRepository.BoardRow>> rowsByStep = miniatureBoardRepository
+                .findColumnPages(userId, steps, filter, after, size + 1).stream()
+                .collect(Collectors.groupingBy(MiniatureBoardRepository.BoardRow::step));
+
+        // 화면에 나가는 행의 썸네일만 일괄 조회
+        List<Long> miniatureIds = rowsByStep.values().stream()
+                .flatMap(rows -> rows.stream().limit(size))
+                .map(MiniatureBoardRepository.BoardRow::id)
+                .toList();
+        Map<Long, ThumbnailInfo> thumbnailMap = buildThumbnailMap(miniatureIds, false);
+
+        List<MiniatureBoardColumn> columns = steps.stream()
+                .map(step -> {
+                    List<MiniatureBoardRepository.BoardRow> rows = rowsByStep.getOrDefault(step, Collections.emptyList());
+                    boolean hasNext = rows.size() > size;
+                    List<MiniatureBoardRepository.BoardRow> page = hasNext ? rows.subList(0, size) : rows;
+                    MiniatureBoardRepository.BoardRow last = page.isEmpty() ? null : page.get(page.size() - 1);
+                    return MiniatureBoardColumn.builder()
+                            .step(step)
+                            .count(counts.getOrDefault(step, 0L))
+                            .items(page.stream()
+                                    .map(row -> toBoardItem(row, thumbnailMap.get(row.id())))
+                                    .toList())
+                            .hasNext(hasNext)
+                            .nextCursor(hasNext ? new MiniatureBoardCursor(last.createdAt(), last.id()).encode() : null)
+                            .build();
                 })
                 .toList();
+
+        return MiniatureBoardResponse.builder()
+                .columns(columns)
+                .build();
     }
 
     /**
@@ -98,17 +160,11 @@ public class MiniatureService {
                 .build();
 
         Miniature savedMiniature = miniatureRepository.save(miniature);
+        miniatureOwnershipIndex.putAfterCommit(savedMiniature.getId(), userId, savedMiniature.getIsPublic());
         log.info("미니어처 생성 완료: id={}, userId={}", savedMiniature.getId(), userId);
 
-        // 2. 기본 BacklogItem 생성
-        List<BacklogItem> backlogItems = createDefaultBacklogItems(savedMiniature.getId());
-
-        // 3. Response 생성
-        List<BacklogItemResponse> backlogItemResponses = backlogItems.stream()
-                .map(BacklogItemResponse::from)
-                .toList();
-
-        return MiniatureDetailResponse.of(savedMiniature, 0, backlogItemResponses);
+        // 2. Response 생성 (기본 단계 템플릿, 전부 TODO)
+        return MiniatureDetailResponse.of(savedMiniature, 0, toBacklogItemResponses(savedMiniature));
     }
 
     /**
@@ -122,18 +178,8 @@ public class MiniatureService {
         // 2. 소유권 검증
         validateOwnership(miniature, userId);
 
-        // 3. BacklogItem 조회
-        List<BacklogItem> backlogItems = backlogItemRepository
-                .findByMiniatureIdOrderByOrderIndexAsc(miniatureId);
-
-        List<BacklogItemResponse> backlogItemResponses = backlogItems.stream()
-                .map(BacklogItemResponse::from)
-                .toList();
-
-        // 4. 진행률 계산
-        int progress = calculateProgress(miniatureId);
-
-        return MiniatureDetailResponse.of(miniature, progress, backlogItemResponses);
+        // 3. 단계 템플릿 + 비트마스크 → 백로그 항목
+        return MiniatureDetailResponse.of(miniature, miniature.getProgress(), toBacklogItemResponses(miniature));
     }
 
     /**
@@ -146,19 +192,17 @@ public class MiniatureService {
         validateOwnership(miniature, userId);
 
         miniature.update(request.getTitle(), request.getDescription(), request.getIsPublic());
+        if (request.getIsPublic() != null) {
+            miniatureOwnershipIndex.putAfterCommit(miniatureId, miniature.getUserId(), miniature.getIsPublic());
+        }
+        // @Version 증가를 응답에 반영 (동시 단계 변경과 충돌하면 여기서 409)
+        miniatureRepository.flush();
 
-        List<BacklogItem> backlogItems = backlogItemRepository
-                .findByMiniatureIdOrderByOrderIndexAsc(miniatureId);
-        List<BacklogItemResponse> backlogItemResponses = backlogItems.stream()
-                .map(BacklogItemResponse::from)
-                .toList();
-        int progress = calculateProgress(miniatureId);
-
-        return MiniatureDetailResponse.of(miniature, progress, backlogItemResponses);
+        return MiniatureDetailResponse.of(miniature, miniature.getProgress(), toBacklogItemResponses(miniature));
     }
 
     /**
-     * 백로그 삭제 (연쇄 삭제: Image → ProgressLog → BacklogItem → Miniature)
+     * 백로그 삭제 (연쇄 삭제: Image → ProgressLog → MiniatureLike → Miniature)
      */
     @Transactional
     public void deleteMiniature(Long miniatureId, Long userId) {
@@ -178,24 +222,25 @@ public class MiniatureService {
         if (!progressLogIds.isEmpty()) {
             List<Image> images = imageRepository.findByProgressLogIdIn(progressLogIds);
             objectKeysToDelete = images.stream()
-                    .map(Image::getObjectKey)
-                    .toList();
+                    .flatMap(image -> image.getAllObjectKeys().stream())
+                    .collect(Collectors.toCollection(ArrayList::new));
 
             // 4-1. DB 삭제: Image
             imageRepository.deleteByProgressLogIdIn(progressLogIds);
         }
 
-        // 4-2. DB 삭제: ProgressLog
+        // 4-2. DB 삭제: ProgressLog (보관 모드면 보관 파티션의 로그/이미지도 삭제)
         progressLogRepository.deleteByMiniatureId(miniatureId);
+        if (archiveEnabled) {
+            objectKeysToDelete.addAll(progressLogArchiveRepository.deleteArchivedByMiniatureId(miniatureId));
+        }
 
-        // 4-3. DB 삭제: BacklogItem
-        backlogItemRepository.deleteByMiniatureId(miniatureId);
-
-        // 4-4. DB 삭제: MiniatureLike
+        // 4-3. DB 삭제: MiniatureLike
         miniatureLikeRepository.deleteByMiniatureId(miniatureId);
 
-        // 4-5. DB 삭제: Miniature
+        // 4-4. DB 삭제: Miniature (단계 상태는 미니어처 행에 포함)
         miniatureRepository.delete(miniature);
+        miniatureOwnershipIndex.removeAfterCommit(miniatureId);
 
         // 5. R2 오브젝트 삭제 (best-effort, 실패해도 DB 삭제 유지)
         if (!objectKeysToDelete.isEmpty()) {
@@ -225,15 +270,18 @@ public class MiniatureService {
         if (!progressLogIds.isEmpty()) {
             List<Image> images = imageRepository.findByProgressLogIdIn(progressLogIds);
             objectKeysToDelete = images.stream()
-                    .map(Image::getObjectKey)
-                    .toList();
+                    .flatMap(image -> image.getAllObjectKeys().stream())
+                    .collect(Collectors.toCollection(ArrayList::new));
             imageRepository.deleteByProgressLogIdIn(progressLogIds);
         }
 
         progressLogRepository.deleteByMiniatureId(miniatureId);
-        backlogItemRepository.deleteByMiniatureId(miniatureId);
+        if (archiveEnabled) {
+            objectKeysToDelete.addAll(progressLogArchiveRepository.deleteArchivedByMiniatureId(miniatureId));
+        }
         miniatureLikeRepository.deleteByMiniatureId(miniatureId);
         miniatureRepository.delete(miniature);
+        miniatureOwnershipIndex.removeAfterCommit(miniatureId);
 
         // R2 오브젝트 삭제 (best-effort)
         if (!objectKeysToDelete.isEmpty()) {
@@ -249,29 +297,39 @@ public class MiniatureService {
      * @param userId 현재 로그인 사용자 ID (null이면 비로그인)
      */
     public PublicMiniaturePageResponse getPublicMiniatures(int page, int size, Long userId) {
+        return feedSingleQueryEnabled
+                ? getPublicMiniaturesSingleQuery(page, size, userId)
+                : getPublicMiniaturesBatched(page, size, userId);
+    }
+
+    /**
+     * 공개 미니어처 목록 조회 - 단일 SQL 읽기 모델 (엔티티 미적재)
+     */
+    PublicMiniaturePageResponse getPublicMiniaturesSingleQuery(int page, int size, Long userId) {
+        Page<PublicMiniatureResponse> responsePage = publicMiniatureFeedRepository
+                .findPage(PageRequest.of(page, size), userId, imageService::generatePublicUrl);
+        return PublicMiniaturePageResponse.from(responsePage);
+    }
+
+    /**
+     * 공개 미니어처 목록 조회 - 엔티티 페이지 + 부가 정보 일괄 조회
+     */
+    PublicMiniaturePageResponse getPublicMiniaturesBatched(int page, int size, Long userId) {
         Pageable pageable = PageRequest.of(page, size);
-        Page<Miniature> miniatures = miniatureRepository.findByIsPublicTrueOrderByUpdatedAtDesc(pageable);
+        Page<MiniatureSummary> miniatures = miniatureRepository.findByIsPublicTrueOrderByUpdatedAtDesc(pageable);
 
         // 사용자 ID 수집 및 일괄 조회
         Set<Long> userIds = miniatures.getContent().stream()
-                .map(Miniature::getUserId)
+                .map(MiniatureSummary::userId)
                 .collect(Collectors.toSet());
 
-        Map<Long, String> userNicknames = userRepository.findAllById(userIds).stream()
-                .collect(Collectors.toMap(User::getId, User::getNickname));
+        Map<Long, String> userNicknames = userNicknameDirectory.getAll(userIds);
 
         // 미니어처 ID 목록
         List<Long> miniatureIds = miniatures.getContent().stream()
-                .map(Miniature::getId)
+                .map(MiniatureSummary::id)
                 .toList();
 
-        // 좋아요 수 일괄 조회 (N+1 방지)
-        Map<Long, Long> likeCountMap = new HashMap<>();
-        if (!miniatureIds.isEmpty()) {
-            miniatureLikeRepository.countByMiniatureIdIn(miniatureIds)
-                    .forEach(row -> likeCountMap.put((Long) row[0], (Long) row[1]));
-        }
-
         // 사용자가 좋아요한 미니어처 목록 일괄 조회
         Set<Long> likedMiniatureIds = new HashSet<>();
         if (userId != null && !miniatureIds.isEmpty()) {
@@ -281,16 +339,16 @@ public class MiniatureService {
         }
 
         // 미니어처별 최신 공개 썸네일 일괄 조회
-        Map<Long, String> thumbnailMap = buildThumbnailMap(miniatureIds, true);
+        Map<Long, ThumbnailInfo> thumbnailMap = buildThumbnailMap(miniatureIds, true);
 
         // Response 변환
         Page<PublicMiniatureResponse> responsePage = miniatures.map(miniature -> {
-            int progress = calculateProgress(miniature.getId());
-            String nickname = userNicknames.getOrDefault(miniature.getUserId(), "");
-            long likeCount = likeCountMap.getOrDefault(miniature.getId(), 0L);
-            boolean liked = likedMiniatureIds.contains(miniature.getId());
-            String thumbnailUrl = thumbnailMap.get(miniature.getId());
-            return PublicMiniatureResponse.of(miniature, progress, nickname, likeCount, liked, thumbnailUrl);
+            String nickname = userNicknames.getOrDefault(miniature.userId(), "");
+            // 좋아요 수는 프로젝션의 miniatures.like_count (좋아요 행 COUNT 없음)
+            long likeCount = miniature.likeCount();
+            boolean liked = likedMiniatureIds.contains(miniature.id());
+            ThumbnailInfo thumbnail = thumbnailMap.get(miniature.id());
+            return PublicMiniatureResponse.of(miniature, miniature.progress(), nickname, likeCount, liked, thumbnail);
         });
 
         return PublicMiniaturePageResponse.from(responsePage);
@@ -306,44 +364,22 @@ public class MiniatureService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.MINIATURE_NOT_FOUND));
 
         // 2. 사용자 닉네임 조회
-        User user = userRepository.findById(miniature.getUserId())
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
-
-        // 3. BacklogItem 조회
-        List<BacklogItem> backlogItems = backlogItemRepository
-                .findByMiniatureIdOrderByOrderIndexAsc(miniatureId);
-
-        List<BacklogItemResponse> backlogItemResponses = backlogItems.stream()
-                .map(BacklogItemResponse::from)
-                .toList();
-
-        // 4. 진행률 계산
-        int progress = calculateProgress(miniatureId);
+        String nickname = userNicknameDirectory.get(miniature.getUserId());
 
-        // 5. 좋아요 정보 조회
-        long likeCount = miniatureLikeRepository.countByMiniatureId(miniatureId);
+        // 3. 좋아요 정보 조회
+        long likeCount = miniature.getLikeCount();
         boolean liked = userId != null && miniatureLikeRepository.existsByUserIdAndMiniatureId(userId, miniatureId);
 
-        return PublicMiniatureDetailResponse.of(miniature, progress, user.getNickname(), backlogItemResponses, likeCount, liked);
+        return PublicMiniatureDetailResponse.of(miniature, miniature.getProgress(), nickname,
+                toBacklogItemResponses(miniature), likeCount, liked);
     }
 
     /**
-     * 기본 백로그 항목 생성
+     * 단계 템플릿 + 비트마스크 → 백로그 항목 응답 (orderIndex 오름차순)
      */
-    private List<BacklogItem> createDefaultBacklogItems(Long miniatureId) {
-        List<BacklogItem> items = new ArrayList<>();
-
-        for (int i = 0; i < DEFAULT_BACKLOG_STEPS.size(); i++) {
-            BacklogItem item = BacklogItem.builder()
-                    .miniatureId(miniatureId)
-                    .stepName(DEFAULT_BACKLOG_STEPS.get(i))
-                    .status(BacklogItemStatus.TODO)
-                    .orderIndex(i)
-                    .build();
-            items.add(item);
-        }
-
-        return backlogItemRepository.saveAll(items);
+    private List<BacklogItemResponse> toBacklogItemResponses(Miniature miniature) {
+        return BacklogItemResponse.listOf(miniature.getId(),
+                stepTemplateRegistry.getSteps(miniature.getStepTemplateId()), miniature.stepState());
     }
 
     /**
@@ -351,115 +387,41 @@ public class MiniatureService {
      */
     @Transactional
     public MiniatureResponse updateCurrentStep(Long miniatureId, Long userId, MiniatureStepUpdateRequest request) {
-        // 1. Miniature 조회 + 소유권 검증
+        // 1. 소유권 검증 (인덱스 조회) 후 응답에 필요한 Miniature 조회 (이 트랜잭션의 첫 적재이므로 현재 단계 상태도 최신)
+        miniatureOwnershipIndex.validateOwner(miniatureId, userId);
         Miniature miniature = miniatureRepository.findById(miniatureId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.MINIATURE_NOT_FOUND));
-        validateOwnership(miniature, userId);
+        MiniatureStepStateStore.Snapshot snapshot = miniatureStepStateStore.of(miniature);
 
-        // 2. 모든 backlogItem 조회
-        List<BacklogItem> items = backlogItemRepository
-                .findByMiniatureIdOrderByOrderIndexAsc(miniatureId);
-
-        // 3. 단계에 따라 일괄 상태 변경
+        // 2. 단계 위치 → 비트마스크 (해당 step 이하 DONE, 이후 TODO)
+        List<String> steps = snapshot.steps();
         String targetStep = request.getCurrentStep();
-        if ("시작전".equals(targetStep)) {
-            // 전부 TODO
-            items.forEach(item -> item.updateStatus(BacklogItemStatus.TODO));
-        } else if ("완료".equals(targetStep)) {
-            // 전부 DONE
-            items.forEach(item -> item.updateStatus(BacklogItemStatus.DONE));
+        int targetIndex;
+        if (StepState.NOT_STARTED.equals(targetStep)) {
+            targetIndex = -1;
+        } else if (StepState.COMPLETED.equals(targetStep)) {
+            targetIndex = steps.size();
         } else {
-            // 해당 step 이하 DONE, 이후 TODO
-            int targetIndex = -1;
-            for (BacklogItem item : items) {
-                if (item.getStepName().equals(targetStep)) {
-                    targetIndex = item.getOrderIndex();
-                    break;
-                }
-            }
+            targetIndex = steps.indexOf(targetStep);
             if (targetIndex < 0) {
                 throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
             }
-            for (BacklogItem item : items) {
-                if (item.getOrderIndex() <= targetIndex) {
-                    item.updateStatus(BacklogItemStatus.DONE);
-                } else {
-                    item.updateStatus(BacklogItemStatus.TODO);
-                }
-            }
-        }
-
-        log.info("미니어처 단계 일괄 변경: miniatureId={}, targetStep={}", miniatureId, targetStep);
-
-        // 4. Response 생성
-        int progress = calculateProgressFromItems(items);
-        String currentStep = calculateCurrentStep(items);
-        return MiniatureResponse.of(miniature, progress, currentStep, null);
-    }
-
-    /**
-     * 진행률 계산 (DONE 개수 / 전체 개수 * 100)
-     */
-    private int calculateProgress(Long miniatureId) {
-        long total = backlogItemRepository.countByMiniatureId(miniatureId);
-        if (total == 0) {
-            return 0;
-        }
-        long done = backlogItemRepository.countByMiniatureIdAndStatus(
-                miniatureId, BacklogItemStatus.DONE);
-        return (int) Math.round((double) done / total * 100);
-    }
-
-    /**
-     * 아이템 목록에서 진행률 계산
-     */
-    private int calculateProgressFromItems(List<BacklogItem> items) {
-        if (items.isEmpty()) {
-            return 0;
-        }
-        long done = items.stream()
-                .filter(item -> item.getStatus() == BacklogItemStatus.DONE)
-                .count();
-        return (int) Math.round((double) done / items.size() * 100);
-    }
-
-    /**
-     * 현재 단계 계산 (연속 DONE 기반)
-     * - 0개 DONE → "시작전"
-     * - 모두 DONE → "완료"
-     * - N개 연속 DONE → N번째 step의 stepName
-     */
-    private String calculateCurrentStep(List<BacklogItem> items) {
-        if (items.isEmpty()) {
-            return "시작전";
         }
+        StepState state = StepState.movedTo(targetIndex, steps.size());
 
-        // 처음부터 연속으로 DONE인 개수 세기
-        int consecutiveDone = 0;
-        for (BacklogItem item : items) {
-            if (item.getStatus() == BacklogItemStatus.DONE) {
-                consecutiveDone++;
-            } else {
-                break;
-            }
-        }
+        // 3. 단계 상태 + 저장된 진행 상태 조건부 갱신 (UPDATE 1회, 충돌 시 409 + 최신 상태) + Response 생성
+        long version = miniatureStepStateStore.update(snapshot, request.getVersion(), state);
+        log.info("미니어처 단계 일괄 변경: miniatureId={}, targetStep={}, version={}", miniatureId, targetStep, version);
 
-        if (consecutiveDone == 0) {
-            return "시작전";
-        }
-        if (consecutiveDone == items.size()) {
-            return "완료";
-        }
-        // 연속 DONE 마지막 아이템의 stepName 반환
-        return items.get(consecutiveDone - 1).getStepName();
+        return MiniatureResponse.of(miniature, version, state.progress(steps.size()), state.currentStep(steps), null);
     }
 
     /**
-     * 미니어처별 최신 썸네일 URL 맵 생성
+     * 미니어처별 최신 썸네일 정보 맵 생성 (URL + 원본 크기 + BlurHash)
      * @param miniatureIds 미니어처 ID 목록
      * @param publicOnly true: 공개 로그의 이미지만, false: 모든 이미지
      */
-    private Map<Long, String> buildThumbnailMap(List<Long> miniatureIds, boolean publicOnly) {
+    private Map<Long, ThumbnailInfo> buildThumbnailMap(List<Long> miniatureIds, boolean publicOnly) {
         if (miniatureIds.isEmpty()) {
             return Collections.emptyMap();
         }
@@ -468,18 +430,37 @@ public class MiniatureService {
                 ? imageRepository.findLatestPublicImageByMiniatureIds(miniatureIds)
                 : imageRepository.findLatestImageByMiniatureIds(miniatureIds);
 
-        Map<Long, String> thumbnailMap = new HashMap<>();
+        Map<Long, ThumbnailInfo> thumbnailMap = new HashMap<>();
         for (Object[] row : rows) {
             Long miniatureId = ((Number) row[0]).longValue();
             String objectKey = (String) row[1];
             String url = publicOnly
                     ? imageService.generatePublicUrl(objectKey)
                     : imageService.generateReadPresignedUrl(objectKey);
-            thumbnailMap.put(miniatureId, url);
+            Integer width = row[2] != null ? ((Number) row[2]).intValue() : null;
+            Integer height = row[3] != null ? ((Number) row[3]).intValue() : null;
+            thumbnailMap.put(miniatureId, new ThumbnailInfo(url, width, height, (String) row[4]));
         }
         return thumbnailMap;
     }
 
+    private MiniatureResponse toBoardItem(MiniatureBoardRepository.BoardRow row, ThumbnailInfo thumbnail) {
+        return MiniatureResponse.builder()
+                .id(row.id())
+                .title(row.title())
+                .isPublic(row.isPublic())
+                .progress(row.progress())
+                .currentStep(row.step())
+                .thumbnailUrl(thumbnail != null ? thumbnail.url() : null)
+                .thumbnailWidth(thumbnail != null ? thumbnail.width() : null)
+                .thumbnailHeight(thumbnail != null ? thumbnail.height() : null)
+                .thumbnailBlurHash(thumbnail != null ? thumbnail.blurHash() : null)
+                .version(row.version())
+                .createdAt(row.createdAt())
+                .updatedAt(row.updatedAt())
+                .build();
+    }
+
     /**
      * 소유권 검증
      */
@@ -0,0 +1,100 @@
+package com.rlaqjant.miniature_backlog_api.miniature.service;
+
+import com.rlaqjant.miniature_backlog_api.backlogitem.domain.StepState;
+import com.rlaqjant.miniature_backlog_api.backlogitem.dto.BacklogItemResponse;
+import com.rlaqjant.miniature_backlog_api.backlogitem.service.StepTemplateRegistry;
+import com.rlaqjant.miniature_backlog_api.common.exception.BusinessException;
+import com.rlaqjant.miniature_backlog_api.common.exception.ConflictException;
+import com.rlaqjant.miniature_backlog_api.common.exception.ErrorCode;
+import com.rlaqjant.miniature_backlog_api.miniature.domain.Miniature;
+import com.rlaqjant.miniature_backlog_api.miniature.dto.MiniatureStepStateResponse;
+import com.rlaqjant.miniature_backlog_api.miniature.repository.MiniatureRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 미니어처 단계 상태 읽기/조건부 쓰기 (낙관적 동시성 제어)
+ * 쓰기는 UPDATE ... SET version = version + 1 WHERE id = ? AND version = ? 한 번으로 처리하고 잠금(SELECT FOR UPDATE)은 쓰지 않음
+ * 충돌하면 재시도 없이 최신 상태를 담아 409 (ConflictException)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MiniatureStepStateStore {
+
+    private final MiniatureRepository miniatureRepository;
+    private final StepTemplateRegistry stepTemplateRegistry;
+
+    /**
+     * 단계 상태 스냅샷 (템플릿 단계 목록 + 비트마스크 + 읽은 시점의 version)
+     */
+    public record Snapshot(Long miniatureId, List<String> steps, StepState state, long version) {
+
+        public MiniatureStepStateResponse toResponse() {
+            return MiniatureStepStateResponse.builder()
+                    .id(miniatureId)
+                    .version(version)
+                    .progress(state.progress(steps.size()))
+                    .currentStep(state.currentStep(steps))
+                    .backlogItems(BacklogItemResponse.listOf(miniatureId, steps, state))
+                    .build();
+        }
+    }
+
+    /**
+     * 최신 단계 상태 조회 (영속성 컨텍스트를 거치지 않는 프로젝션)
+     */
+    public Optional<Snapshot> find(Long miniatureId) {
+        List<Object[]> rows = miniatureRepository.findStepStateById(miniatureId);
+        if (rows.isEmpty()) {
+            return Optional.empty();
+        }
+        Object[] row = rows.get(0);
+        return Optional.of(new Snapshot(miniatureId, stepTemplateRegistry.getSteps((Long) row[0]),
+                new StepState((Integer) row[1], (Integer) row[2]), (Long) row[3]));
+    }
+
+    /**
+     * 같은 트랜잭션에서 처음 적재한 엔티티의 단계 상태
+     */
+    public Snapshot of(Miniature miniature) {
+        return new Snapshot(miniature.getId(), stepTemplateRegistry.getSteps(miniature.getStepTemplateId()),
+                miniature.stepState(), miniature.getVersion());
+    }
+
+    /**
+     * 조건부 갱신 (expectedVersion일 때만 반영)
+     * @param base 변경 계산에 사용한 스냅샷
+     * @param expectedVersion 클라이언트가 마지막으로 본 version (없으면 base.version())
+     * @return 갱신 후 version
+     * @throws ConflictException 클라이언트가 본 이후 또는 읽은 이후 다른 요청이 먼저 변경한 경우 (최신 상태 포함)
+     * @throws BusinessException 읽은 이후 미니어처가 삭제된 경우 (MINIATURE_NOT_FOUND)
+     */
+    public long update(Snapshot base, Long expectedVersion, StepState newState) {
+        long version = expectedVersion != null ? expectedVersion : base.version();
+        if (version != base.version()) {
+            // 읽은 상태가 이미 최신이므로 UPDATE 없이 바로 충돌 응답
+            throw conflict(base);
+        }
+
+        int updated = miniatureRepository.updateStepState(base.miniatureId(), version,
+                newState.doneMask(), newState.inProgressMask(),
+                newState.progress(base.steps().size()), newState.currentStep(base.steps()));
+        if (updated == 0) {
+            // 읽은 이후 삭제되었으면 충돌이 아니라 없음
+            Snapshot current = find(base.miniatureId())
+                    .orElseThrow(() -> new BusinessException(ErrorCode.MINIATURE_NOT_FOUND));
+            throw conflict(current);
+        }
+        return version + 1;
+    }
+
+    private ConflictException conflict(Snapshot current) {
+        log.info("미니어처 단계 변경 충돌: miniatureId={}, currentVersion={}", current.miniatureId(), current.version());
+        return new ConflictException(ErrorCode.MINIATURE_VERSION_CONFLICT, current.toResponse());
+    }
+}
@@ -61,7 +61,7 @@ public class ProgressLogController {
 
     /**
      * 내 진행 로그 목록 조회 (특정 미니어처)
-     * GET /progress-logs?miniatureId={id}&page={page}&size={size}
+     * GET /progress-logs?miniatureId={id}&page={page}&size={size}&includeArchived={true|false}
      */
     @GetMapping
     public ResponseEntity<ApiResponse<ProgressLogPageResponse>> getMyProgressLogs(
@@ -69,10 +69,11 @@ public class ProgressLogController {
             @RequestParam Long miniatureId,
             @RequestParam(defaultValue = "0") @Min(value = 0, message = "페이지 번호는 0 이상이어야 합니다.") int page,
             @RequestParam(defaultValue = "10") @Min(value = 1, message = "페이지 크기는 1 이상이어야 합니다.")
-            @Max(value = 100, message = "페이지 크기는 100 이하여야 합니다.") int size
+            @Max(value = 100, message = "페이지 크기는 100 이하여야 합니다.") int size,
+            @RequestParam(defaultValue = "false") boolean includeArchived
     ) {
         ProgressLogPageResponse response = progressLogService.getMyProgressLogs(
-                userDetails.getUserId(), miniatureId, page, size);
+                userDetails.getUserId(), miniatureId, page, size, includeArchived);
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 }
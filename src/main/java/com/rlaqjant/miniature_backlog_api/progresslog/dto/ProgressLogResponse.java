@@ -63,4 +63,21 @@ public class ProgressLogResponse {
                 .createdAt(progressLog.getCreatedAt())
                 .build();
     }
+
+    /**
+     * 목록 프로젝션 + 미니어처 제목 + 작성자 닉네임 + 이미지로 Response 생성
+     */
+    public static ProgressLogResponse of(ProgressLogSummary summary, String miniatureTitle, String userNickname, List<ImageResponse> images) {
+        return ProgressLogResponse.builder()
+                .id(summary.id())
+                .miniatureId(summary.miniatureId())
+                .miniatureTitle(miniatureTitle)
+                .userId(summary.userId())
+                .userNickname(userNickname)
+                .content(summary.content())
+                .isPublic(summary.isPublic())
+                .images(images)
+                .createdAt(summary.createdAt())
+                .build();
+    }
 }
@@ -0,0 +1,16 @@
+package com.rlaqjant.miniature_backlog_api.progresslog.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 진행 로그 목록 조회용 읽기 전용 프로젝션
+ */
+public record ProgressLogSummary(
+        Long id,
+        Long miniatureId,
+        Long userId,
+        String content,
+        Boolean isPublic,
+        LocalDateTime createdAt
+) {
+}
@@ -0,0 +1,115 @@
+package com.rlaqjant.miniature_backlog_api.progresslog.repository;
+
+import com.rlaqjant.miniature_backlog_api.progresslog.dto.ProgressLogSummary;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 보관(archive) 파티션을 포함한 진행 로그 조회/삭제 (PostgreSQL, app.partition.archive.enabled=true 전용)
+ * 보관 파티션은 progress_logs / images 부모에서 분리되어 있으므로 일반 JPA 경로에서는 보이지 않음
+ * 미니어처 전체 이력 조회, 미니어처 삭제 시에만 *_archive 테이블을 함께 읽음
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProgressLogArchiveRepository {
+
+    private static final String HISTORY_SQL = """
+            SELECT h.id, h.miniature_id, h.user_id, h.content, h.is_public, h.created_at,
+                   COUNT(*) OVER () AS total_elements
+            FROM (
+                SELECT id, miniature_id, user_id, content, is_public, created_at
+                FROM progress_logs WHERE miniature_id = :miniatureId
+                UNION ALL
+                SELECT id, miniature_id, user_id, content, is_public, created_at
+                FROM progress_logs_archive WHERE miniature_id = :miniatureId
+            ) h
+            ORDER BY h.created_at DESC, h.id DESC
+            LIMIT :limit OFFSET :offset
+            """;
+
+    private static final String HISTORY_COUNT_SQL = """
+            SELECT (SELECT COUNT(*) FROM progress_logs WHERE miniature_id = :miniatureId)
+                 + (SELECT COUNT(*) FROM progress_logs_archive WHERE miniature_id = :miniatureId)
+            """;
+
+    // 보관 로그 삭제 + 그 로그의 이미지 삭제(보관/일반 양쪽), 삭제된 이미지의 objectKey 반환
+    private static final String DELETE_ARCHIVED_SQL = """
+            WITH deleted_logs AS (
+                DELETE FROM progress_logs_archive WHERE miniature_id IN (:miniatureIds)
+                RETURNING id
+            ), deleted_images AS (
+                DELETE FROM images_archive WHERE progress_log_id IN (SELECT id FROM deleted_logs)
+                RETURNING object_key, thumbnail_object_key, medium_object_key
+            ), deleted_live_images AS (
+                DELETE FROM images WHERE progress_log_id IN (SELECT id FROM deleted_logs)
+                RETURNING object_key, thumbnail_object_key, medium_object_key
+            ), all_images AS (
+                SELECT * FROM deleted_images
+                UNION ALL
+                SELECT * FROM deleted_live_images
+            )
+            SELECT object_key FROM all_images
+            UNION ALL
+            SELECT thumbnail_object_key FROM all_images WHERE thumbnail_object_key IS NOT NULL
+            UNION ALL
+            SELECT medium_object_key FROM all_images WHERE medium_object_key IS NOT NULL
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * 미니어처 전체 이력 (일반 + 보관 파티션) 최신순 페이지 조회
+     */
+    public Page<ProgressLogSummary> findHistoryByMiniatureId(Long miniatureId, Pageable pageable) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("miniatureId", miniatureId)
+                .addValue("limit", pageable.getPageSize())
+                .addValue("offset", pageable.getOffset());
+
+        long[] totalElements = {-1L};
+        List<ProgressLogSummary> content = new ArrayList<>(pageable.getPageSize());
+        jdbcTemplate.query(HISTORY_SQL, params, rs -> {
+            totalElements[0] = rs.getLong("total_elements");
+            content.add(new ProgressLogSummary(
+                    rs.getLong("id"),
+                    rs.getLong("miniature_id"),
+                    rs.getLong("user_id"),
+                    rs.getString("content"),
+                    rs.getBoolean("is_public"),
+                    rs.getObject("created_at", LocalDateTime.class)));
+        });
+
+        // 범위를 벗어난 페이지는 윈도 함수 건수가 없으므로 별도 집계
+        long total = totalElements[0] >= 0
+                ? totalElements[0]
+                : jdbcTemplate.queryForObject(HISTORY_COUNT_SQL, params, Long.class);
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    /**
+     * 미니어처의 보관 진행 로그/이미지 삭제
+     * @return R2에서 삭제할 objectKey 목록 (원본 + 변형)
+     */
+    public List<String> deleteArchivedByMiniatureId(Long miniatureId) {
+        return deleteArchivedByMiniatureIds(List.of(miniatureId));
+    }
+
+    /**
+     * 여러 미니어처의 보관 진행 로그/이미지 일괄 삭제
+     * @return R2에서 삭제할 objectKey 목록 (원본 + 변형)
+     */
+    public List<String> deleteArchivedByMiniatureIds(Collection<Long> miniatureIds) {
+        return jdbcTemplate.queryForList(DELETE_ARCHIVED_SQL,
+                new MapSqlParameterSource("miniatureIds", miniatureIds), String.class);
+    }
+}
@@ -1,15 +1,21 @@
 package com.rlaqjant.miniature_backlog_api.progresslog.repository;
 
 import com.rlaqjant.miniature_backlog_api.progresslog.domain.ProgressLog;
+import com.rlaqjant.miniature_backlog_api.progresslog.dto.ProgressLogSummary;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
  * 진행 로그 Repository
+ * 목록 조회는 ProgressLogSummary 프로젝션 반환 (엔티티 미적재)
  */
 @Repository
 public interface ProgressLogRepository extends JpaRepository<ProgressLog, Long> {
@@ -17,17 +23,17 @@ public interface ProgressLogRepository extends JpaRepository<ProgressLog, Long>
     /**
      * 특정 미니어처의 진행 로그 목록 조회 (페이지네이션)
      */
-    Page<ProgressLog> findByMiniatureIdOrderByCreatedAtDesc(Long miniatureId, Pageable pageable);
+    Page<ProgressLogSummary> findByMiniatureIdOrderByCreatedAtDesc(Long miniatureId, Pageable pageable);
 
     /**
      * 공개 진행 로그 목록 조회 (페이지네이션)
      */
-    Page<ProgressLog> findByIsPublicTrueOrderByCreatedAtDesc(Pageable pageable);
+    Page<ProgressLogSummary> findByIsPublicTrueOrderByCreatedAtDesc(Pageable pageable);
 
     /**
      * 특정 미니어처의 공개 진행 로그 목록 조회 (페이지네이션)
      */
-    Page<ProgressLog> findByMiniatureIdAndIsPublicTrueOrderByCreatedAtDesc(Long miniatureId, Pageable pageable);
+    Page<ProgressLogSummary> findByMiniatureIdAndIsPublicTrueOrderByCreatedAtDesc(Long miniatureId, Pageable pageable);
 
     /**
      * 미니어처 ID로 진행 로그 목록 조회
@@ -38,4 +44,11 @@ public interface ProgressLogRepository extends JpaRepository<ProgressLog, Long>
      * 미니어처 ID로 진행 로그 일괄 삭제
      */
     void deleteByMiniatureId(Long miniatureId);
+
+    /**
+     * 여러 미니어처의 진행 로그 일괄 삭제 (벌크 DELETE)
+     */
+    @Modifying
+    @Query("DELETE FROM ProgressLog p WHERE p.miniatureId IN :miniatureIds")
+    int deleteByMiniatureIdIn(@Param("miniatureIds") Collection<Long> miniatureIds);
 }
@@ -6,16 +6,19 @@ import com.rlaqjant.miniature_backlog_api.image.dto.ImageResponse;
 import com.rlaqjant.miniature_backlog_api.image.service.ImageService;
 import com.rlaqjant.miniature_backlog_api.miniature.domain.Miniature;
 import com.rlaqjant.miniature_backlog_api.miniature.repository.MiniatureRepository;
+import com.rlaqjant.miniature_backlog_api.miniature.service.MiniatureOwnershipIndex;
 import com.rlaqjant.miniature_backlog_api.progresslog.domain.ProgressLog;
 import com.rlaqjant.miniature_backlog_api.progresslog.dto.ProgressLogCreateRequest;
 import com.rlaqjant.miniature_backlog_api.progresslog.dto.ProgressLogPageResponse;
 import com.rlaqjant.miniature_backlog_api.progresslog.dto.ProgressLogResponse;
+import com.rlaqjant.miniature_backlog_api.progresslog.dto.ProgressLogSummary;
 import com.rlaqjant.miniature_backlog_api.progresslog.dto.ProgressLogUpdateRequest;
+import com.rlaqjant.miniature_backlog_api.progresslog.repository.ProgressLogArchiveRepository;
 import com.rlaqjant.miniature_backlog_api.progresslog.repository.ProgressLogRepository;
-import com.rlaqjant.miniature_backlog_api.user.domain.User;
-import com.rlaqjant.miniature_backlog_api.user.repository.UserRepository;
+import com.rlaqjant.miniature_backlog_api.user.service.UserNicknameDirectory;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -23,6 +26,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -39,19 +43,22 @@ public class ProgressLogService {
 
     private final ProgressLogRepository progressLogRepository;
     private final MiniatureRepository miniatureRepository;
-    private final UserRepository userRepository;
+    private final MiniatureOwnershipIndex miniatureOwnershipIndex;
+    private final UserNicknameDirectory userNicknameDirectory;
     private final ImageService imageService;
+    private final ProgressLogArchiveRepository progressLogArchiveRepository;
+
+    // 보관(archive) 파티션 사용 여부 (true일 때만 전체 이력 조회 가능)
+    @Value("${app.partition.archive.enabled:false}")
+    private boolean archiveEnabled;
 
     /**
      * 진행 로그 작성
      */
     @Transactional
     public ProgressLogResponse createProgressLog(Long userId, ProgressLogCreateRequest request) {
-        // 1. 미니어처 조회 및 소유권 검증
-        Miniature miniature = miniatureRepository.findById(request.getMiniatureId())
-                .orElseThrow(() -> new BusinessException(ErrorCode.MINIATURE_NOT_FOUND));
-
-        validateOwnership(miniature, userId);
+        // 1. 소유권 검증 (인덱스 조회, 미니어처 엔티티 미적재)
+        miniatureOwnershipIndex.validateOwner(request.getMiniatureId(), userId);
 
         // 2. 진행 로그 생성
         ProgressLog progressLog = ProgressLog.builder()
@@ -64,37 +71,40 @@ public class ProgressLogService {
         ProgressLog savedLog = progressLogRepository.save(progressLog);
         log.info("진행 로그 생성: id={}, miniatureId={}, userId={}", savedLog.getId(), request.getMiniatureId(), userId);
 
-        // 3. 사용자 정보 조회
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+        // 3. 미니어처 제목, 사용자 닉네임 조회
+        String miniatureTitle = findMiniatureTitle(request.getMiniatureId());
+        String nickname = userNicknameDirectory.get(userId);
 
         // 4. 새로 생성된 로그이므로 이미지는 빈 배열
-        return ProgressLogResponse.of(savedLog, miniature.getTitle(), user.getNickname(), Collections.emptyList());
+        return ProgressLogResponse.of(savedLog, miniatureTitle, nickname, Collections.emptyList());
     }
 
     /**
      * 내 진행 로그 목록 조회 (특정 미니어처)
+     * @param includeArchived true: 보관 파티션까지 포함한 전체 이력 (보관 모드가 꺼져 있으면 무시)
      */
-    public ProgressLogPageResponse getMyProgressLogs(Long userId, Long miniatureId, int page, int size) {
-        // 1. 미니어처 조회 및 소유권 검증
-        Miniature miniature = miniatureRepository.findById(miniatureId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.MINIATURE_NOT_FOUND));
-
-        validateOwnership(miniature, userId);
+    public ProgressLogPageResponse getMyProgressLogs(Long userId, Long miniatureId, int page, int size,
+                                                     boolean includeArchived) {
+        // 1. 소유권 검증 후 제목만 조회
+        miniatureOwnershipIndex.validateOwner(miniatureId, userId);
+        String miniatureTitle = findMiniatureTitle(miniatureId);
 
-        // 2. 사용자 정보 조회
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+        // 2. 사용자 닉네임 조회
+        String nickname = userNicknameDirectory.get(userId);
 
         // 3. 진행 로그 조회
         Pageable pageable = PageRequest.of(page, size);
-        Page<ProgressLog> progressLogs = progressLogRepository
-                .findByMiniatureIdOrderByCreatedAtDesc(miniatureId, pageable);
+        boolean history = includeArchived && archiveEnabled;
+        Page<ProgressLogSummary> progressLogs = history
+                ? progressLogArchiveRepository.findHistoryByMiniatureId(miniatureId, pageable)
+                : progressLogRepository.findByMiniatureIdOrderByCreatedAtDesc(miniatureId, pageable);
 
         // 4. Response 변환 (이미지 포함)
         Page<ProgressLogResponse> responsePage = progressLogs.map(progressLog -> {
-            List<ImageResponse> images = imageService.getImagesByProgressLogId(progressLog.getId());
-            return ProgressLogResponse.of(progressLog, miniature.getTitle(), user.getNickname(), images);
+            List<ImageResponse> images = history
+                    ? imageService.getHistoryImagesByProgressLogId(progressLog.id())
+                    : imageService.getImagesByProgressLogId(progressLog.id());
+            return ProgressLogResponse.of(progressLog, miniatureTitle, nickname, images);
         });
 
         return ProgressLogPageResponse.from(responsePage);
@@ -105,32 +115,34 @@ public class ProgressLogService {
      */
     public ProgressLogPageResponse getPublicProgressLogs(int page, int size) {
         Pageable pageable = PageRequest.of(page, size);
-        Page<ProgressLog> progressLogs = progressLogRepository
+        Page<ProgressLogSummary> progressLogs = progressLogRepository
                 .findByIsPublicTrueOrderByCreatedAtDesc(pageable);
 
         // 미니어처 ID와 사용자 ID 수집
         Set<Long> miniatureIds = progressLogs.getContent().stream()
-                .map(ProgressLog::getMiniatureId)
+                .map(ProgressLogSummary::miniatureId)
                 .collect(Collectors.toSet());
 
         Set<Long> userIds = progressLogs.getContent().stream()
-                .map(ProgressLog::getUserId)
+                .map(ProgressLogSummary::userId)
                 .collect(Collectors.toSet());
 
         // 미니어처와 사용자 정보 일괄 조회
-        Map<Long, String> miniatureTitles = miniatureRepository.findAllById(miniatureIds).stream()
-                .collect(Collectors.toMap(Miniature::getId, Miniature::getTitle));
+        Map<Long, String> miniatureTitles = new HashMap<>();
+        if (!miniatureIds.isEmpty()) {
+            miniatureRepository.findTitlesByIdIn(miniatureIds)
+                    .forEach(row -> miniatureTitles.put((Long) row[0], (String) row[1]));
+        }
 
-        Map<Long, String> userNicknames = userRepository.findAllById(userIds).stream()
-                .collect(Collectors.toMap(User::getId, User::getNickname));
+        Map<Long, String> userNicknames = userNicknameDirectory.getAll(userIds);
 
         // Response 변환 (공개 URL 사용)
         Page<ProgressLogResponse> responsePage = progressLogs.map(progressLog -> {
-            List<ImageResponse> images = imageService.getImagesByProgressLogId(progressLog.getId(), true);
+            List<ImageResponse> images = imageService.getImagesByProgressLogId(progressLog.id(), true);
             return ProgressLogResponse.of(
                     progressLog,
-                    miniatureTitles.getOrDefault(progressLog.getMiniatureId(), ""),
-                    userNicknames.getOrDefault(progressLog.getUserId(), ""),
+                    miniatureTitles.getOrDefault(progressLog.miniatureId(), ""),
+                    userNicknames.getOrDefault(progressLog.userId(), ""),
                     images
             );
         });
@@ -151,18 +163,17 @@ public class ProgressLogService {
         }
 
         // 2. 사용자 닉네임 조회
-        User user = userRepository.findById(miniature.getUserId())
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+        String nickname = userNicknameDirectory.get(miniature.getUserId());
 
         // 3. 해당 미니어처의 공개 진행 로그 조회
         Pageable pageable = PageRequest.of(page, size);
-        Page<ProgressLog> progressLogs = progressLogRepository
+        Page<ProgressLogSummary> progressLogs = progressLogRepository
                 .findByMiniatureIdAndIsPublicTrueOrderByCreatedAtDesc(miniatureId, pageable);
 
         // 4. Response 변환 (공개 URL 사용)
         Page<ProgressLogResponse> responsePage = progressLogs.map(progressLog -> {
-            List<ImageResponse> images = imageService.getImagesByProgressLogId(progressLog.getId(), true);
-            return ProgressLogResponse.of(progressLog, miniature.getTitle(), user.getNickname(), images);
+            List<ImageResponse> images = imageService.getImagesByProgressLogId(progressLog.id(), true);
+            return ProgressLogResponse.of(progressLog, miniature.getTitle(), nickname, images);
         });
 
         return ProgressLogPageResponse.from(responsePage);
@@ -188,27 +199,21 @@ public class ProgressLogService {
         progressLog.update(request.getContent(), request.getIsPublic());
 
         // 4. 미니어처 제목, 사용자 닉네임 조회
-        Miniature miniature = miniatureRepository.findById(progressLog.getMiniatureId())
-                .orElseThrow(() -> new BusinessException(ErrorCode.MINIATURE_NOT_FOUND));
-
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+        String miniatureTitle = findMiniatureTitle(progressLog.getMiniatureId());
+        String nickname = userNicknameDirectory.get(userId);
 
         // 5. 이미지 포함하여 응답
-        List<ImageResponse> images = imageService.getImagesByProgressLogId(progressLog.getId());
+        List<ImageResponse> images = imageService.getImagesByProgressLogId(progressLog.id());
 
         log.info("진행 로그 수정: id={}, userId={}", logId, userId);
-        return ProgressLogResponse.of(progressLog, miniature.getTitle(), user.getNickname(), images);
+        return ProgressLogResponse.of(progressLog, miniatureTitle, nickname, images);
     }
 
     /**
-     * 소유권 검증
+     * 미니어처 제목 조회
      */
-    private void validateOwnership(Miniature miniature, Long userId) {
-        if (!miniature.getUserId().equals(userId)) {
-            log.warn("미니어처 접근 권한 없음: miniatureId={}, ownerId={}, requesterId={}",
-                    miniature.getId(), miniature.getUserId(), userId);
-            throw new BusinessException(ErrorCode.MINIATURE_ACCESS_DENIED);
-        }
+    private String findMiniatureTitle(Long miniatureId) {
+        return miniatureRepository.findTitleById(miniatureId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.MINIATURE_NOT_FOUND));
     }
 }
@@ -0,0 +1,270 @@
+package com.rlaqjant.miniature_backlog_api.security.oauth;
+
+import com.rlaqjant.miniature_backlog_api.common.exception.BusinessException;
+import com.rlaqjant.miniature_backlog_api.common.exception.ErrorCode;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.security.Jwk;
+import io.jsonwebtoken.security.JwkSet;
+import io.jsonwebtoken.security.Jwks;
+import io.jsonwebtoken.security.PublicJwk;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+import java.net.http.HttpClient;
+import java.security.Key;
+import java.security.PublicKey;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Google ID 토큰 로컬 검증
+ * 토큰 교환 응답의 id_token을 캐시된 JWKS로 검증하여 userinfo 왕복 호출 제거
+ * 키 셋은 Cache-Control max-age에 맞춰 백그라운드에서만 갱신 (요청 경로에서 키를 받지 않음)
+ */
+@Slf4j
+@Component
+public class GoogleIdTokenValidator {
+
+    private static final Set<String> GOOGLE_ISSUERS = Set.of("accounts.google.com", "https://accounts.google.com");
+    private static final Pattern MAX_AGE_PATTERN = Pattern.compile("max-age=(\\d+)");
+    private static final Duration DEFAULT_REFRESH_INTERVAL = Duration.ofHours(1);
+    private static final Duration RETRY_INTERVAL = Duration.ofSeconds(30);
+    private static final long CLOCK_SKEW_SECONDS = 60;
+
+    private final String clientId;
+    private final String jwksUri;
+    private final boolean enabled;
+    private final Duration minRefreshInterval;
+    private final RestClient restClient;
+    private final MeterRegistry meterRegistry;
+    private final ScheduledThreadPoolExecutor scheduler;
+
+    private volatile Map<String, PublicKey> keys = Map.of();
+    private volatile long lastRefreshNanos = System.nanoTime() - TimeUnit.DAYS.toNanos(1);
+    // 예약된 다음 갱신은 항상 하나 (키 미스 갱신은 기존 예약을 대체)
+    private ScheduledFuture<?> pendingRefresh;
+
+    public GoogleIdTokenValidator(
+            @Value("${google.client-id}") String clientId,
+            @Value("${google.jwks-uri:https://www.googleapis.com/oauth2/v3/certs}") String jwksUri,
+            @Value("${google.id-token.enabled:true}") boolean enabled,
+            @Value("${google.id-token.min-refresh-seconds:60}") long minRefreshSeconds,
+            @Value("${google.http.connect-timeout-ms:2000}") long connectTimeoutMs,
+            @Value("${google.http.read-timeout-ms:5000}") long readTimeoutMs,
+            MeterRegistry meterRegistry) {
+        this.clientId = clientId;
+        this.jwksUri = jwksUri;
+        this.enabled = enabled;
+        this.minRefreshInterval = Duration.ofSeconds(minRefreshSeconds);
+        this.meterRegistry = meterRegistry;
+
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(Duration.ofMillis(readTimeoutMs));
+        this.restClient = RestClient.builder()
+                .requestFactory(requestFactory)
+                .build();
+
+        if (enabled) {
+            this.scheduler = new ScheduledThreadPoolExecutor(1, new CustomizableThreadFactory("google-jwks-"));
+            this.scheduler.setRemoveOnCancelPolicy(true);
+        } else {
+            this.scheduler = null;
+        }
+    }
+
+    /**
+     * 기동 완료 후 첫 키 셋 적재를 백그라운드로 시작
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (enabled) {
+            scheduleRefresh(Duration.ZERO);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * ID 토큰 검증 (서명, aud, iss, 만료, email_verified)
+     *
+     * @return 검증된 사용자 정보, 서명 키가 아직 캐시에 없으면 empty (호출 측에서 userinfo로 폴백)
+     * @throws BusinessException 토큰이 유효하지 않은 경우
+     */
+    public Optional<GoogleOAuthService.GoogleUserInfo> verify(String idToken) {
+        try {
+            Claims claims = Jwts.parser()
+                    .keyLocator(new CachedKeyLocator())
+                    .requireAudience(clientId)
+                    .clockSkewSeconds(CLOCK_SKEW_SECONDS)
+                    .build()
+                    .parseSignedClaims(idToken)
+                    .getPayload();
+
+            if (!GOOGLE_ISSUERS.contains(claims.getIssuer())) {
+                throw new JwtException("허용되지 않은 issuer: " + claims.getIssuer());
+            }
+            Object emailVerified = claims.get("email_verified");
+            if (!Boolean.TRUE.equals(emailVerified) && !"true".equals(emailVerified)) {
+                throw new JwtException("검증되지 않은 이메일");
+            }
+            String email = claims.get("email", String.class);
+            String subject = claims.getSubject();
+            if (email == null || subject == null) {
+                throw new JwtException("email 또는 sub 클레임 누락");
+            }
+
+            meterRegistry.counter("oauth.google.id_token", "outcome", "verified").increment();
+            return Optional.of(new GoogleOAuthService.GoogleUserInfo(email, subject));
+
+        } catch (SigningKeyNotCachedException e) {
+            // 키 교체 직후: 이번 요청은 userinfo로 처리하고 키 셋은 백그라운드에서 갱신
+            meterRegistry.counter("oauth.google.id_token", "outcome", "key_miss").increment();
+            log.info("Google ID 토큰 서명 키 미보유, userinfo로 폴백: kid={}", e.getMessage());
+            requestRefresh();
+            return Optional.empty();
+        } catch (JwtException | IllegalArgumentException e) {
+            meterRegistry.counter("oauth.google.id_token", "outcome", "invalid").increment();
+            log.warn("Google ID 토큰 검증 실패: {}", e.getMessage());
+            throw new BusinessException(ErrorCode.GOOGLE_AUTH_FAILED);
+        }
+    }
+
+    /**
+     * JWKS 조회 후 캐시 교체, 다음 갱신 예약
+     */
+    public void refresh() {
+        Duration nextRefresh;
+        try {
+            ResponseEntity<String> response = restClient.get()
+                    .uri(jwksUri)
+                    .retrieve()
+                    .toEntity(String.class);
+            keys = parseKeys(response.getBody());
+            lastRefreshNanos = System.nanoTime();
+            nextRefresh = refreshIntervalFrom(response.getHeaders().getCacheControl());
+            log.info("Google JWKS 갱신 완료: keys={}, nextRefreshSeconds={}", keys.size(), nextRefresh.toSeconds());
+        } catch (Exception e) {
+            nextRefresh = RETRY_INTERVAL;
+            log.warn("Google JWKS 갱신 실패 (기존 키 유지): error={}", e.getMessage());
+        }
+        scheduleRefresh(nextRefresh);
+    }
+
+    /**
+     * 키 미스 시 즉시 갱신 요청 (최소 간격 내 반복 요청은 무시)
+     * 예약된 주기 갱신을 앞당기는 것이므로 갱신 체인은 늘어나지 않음
+     */
+    private void requestRefresh() {
+        if (scheduler == null) {
+            return;
+        }
+        if (System.nanoTime() - lastRefreshNanos < minRefreshInterval.toNanos()) {
+            return;
+        }
+        lastRefreshNanos = System.nanoTime();
+        scheduleRefresh(Duration.ZERO);
+    }
+
+    /**
+     * 다음 갱신 예약 (기존 예약은 취소 후 대체)
+     */
+    private synchronized void scheduleRefresh(Duration delay) {
+        if (scheduler == null || scheduler.isShutdown()) {
+            return;
+        }
+        if (pendingRefresh != null) {
+            pendingRefresh.cancel(false);
+        }
+        pendingRefresh = scheduler.schedule(this::refresh, delay.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 대기 중인 갱신 예약 수 (테스트용)
+     */
+    int scheduledRefreshCount() {
+        return scheduler != null ? scheduler.getQueue().size() : 0;
+    }
+
+    /**
+     * max-age의 80% 시점에 갱신 (만료 전에 새 키 확보), 최소 간격 보장
+     */
+    private Duration refreshIntervalFrom(String cacheControl) {
+        if (cacheControl != null) {
+            Matcher matcher = MAX_AGE_PATTERN.matcher(cacheControl);
+            if (matcher.find()) {
+                Duration maxAge = Duration.ofSeconds(Long.parseLong(matcher.group(1)));
+                Duration interval = maxAge.multipliedBy(4).dividedBy(5);
+                return interval.compareTo(minRefreshInterval) < 0 ? minRefreshInterval : interval;
+            }
+        }
+        return DEFAULT_REFRESH_INTERVAL;
+    }
+
+    private Map<String, PublicKey> parseKeys(String json) {
+        JwkSet jwkSet = Jwks.setParser().build().parse(json);
+        Map<String, PublicKey> parsed = new HashMap<>();
+        for (Jwk<?> jwk : jwkSet.getKeys()) {
+            if (jwk instanceof PublicJwk<?> publicJwk && jwk.getId() != null) {
+                parsed.put(jwk.getId(), publicJwk.toKey());
+            }
+        }
+        return Map.copyOf(parsed);
+    }
+
+    /**
+     * 헤더 kid로 캐시된 공개키 조회
+     */
+    private class CachedKeyLocator extends LocatorAdapter<Key> {
+        @Override
+        protected Key locate(JwsHeader header) {
+            String keyId = header.getKeyId();
+            PublicKey key = keyId != null ? keys.get(keyId) : null;
+            if (key == null) {
+                throw new SigningKeyNotCachedException(keyId);
+            }
+            return key;
+        }
+    }
+
+    /**
+     * 캐시에 없는 서명 키 (kid)
+     */
+    private static class SigningKeyNotCachedException extends JwtException {
+        SigningKeyNotCachedException(String keyId) {
+            super(String.valueOf(keyId));
+        }
+    }
+}
@@ -1,44 +1,101 @@
 package com.rlaqjant.miniature_backlog_api.security.oauth;
 
+import com.rlaqjant.miniature_backlog_api.common.bulkhead.Bulkhead;
 import com.rlaqjant.miniature_backlog_api.common.exception.BusinessException;
 import com.rlaqjant.miniature_backlog_api.common.exception.ErrorCode;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.*;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.web.client.RestClient;
 
 import java.net.URLEncoder;
+import java.net.http.HttpClient;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 /**
  * Google OAuth 서비스
  * Authorization Code 방식으로 서버 사이드에서 토큰 교환 처리
+ * 커넥션 재사용(keep-alive) HTTP 클라이언트 + 연결/응답 타임아웃, 호출은 전용 bulkhead(google-oauth) 풀에서 실행
+ * 사용자 정보는 id_token 로컬 검증으로 얻고, 서명 키 미보유 시에만 userinfo 호출
  */
 @Slf4j
 @Service
 public class GoogleOAuthService {
 
     private static final String GOOGLE_AUTH_URL = "https://accounts.google.com/o/oauth2/v2/auth";
-    private static final String GOOGLE_TOKEN_URL = "https://oauth2.googleapis.com/token";
-    private static final String GOOGLE_USERINFO_URL = "https://www.googleapis.com/oauth2/v3/userinfo";
+    private static final ParameterizedTypeReference<Map<String, Object>> JSON_MAP =
+            new ParameterizedTypeReference<>() {
+            };
 
     private final String clientId;
     private final String clientSecret;
     private final String redirectUri;
-    private final RestTemplate restTemplate;
+    private final String tokenUri;
+    private final String userInfoUri;
+    private final RestClient restClient;
+    private final GoogleIdTokenValidator idTokenValidator;
+
+    private final Bulkhead bulkhead;
+    private final boolean asyncEnabled;
+    private final Duration callTimeout;
+    private final MeterRegistry meterRegistry;
 
     public GoogleOAuthService(
             @Value("${google.client-id}") String clientId,
             @Value("${google.client-secret}") String clientSecret,
-            @Value("${google.redirect-uri}") String redirectUri) {
+            @Value("${google.redirect-uri}") String redirectUri,
+            @Value("${google.token-uri:https://oauth2.googleapis.com/token}") String tokenUri,
+            @Value("${google.userinfo-uri:https://www.googleapis.com/oauth2/v3/userinfo}") String userInfoUri,
+            @Value("${google.http.connect-timeout-ms:2000}") long connectTimeoutMs,
+            @Value("${google.http.read-timeout-ms:5000}") long readTimeoutMs,
+            @Value("${google.http.max-concurrent:16}") int maxConcurrent,
+            @Value("${google.http.acquire-timeout-ms:1000}") long acquireTimeoutMs,
+            @Value("${google.http.async.enabled:false}") boolean asyncEnabled,
+            GoogleIdTokenValidator idTokenValidator,
+            MeterRegistry meterRegistry) {
         this.clientId = clientId;
         this.clientSecret = clientSecret;
         this.redirectUri = redirectUri;
-        this.restTemplate = new RestTemplate();
+        this.tokenUri = tokenUri;
+        this.userInfoUri = userInfoUri;
+        this.idTokenValidator = idTokenValidator;
+        this.meterRegistry = meterRegistry;
+
+        // JDK HttpClient는 커넥션 풀(keep-alive)과 HTTP/2를 기본 지원
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(Duration.ofMillis(readTimeoutMs));
+        this.restClient = RestClient.builder()
+                .requestFactory(requestFactory)
+                .build();
+
+        // 동기 호출은 대기열 없이 acquire-timeout 동안만 빈 슬롯을 기다림, 비동기는 슬롯의 4배까지 대기열 허용
+        this.bulkhead = new Bulkhead("google-oauth", maxConcurrent, asyncEnabled ? maxConcurrent * 4 : 0,
+                Duration.ofMillis(acquireTimeoutMs), meterRegistry);
+        this.asyncEnabled = asyncEnabled;
+        // token + userinfo 두 번의 왕복 상한
+        this.callTimeout = Duration.ofMillis(connectTimeoutMs + readTimeoutMs * 2);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        bulkhead.shutdown();
     }
 
     /**
@@ -55,17 +112,35 @@ public class GoogleOAuthService {
                 + "&prompt=select_account";
     }
 
+    /**
+     * 토큰 교환 비동기 실행
+     * google.http.async.enabled=true 이면 요청 스레드를 기다리게 하지 않고 bulkhead future 반환,
+     * 아니면 완료될 때까지 기다린 뒤 완료된 future 반환
+     */
+    public CompletableFuture<GoogleUserInfo> exchangeCodeForUserInfoAsync(String code) {
+        if (!asyncEnabled) {
+            try {
+                return CompletableFuture.completedFuture(exchangeCodeForUserInfo(code));
+            } catch (BusinessException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+        return bulkhead.submit(() -> exchange(code));
+    }
+
     /**
      * Authorization Code로 Google 토큰 교환 후 사용자 정보 반환
      *
      * @return 사용자 정보 (email, sub)
+     * @throws BusinessException 풀 포화/시간 초과 시 SERVICE_UNAVAILABLE
      */
     public GoogleUserInfo exchangeCodeForUserInfo(String code) {
-        try {
-            // 1. code → access_token 교환
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_FORM_URLENCODED);
+        return bulkhead.call(() -> exchange(code), callTimeout);
+    }
 
+    private GoogleUserInfo exchange(String code) {
+        try {
+            // 1. code → access_token + id_token 교환 (scope에 openid 포함)
             MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
             params.add("code", code);
             params.add("client_id", clientId);
@@ -73,29 +148,35 @@ public class GoogleOAuthService {
             params.add("redirect_uri", redirectUri);
             params.add("grant_type", "authorization_code");
 
-            HttpEntity<MultiValueMap<String, String>> request = new HttpEntity<>(params, headers);
-
-            @SuppressWarnings("unchecked")
-            Map<String, Object> tokenResponse = restTemplate.postForObject(
-                    GOOGLE_TOKEN_URL, request, Map.class);
+            Map<String, Object> tokenResponse = timed("token", () -> restClient.post()
+                    .uri(tokenUri)
+                    .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                    .body(params)
+                    .retrieve()
+                    .body(JSON_MAP));
 
             if (tokenResponse == null || !tokenResponse.containsKey("access_token")) {
                 log.error("Google 토큰 교환 실패: 응답이 null이거나 access_token이 없음");
                 throw new BusinessException(ErrorCode.GOOGLE_AUTH_FAILED);
             }
 
-            String accessToken = (String) tokenResponse.get("access_token");
+            // 2. id_token 로컬 검증 (JWKS 캐시 사용, 추가 네트워크 호출 없음)
+            if (idTokenValidator.isEnabled() && tokenResponse.get("id_token") instanceof String idToken) {
+                Optional<GoogleUserInfo> verified = idTokenValidator.verify(idToken);
+                if (verified.isPresent()) {
+                    return verified.get();
+                }
+            }
 
-            // 2. access_token으로 사용자 정보 조회
-            HttpHeaders userInfoHeaders = new HttpHeaders();
-            userInfoHeaders.setBearerAuth(accessToken);
-            HttpEntity<Void> userInfoRequest = new HttpEntity<>(userInfoHeaders);
+            String accessToken = (String) tokenResponse.get("access_token");
 
-            @SuppressWarnings("unchecked")
-            ResponseEntity<Map> userInfoResponse = restTemplate.exchange(
-                    GOOGLE_USERINFO_URL, HttpMethod.GET, userInfoRequest, Map.class);
+            // 3. 폴백: access_token으로 사용자 정보 조회
+            Map<String, Object> userInfo = timed("userinfo", () -> restClient.get()
+                    .uri(userInfoUri)
+                    .headers(headers -> headers.setBearerAuth(accessToken))
+                    .retrieve()
+                    .body(JSON_MAP));
 
-            Map<String, Object> userInfo = userInfoResponse.getBody();
             if (userInfo == null || !userInfo.containsKey("email") || !userInfo.containsKey("sub")) {
                 log.error("Google 사용자 정보 조회 실패");
                 throw new BusinessException(ErrorCode.GOOGLE_AUTH_FAILED);
@@ -114,6 +195,25 @@ public class GoogleOAuthService {
         }
     }
 
+    /**
+     * 외부 호출 지연 시간 기록 (step: token / userinfo, outcome: success / error)
+     */
+    private <T> T timed(String step, Supplier<T> call) {
+        long start = System.nanoTime();
+        String outcome = "error";
+        try {
+            T result = call.get();
+            outcome = "success";
+            return result;
+        } finally {
+            Timer.builder("oauth.google.request")
+                    .tag("step", step)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
     /**
      * Google 사용자 정보
      */
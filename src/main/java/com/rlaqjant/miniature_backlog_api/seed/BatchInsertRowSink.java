@@ -0,0 +1,80 @@
+package com.rlaqjant.miniature_backlog_api.seed;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 다중 행 INSERT 적재 (COPY를 지원하지 않는 H2 등)
+ * batchRows 행을 한 문장으로 묶어 실행하고 close 시 커밋
+ */
+class BatchInsertRowSink implements RowSink {
+
+    private static final int BATCH_ROWS = 500;
+
+    private final Connection connection;
+    private final String table;
+    private final String[] columns;
+    private final PreparedStatement fullBatch;
+    private final List<Object[]> pending = new ArrayList<>(BATCH_ROWS);
+    private long count;
+
+    BatchInsertRowSink(Connection connection, String table, String... columns) throws SQLException {
+        this.connection = connection;
+        this.table = table;
+        this.columns = columns;
+        connection.setAutoCommit(false);
+        this.fullBatch = connection.prepareStatement(insertSql(BATCH_ROWS));
+    }
+
+    @Override
+    public void add(Object... values) throws SQLException {
+        pending.add(values);
+        count++;
+        if (pending.size() == BATCH_ROWS) {
+            execute(fullBatch);
+        }
+    }
+
+    private void execute(PreparedStatement statement) throws SQLException {
+        int index = 1;
+        for (Object[] row : pending) {
+            for (Object value : row) {
+                statement.setObject(index++, value);
+            }
+        }
+        statement.executeUpdate();
+        pending.clear();
+    }
+
+    private String insertSql(int rows) {
+        String placeholders = "(" + "?, ".repeat(columns.length - 1) + "?)";
+        StringBuilder sql = new StringBuilder("INSERT INTO ").append(table)
+                .append(" (").append(String.join(", ", columns)).append(") VALUES ");
+        for (int i = 0; i < rows; i++) {
+            sql.append(i == 0 ? "" : ", ").append(placeholders);
+        }
+        return sql.toString();
+    }
+
+    @Override
+    public long count() {
+        return count;
+    }
+
+    @Override
+    public void close() throws SQLException {
+        try {
+            if (!pending.isEmpty()) {
+                try (PreparedStatement rest = connection.prepareStatement(insertSql(pending.size()))) {
+                    execute(rest);
+                }
+            }
+            connection.commit();
+        } finally {
+            fullBatch.close();
+        }
+    }
+}
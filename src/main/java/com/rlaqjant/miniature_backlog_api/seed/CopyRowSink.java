@@ -0,0 +1,82 @@
+package com.rlaqjant.miniature_backlog_api.seed;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * PostgreSQL COPY FROM STDIN (CSV) 적재
+ * 행을 CSV로 직렬화하여 64KB 단위로 전송, NULL은 따옴표 없는 빈 값
+ */
+class CopyRowSink implements RowSink {
+
+    private static final int FLUSH_CHARS = 64 * 1024;
+
+    private final CopyIn copyIn;
+    private final StringBuilder buffer = new StringBuilder(FLUSH_CHARS + 1024);
+    private long count;
+
+    CopyRowSink(Connection connection, String table, String... columns) throws SQLException {
+        String sql = "COPY " + table + " (" + String.join(", ", columns) + ") FROM STDIN WITH (FORMAT csv)";
+        this.copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(sql);
+    }
+
+    @Override
+    public void add(Object... values) throws SQLException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                buffer.append(',');
+            }
+            appendValue(values[i]);
+        }
+        buffer.append('\n');
+        count++;
+        if (buffer.length() >= FLUSH_CHARS) {
+            flush();
+        }
+    }
+
+    private void appendValue(Object value) {
+        if (value == null) {
+            return;
+        }
+        if (value instanceof String text) {
+            buffer.append('"').append(text.replace("\"", "\"\"")).append('"');
+        } else if (value instanceof Boolean bool) {
+            buffer.append(bool ? 't' : 'f');
+        } else {
+            // 숫자, LocalDateTime(ISO 형식)
+            buffer.append(value);
+        }
+    }
+
+    private void flush() throws SQLException {
+        byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+        copyIn.writeToCopy(bytes, 0, bytes.length);
+        buffer.setLength(0);
+    }
+
+    @Override
+    public long count() {
+        return count;
+    }
+
+    @Override
+    public void close() throws SQLException {
+        if (!copyIn.isActive()) {
+            return;
+        }
+        try {
+            flush();
+            copyIn.endCopy();
+        } catch (SQLException e) {
+            if (copyIn.isActive()) {
+                copyIn.cancelCopy();
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.rlaqjant.miniature_backlog_api.seed;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * 합성 데이터 적재 실행 (seed 프로필 전용)
+ * 예: ./gradlew bootRun --args='--spring.profiles.active=seed --app.seed.users=100000 --app.seed.truncate=true'
+ * 설정은 application-seed.yaml 참고, 적재 후 애플리케이션 종료
+ */
+@Slf4j
+@Component
+@Profile("seed")
+public class DatasetSeedRunner implements ApplicationRunner {
+
+    private final DataSource dataSource;
+    private final PasswordEncoder passwordEncoder;
+    private final ConfigurableApplicationContext applicationContext;
+    private final DatasetSeeder.Options options;
+    private final String password;
+    private final boolean exitAfterSeed;
+
+    public DatasetSeedRunner(
+            DataSource dataSource,
+            PasswordEncoder passwordEncoder,
+            ConfigurableApplicationContext applicationContext,
+            @Value("${app.seed.seed:42}") long seed,
+            @Value("${app.seed.users:1000}") int users,
+            @Value("${app.seed.max-miniatures-per-user:200}") int maxMiniaturesPerUser,
+            @Value("${app.seed.miniature-alpha:1.1}") double miniatureAlpha,
+            @Value("${app.seed.max-logs-per-miniature:300}") int maxLogsPerMiniature,
+            @Value("${app.seed.log-alpha:0.8}") double logAlpha,
+            @Value("${app.seed.max-images-per-log:3}") int maxImagesPerLog,
+            @Value("${app.seed.like-alpha:0.9}") double likeAlpha,
+            @Value("${app.seed.public-ratio:0.4}") double publicRatio,
+            @Value("${app.seed.truncate:false}") boolean truncate,
+            @Value("${app.seed.password:seed-password}") String password,
+            @Value("${app.seed.exit-after-seed:true}") boolean exitAfterSeed) {
+        this.dataSource = dataSource;
+        this.passwordEncoder = passwordEncoder;
+        this.applicationContext = applicationContext;
+        this.options = new DatasetSeeder.Options(seed, users, maxMiniaturesPerUser, miniatureAlpha,
+                maxLogsPerMiniature, logAlpha, maxImagesPerLog, likeAlpha, publicRatio, truncate);
+        this.password = password;
+        this.exitAfterSeed = exitAfterSeed;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        log.info("합성 데이터 생성 시작: {}", options);
+        // 모든 사용자가 같은 비밀번호 해시를 공유 (해싱은 한 번만)
+        DatasetSeeder.Result result = new DatasetSeeder(dataSource, options, passwordEncoder.encode(password)).seed();
+        log.info("합성 데이터 생성 완료: users={}, miniatures={}, progressLogs={}, images={}, likes={}, totalRows={}, elapsedMs={}",
+                result.users(), result.miniatures(), result.progressLogs(),
+                result.images(), result.likes(), result.totalRows(), result.elapsed().toMillis());
+
+        if (exitAfterSeed) {
+            System.exit(SpringApplication.exit(applicationContext, () -> 0));
+        }
+    }
+}
@@ -0,0 +1,343 @@
+package com.rlaqjant.miniature_backlog_api.seed;
+
+import com.rlaqjant.miniature_backlog_api.backlogitem.domain.StepState;
+import com.rlaqjant.miniature_backlog_api.backlogitem.domain.StepTemplate;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+/**
+ * 성능 측정용 합성 데이터 생성기
+ * 사용자별 미니어처 수, 미니어처별 진행 로그/좋아요 수는 파레토(멱법칙) 분포, 백로그 항목은 미니어처당 5개
+ * 모든 값은 (seed, 엔티티 종류, ID)에서 파생한 난수로 만들어 같은 옵션이면 항상 같은 데이터가 생성됨
+ * 테이블마다 한 번씩 순회하며 PostgreSQL은 COPY, 그 외(H2)는 다중 행 INSERT로 적재
+ */
+@Slf4j
+public class DatasetSeeder {
+
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2024, 1, 1, 0, 0);
+    private static final int TIME_SPAN_MINUTES = 2 * 365 * 24 * 60;
+    private static final List<String> STEPS = StepTemplate.DEFAULT_STEP_NAMES;
+    private static final List<String> TITLES = List.of(
+            "스페이스 마린 분대", "오크 보이즈", "드워프 전사", "엘프 궁수대", "네크론 워리어",
+            "드래곤", "기사단 기병", "타우 파이어 워리어", "스켈레톤 군단", "메카 워커");
+    private static final List<String> LOG_CONTENTS = List.of(
+            "프라이머 올리고 베이스 코트 시작", "하이라이트 두 번째 레이어", "워시 후 말리는 중",
+            "베이스 장식 완료", "드라이브러시로 질감 표현", "눈 디테일 수정", "바니쉬 마감");
+    private static final List<String> TABLES_CHILD_FIRST = List.of(
+            "images", "progress_logs", "miniature_likes", "miniatures", "users");
+
+    // 난수 스트림 구분
+    private static final long USER_STREAM = 1;
+    private static final long MINIATURE_STREAM = 2;
+    private static final long LOG_STREAM = 3;
+    private static final long USER_MINIATURES_STREAM = 4;
+
+    /**
+     * @param seed 난수 시드 (같으면 같은 데이터)
+     * @param users 사용자 수
+     * @param maxMiniaturesPerUser 사용자당 미니어처 수 상한
+     * @param miniatureAlpha 사용자당 미니어처 수 분포 지수 (작을수록 꼬리가 두꺼움)
+     * @param maxLogsPerMiniature 미니어처당 진행 로그 수 상한
+     * @param logAlpha 미니어처당 진행 로그 수 분포 지수
+     * @param maxImagesPerLog 진행 로그당 이미지 수 상한
+     * @param likeAlpha 공개 미니어처당 좋아요 수 분포 지수
+     * @param publicRatio 공개 미니어처 비율
+     * @param truncate 기존 데이터 삭제 후 생성 (false면 비어 있는 DB에서만 실행)
+     */
+    public record Options(long seed, int users, int maxMiniaturesPerUser, double miniatureAlpha,
+                          int maxLogsPerMiniature, double logAlpha, int maxImagesPerLog,
+                          double likeAlpha, double publicRatio, boolean truncate) {
+    }
+
+    public record Result(long users, long miniatures, long progressLogs,
+                         long images, long likes, Duration elapsed) {
+
+        public long totalRows() {
+            return users + miniatures + progressLogs + images + likes;
+        }
+    }
+
+    // 미니어처 단위 계획 (같은 ID면 어느 단계에서 다시 계산해도 동일)
+    private record MiniaturePlan(int titleIndex, boolean isPublic, int createdMinute,
+                                 int currentStep, boolean inProgress, int logCount, int likeCount) {
+    }
+
+    private record LogPlan(int contentIndex, boolean isPublic, int createdMinute, int imageCount,
+                           long imageSeed) {
+    }
+
+    @FunctionalInterface
+    private interface LogVisitor {
+        void visit(long miniatureId, long userId, long logId, LogPlan plan) throws SQLException;
+    }
+
+    private final DataSource dataSource;
+    private final Options options;
+    private final String passwordHash;
+
+    // 미니어처 ID(1부터) → 소유 사용자 ID
+    private int[] ownerByMiniature;
+
+    public DatasetSeeder(DataSource dataSource, Options options, String passwordHash) {
+        this.dataSource = dataSource;
+        this.options = options;
+        this.passwordHash = passwordHash;
+    }
+
+    public Result seed() throws SQLException {
+        long start = System.nanoTime();
+        boolean postgres;
+        try (Connection connection = dataSource.getConnection()) {
+            postgres = "PostgreSQL".equals(connection.getMetaData().getDatabaseProductName());
+            prepare(connection, postgres);
+        }
+
+        long users = seedUsers(postgres);
+        long miniatures = seedMiniatures(postgres);
+        long progressLogs = seedProgressLogs(postgres);
+        long images = seedImages(postgres);
+        long likes = seedLikes(postgres);
+
+        try (Connection connection = dataSource.getConnection()) {
+            finish(connection, postgres);
+        }
+        return new Result(users, miniatures, progressLogs, images, likes,
+                Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    private void prepare(Connection connection, boolean postgres) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            if (options.truncate()) {
+                if (postgres) {
+                    statement.execute("TRUNCATE TABLE " + String.join(", ", TABLES_CHILD_FIRST) + " RESTART IDENTITY");
+                } else {
+                    for (String table : TABLES_CHILD_FIRST) {
+                        statement.execute("TRUNCATE TABLE " + table + " RESTART IDENTITY");
+                    }
+                }
+                return;
+            }
+            // ID를 1부터 직접 부여하므로 빈 테이블에서만 실행
+            try (ResultSet rs = statement.executeQuery("SELECT COUNT(*) FROM users")) {
+                rs.next();
+                if (rs.getLong(1) > 0) {
+                    throw new IllegalStateException("users 테이블이 비어 있지 않습니다. app.seed.truncate=true로 실행하세요.");
+                }
+            }
+        }
+    }
+
+    private long seedUsers(boolean postgres) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             RowSink sink = open(connection, postgres, "users",
+                     "id", "email", "password", "nickname", "provider", "role", "created_at", "updated_at")) {
+            for (long userId = 1; userId <= options.users(); userId++) {
+                SplittableRandom random = random(USER_STREAM, userId);
+                LocalDateTime createdAt = timeAt(random.nextInt(TIME_SPAN_MINUTES));
+                sink.add(userId, "seed-user-" + userId + "@seed.local", passwordHash, "seed" + userId,
+                        "LOCAL", "USER", createdAt, createdAt);
+            }
+            log.info("사용자 생성: {}", sink.count());
+            return sink.count();
+        }
+    }
+
+    private long seedMiniatures(boolean postgres) throws SQLException {
+        // 사용자별 미니어처 수 (멱법칙) → 미니어처 ID를 사용자 순서대로 부여
+        long total = 0;
+        int[] counts = new int[options.users() + 1];
+        for (int userId = 1; userId <= options.users(); userId++) {
+            counts[userId] = paretoCount(random(USER_MINIATURES_STREAM, userId), options.miniatureAlpha(),
+                    options.maxMiniaturesPerUser());
+            total += counts[userId];
+        }
+        if (total >= Integer.MAX_VALUE) {
+            throw new IllegalStateException("미니어처 수가 너무 많습니다: " + total);
+        }
+        ownerByMiniature = new int[(int) total + 1];
+
+        try (Connection connection = dataSource.getConnection();
+             RowSink sink = open(connection, postgres, "miniatures",
+                     "id", "user_id", "title", "description", "is_public", "done_mask", "in_progress_mask",
+                     "current_step", "progress", "like_count", "created_at", "updated_at")) {
+            int miniatureId = 0;
+            for (int userId = 1; userId <= options.users(); userId++) {
+                for (int i = 0; i < counts[userId]; i++) {
+                    miniatureId++;
+                    ownerByMiniature[miniatureId] = userId;
+                    MiniaturePlan plan = plan(miniatureId);
+                    LocalDateTime createdAt = timeAt(plan.createdMinute());
+                    StepState state = stepState(plan);
+                    sink.add((long) miniatureId, (long) userId, TITLES.get(plan.titleIndex()) + " #" + miniatureId,
+                            "합성 데이터", plan.isPublic(), state.doneMask(), state.inProgressMask(),
+                            state.currentStep(STEPS), state.progress(STEPS.size()),
+                            plan.isPublic() ? (long) plan.likeCount() : 0L,
+                            createdAt, createdAt.plusDays(plan.currentStep()));
+                }
+            }
+            log.info("미니어처 생성: {}", sink.count());
+            return sink.count();
+        }
+    }
+
+    private long seedProgressLogs(boolean postgres) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             RowSink sink = open(connection, postgres, "progress_logs",
+                     "id", "miniature_id", "user_id", "content", "is_public", "created_at", "updated_at")) {
+            forEachLog((miniatureId, userId, logId, plan) -> {
+                LocalDateTime createdAt = timeAt(plan.createdMinute());
+                sink.add(logId, miniatureId, userId, LOG_CONTENTS.get(plan.contentIndex()), plan.isPublic(),
+                        createdAt, createdAt);
+            });
+            log.info("진행 로그 생성: {}", sink.count());
+            return sink.count();
+        }
+    }
+
+    private long seedImages(boolean postgres) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             RowSink sink = open(connection, postgres, "images",
+                     "id", "progress_log_id", "object_key", "file_name", "content_type", "created_at")) {
+            long[] imageId = {0};
+            forEachLog((miniatureId, userId, logId, plan) -> {
+                SplittableRandom random = new SplittableRandom(plan.imageSeed());
+                LocalDateTime createdAt = timeAt(plan.createdMinute());
+                for (int i = 0; i < plan.imageCount(); i++) {
+                    String key = "users/" + userId + "/" + new UUID(random.nextLong(), random.nextLong()) + ".jpg";
+                    sink.add(++imageId[0], logId, key, "photo-" + (i + 1) + ".jpg", "image/jpeg", createdAt);
+                }
+            });
+            log.info("이미지 생성: {}", sink.count());
+            return sink.count();
+        }
+    }
+
+    private long seedLikes(boolean postgres) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             RowSink sink = open(connection, postgres, "miniature_likes",
+                     "id", "user_id", "miniature_id", "created_at")) {
+            long likeId = 0;
+            int users = options.users();
+            for (int miniatureId = 1; miniatureId < ownerByMiniature.length; miniatureId++) {
+                MiniaturePlan plan = plan(miniatureId);
+                if (!plan.isPublic() || plan.likeCount() == 0) {
+                    continue;
+                }
+                // 임의 시작점부터 연속된 사용자 (좋아요 수 ≤ 사용자 수이므로 중복 없음)
+                int startUser = (int) (Integer.toUnsignedLong(miniatureId * 0x9E3779B9) % users);
+                LocalDateTime createdAt = timeAt(plan.createdMinute());
+                for (int i = 0; i < plan.likeCount(); i++) {
+                    long userId = (startUser + i) % users + 1;
+                    sink.add(++likeId, userId, (long) miniatureId, createdAt.plusMinutes(i));
+                }
+            }
+            log.info("좋아요 생성: {}", sink.count());
+            return sink.count();
+        }
+    }
+
+    /**
+     * 진행 로그를 항상 같은 순서(미니어처 ID → 로그 순번)로 순회하며 로그 ID 부여
+     */
+    private void forEachLog(LogVisitor visitor) throws SQLException {
+        long logId = 0;
+        for (int miniatureId = 1; miniatureId < ownerByMiniature.length; miniatureId++) {
+            MiniaturePlan miniature = plan(miniatureId);
+            for (int i = 0; i < miniature.logCount(); i++) {
+                logId++;
+                SplittableRandom random = random(LOG_STREAM, logId);
+                int createdMinute = Math.min(TIME_SPAN_MINUTES,
+                        miniature.createdMinute() + random.nextInt(60 * 24 * 90));
+                visitor.visit(miniatureId, ownerByMiniature[miniatureId], logId, new LogPlan(
+                        random.nextInt(LOG_CONTENTS.size()),
+                        miniature.isPublic() && random.nextDouble() < 0.8,
+                        createdMinute,
+                        imageCount(random),
+                        random.nextLong()));
+            }
+        }
+    }
+
+    private MiniaturePlan plan(int miniatureId) {
+        SplittableRandom random = random(MINIATURE_STREAM, miniatureId);
+        int titleIndex = random.nextInt(TITLES.size());
+        boolean isPublic = random.nextDouble() < options.publicRatio();
+        int createdMinute = random.nextInt(TIME_SPAN_MINUTES);
+        // 시작 전/초반 단계에 머문 미니어처가 많음 (0 ~ STEPS.size(), 마지막은 완료)
+        int currentStep = (int) Math.floor(Math.pow(random.nextDouble(), 1.6) * (STEPS.size() + 1));
+        boolean inProgress = random.nextBoolean();
+        int logCount = paretoCount(random, options.logAlpha(), options.maxLogsPerMiniature());
+        int likeCount = paretoCount(random, options.likeAlpha(), options.users());
+        return new MiniaturePlan(titleIndex, isPublic, createdMinute, currentStep, inProgress, logCount, likeCount);
+    }
+
+    // currentStep 이전 단계는 DONE, 현재 단계는 일부 IN_PROGRESS, 이후는 TODO (기본 단계 템플릿)
+    private static StepState stepState(MiniaturePlan plan) {
+        StepState moved = StepState.movedTo(plan.currentStep() - 1, STEPS.size());
+        boolean inProgress = plan.inProgress() && plan.currentStep() < STEPS.size();
+        return new StepState(moved.doneMask(), inProgress ? 1 << plan.currentStep() : 0);
+    }
+
+    private int imageCount(SplittableRandom random) {
+        double p = random.nextDouble();
+        int count = p < 0.4 ? 0 : p < 0.75 ? 1 : p < 0.9 ? 2 : 3;
+        return Math.min(count, options.maxImagesPerLog());
+    }
+
+    /**
+     * P(X ≥ k) = (k + 1)^-alpha 인 0 이상 정수 (max로 절단)
+     */
+    private static int paretoCount(SplittableRandom random, double alpha, int max) {
+        double u = 1.0 - random.nextDouble();
+        double value = Math.floor(Math.pow(u, -1.0 / alpha)) - 1;
+        return (int) Math.min(max, value);
+    }
+
+    private SplittableRandom random(long stream, long id) {
+        return new SplittableRandom(options.seed() * 0x9E3779B97F4A7C15L + stream * 0xBF58476D1CE4E5B9L + id);
+    }
+
+    private static LocalDateTime timeAt(int minute) {
+        return BASE_TIME.plusMinutes(minute);
+    }
+
+    private static RowSink open(Connection connection, boolean postgres, String table, String... columns)
+            throws SQLException {
+        return postgres
+                ? new CopyRowSink(connection, table, columns)
+                : new BatchInsertRowSink(connection, table, columns);
+    }
+
+    /**
+     * 직접 부여한 ID 이후로 IDENTITY 재설정, 통계 갱신
+     */
+    private void finish(Connection connection, boolean postgres) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            for (String table : TABLES_CHILD_FIRST) {
+                long next;
+                try (ResultSet rs = statement.executeQuery("SELECT COALESCE(MAX(id), 0) + 1 FROM " + table)) {
+                    rs.next();
+                    next = rs.getLong(1);
+                }
+                if (postgres) {
+                    statement.execute("SELECT setval(pg_get_serial_sequence('" + table + "', 'id'), " + next + ", false)");
+                } else {
+                    statement.execute("ALTER TABLE " + table + " ALTER COLUMN id RESTART WITH " + next);
+                }
+            }
+            if (postgres) {
+                statement.execute("ANALYZE " + String.join(", ", TABLES_CHILD_FIRST));
+            }
+        }
+    }
+}
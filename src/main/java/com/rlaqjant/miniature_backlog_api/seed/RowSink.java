@@ -0,0 +1,16 @@
+package com.rlaqjant.miniature_backlog_api.seed;
+
+import java.sql.SQLException;
+
+/**
+ * 대량 적재 대상 테이블 (행 단위로 밀어 넣고 close 시 반영)
+ */
+interface RowSink extends AutoCloseable {
+
+    void add(Object... values) throws SQLException;
+
+    long count();
+
+    @Override
+    void close() throws SQLException;
+}
@@ -9,13 +9,17 @@ import java.time.LocalDateTime;
  * 사용자 엔티티
  */
 @Entity
-@Table(name = "users")
+@Table(name = "users", uniqueConstraints = {
+        @UniqueConstraint(name = User.NICKNAME_UNIQUE_CONSTRAINT, columnNames = "nickname")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
 public class User {
 
+    public static final String NICKNAME_UNIQUE_CONSTRAINT = "uk_users_nickname";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -0,0 +1,18 @@
+package com.rlaqjant.miniature_backlog_api.user.dto;
+
+import com.rlaqjant.miniature_backlog_api.user.domain.UserRole;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자 목록 조회용 읽기 전용 프로젝션 (관리자 목록, 비밀번호 등 불필요 컬럼 제외)
+ */
+public record UserSummary(
+        Long id,
+        String email,
+        String nickname,
+        UserRole role,
+        String provider,
+        LocalDateTime createdAt
+) {
+}
@@ -1,11 +1,15 @@
 package com.rlaqjant.miniature_backlog_api.user.repository;
 
 import com.rlaqjant.miniature_backlog_api.user.domain.User;
+import com.rlaqjant.miniature_backlog_api.user.dto.UserSummary;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -28,23 +32,31 @@ public interface UserRepository extends JpaRepository<User, Long> {
     /**
      * 이메일로 검색 (페이지네이션) - 관리자용
      */
-    Page<User> findByEmailContainingIgnoreCase(String email, Pageable pageable);
+    Page<UserSummary> findByEmailContainingIgnoreCase(String email, Pageable pageable);
 
     /**
      * 닉네임으로 검색 (페이지네이션) - 관리자용
      */
-    Page<User> findByNicknameContainingIgnoreCase(String nickname, Pageable pageable);
+    Page<UserSummary> findByNicknameContainingIgnoreCase(String nickname, Pageable pageable);
 
     /**
      * 이메일 AND 닉네임으로 검색 (페이지네이션) - 관리자용
      */
-    Page<User> findByEmailContainingIgnoreCaseAndNicknameContainingIgnoreCase(
+    Page<UserSummary> findByEmailContainingIgnoreCaseAndNicknameContainingIgnoreCase(
             String email, String nickname, Pageable pageable);
 
     /**
-     * 닉네임으로 사용자 목록 조회 (미니어처 검색 시 userId 추출용) - 관리자용
+     * 전체 사용자 조회 (페이지네이션) - 관리자용
      */
-    List<User> findByNicknameContainingIgnoreCase(String nickname);
+    @Query(value = "SELECT new com.rlaqjant.miniature_backlog_api.user.dto.UserSummary(u.id, u.email, u.nickname, u.role, u.provider, u.createdAt) FROM User u",
+            countQuery = "SELECT COUNT(u) FROM User u")
+    Page<UserSummary> findAllSummaries(Pageable pageable);
+
+    /**
+     * 닉네임으로 사용자 ID 목록 조회 (미니어처 검색 시 userId 추출용) - 관리자용
+     */
+    @Query("SELECT u.id FROM User u WHERE LOWER(u.nickname) LIKE LOWER(CONCAT('%', :nickname, '%'))")
+    List<Long> findIdsByNicknameContaining(@Param("nickname") String nickname);
 
     /**
      * OAuth 프로바이더 + 프로바이더 ID로 사용자 조회
@@ -55,4 +67,17 @@ public interface UserRepository extends JpaRepository<User, Long> {
      * 닉네임 존재 여부 확인
      */
     boolean existsByNickname(String nickname);
+
+    /**
+     * 설정된 전체 닉네임 조회 (닉네임 인덱스 적재용)
+     */
+    @Query("SELECT u.nickname FROM User u WHERE u.nickname IS NOT NULL")
+    List<String> findAllNicknames();
+
+    /**
+     * ID 목록으로 닉네임만 조회 (닉네임 디렉터리 적재용)
+     * @return [id, nickname]
+     */
+    @Query("SELECT u.id, u.nickname FROM User u WHERE u.id IN :ids")
+    List<Object[]> findNicknamesByIdIn(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,163 @@
+package com.rlaqjant.miniature_backlog_api.user.service;
+
+import com.rlaqjant.miniature_backlog_api.common.invalidation.CacheInvalidationEvent;
+import com.rlaqjant.miniature_backlog_api.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * 사용 중 닉네임 인메모리 인덱스
+ * 닉네임 중복 확인(키 입력마다 호출)을 DB 조회 없이 응답하고, 정렬 집합이라 접두사 범위 조회로 대체 닉네임 제안
+ * 최종 판정은 users.nickname 유니크 제약 (다중 인스턴스 간 차이는 주기적 재동기화로 보정)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NicknameIndex {
+
+    private static final int MAX_NICKNAME_LENGTH = 50;
+    private static final int MAX_SUGGESTION_ATTEMPTS = 1000;
+
+    private final UserRepository userRepository;
+
+    private volatile NavigableSet<String> nicknames = new ConcurrentSkipListSet<>();
+    private volatile boolean loaded = false;
+
+    // 재적재 중 커밋된 추가/제거 (적재 쿼리가 보지 못했을 수 있으므로 교체 직전 새 집합에 재적용)
+    private final Object changeLock = new Object();
+    private List<PendingChange> pendingChanges;
+
+    /**
+     * 기동 완료 시 전체 닉네임 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        reload();
+    }
+
+    /**
+     * 주기적 재동기화 (다른 인스턴스의 가입/변경/삭제 반영)
+     */
+    @Scheduled(initialDelayString = "${app.nickname-index.reconcile-interval-ms:300000}",
+            fixedDelayString = "${app.nickname-index.reconcile-interval-ms:300000}")
+    public void reconcile() {
+        reload();
+    }
+
+    /**
+     * 무효화 메시지 누락 가능성이 있을 때 즉시 재동기화
+     */
+    @EventListener
+    public void onInvalidation(CacheInvalidationEvent event) {
+        if (event.isFlushAll()) {
+            reload();
+        }
+    }
+
+    /**
+     * 닉네임 사용 여부 (적재 전에는 DB 조회로 폴백)
+     */
+    public boolean isTaken(String nickname) {
+        if (!loaded) {
+            return userRepository.existsByNickname(nickname);
+        }
+        return nicknames.contains(nickname);
+    }
+
+    /**
+     * 사용 가능한 대체 닉네임 제안 ({닉네임}{번호})
+     * 같은 접두사의 사용 중 닉네임을 한 번의 범위 조회로 가져와 빈 번호 선택
+     */
+    public List<String> suggest(String nickname, int limit) {
+        if (!loaded) {
+            return Collections.emptyList();
+        }
+        NavigableSet<String> taken = nicknames.subSet(nickname, true, nickname + Character.MAX_VALUE, true);
+
+        List<String> suggestions = new ArrayList<>(limit);
+        for (int n = 1; n <= MAX_SUGGESTION_ATTEMPTS && suggestions.size() < limit; n++) {
+            String candidate = nickname + n;
+            if (candidate.length() > MAX_NICKNAME_LENGTH) {
+                break;
+            }
+            if (!taken.contains(candidate)) {
+                suggestions.add(candidate);
+            }
+        }
+        return suggestions;
+    }
+
+    /**
+     * 닉네임 추가 (커밋 후 호출)
+     */
+    public void add(String nickname) {
+        if (nickname != null) {
+            apply(new PendingChange(nickname, true));
+        }
+    }
+
+    /**
+     * 닉네임 제거 (커밋 후 호출)
+     */
+    public void remove(String nickname) {
+        if (nickname != null) {
+            apply(new PendingChange(nickname, false));
+        }
+    }
+
+    private void apply(PendingChange change) {
+        synchronized (changeLock) {
+            change.applyTo(nicknames);
+            if (pendingChanges != null) {
+                pendingChanges.add(change);
+            }
+        }
+    }
+
+    /**
+     * 전체 재적재
+     * 적재 쿼리 실행 중 들어온 추가/제거는 버퍼에 모았다가 새 집합에 순서대로 재적용한 뒤 교체
+     */
+    private synchronized void reload() {
+        synchronized (changeLock) {
+            pendingChanges = new ArrayList<>();
+        }
+        try {
+            long start = System.currentTimeMillis();
+            NavigableSet<String> fresh = new ConcurrentSkipListSet<>(userRepository.findAllNicknames());
+            synchronized (changeLock) {
+                pendingChanges.forEach(change -> change.applyTo(fresh));
+                nicknames = fresh;
+            }
+            loaded = true;
+            log.info("닉네임 인덱스 적재 완료: count={}, elapsedMs={}", fresh.size(), System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.warn("닉네임 인덱스 적재 실패 (DB 조회로 폴백): error={}", e.getMessage());
+        } finally {
+            synchronized (changeLock) {
+                pendingChanges = null;
+            }
+        }
+    }
+
+    private record PendingChange(String nickname, boolean added) {
+
+        void applyTo(NavigableSet<String> target) {
+            if (added) {
+                target.add(nickname);
+            } else {
+                target.remove(nickname);
+            }
+        }
+    }
+}
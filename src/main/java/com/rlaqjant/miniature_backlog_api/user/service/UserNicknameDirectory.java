@@ -0,0 +1,168 @@
+package com.rlaqjant.miniature_backlog_api.user.service;
+
+import com.rlaqjant.miniature_backlog_api.common.exception.BusinessException;
+import com.rlaqjant.miniature_backlog_api.common.exception.ErrorCode;
+import com.rlaqjant.miniature_backlog_api.common.invalidation.CacheInvalidationBus;
+import com.rlaqjant.miniature_backlog_api.common.invalidation.CacheInvalidationEvent;
+import com.rlaqjant.miniature_backlog_api.common.transaction.TransactionCallbacks;
+import com.rlaqjant.miniature_backlog_api.user.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 사용자 ID → 닉네임 디렉터리 (LRU 캐시)
+ * 피드/진행 로그 응답마다 반복되는 User 엔티티 조회를 대체
+ * 일괄 조회 시 캐시 미스만 모아 (id, nickname) 두 컬럼 조회 1회로 채움
+ * 닉네임 설정/사용자 삭제는 커밋 후 무효화 (다른 인스턴스에는 무효화 버스로 전파), 미설정(빈) 닉네임은 다른 인스턴스에서 설정될 수 있어 캐시하지 않음
+ */
+@Component
+public class UserNicknameDirectory {
+
+    private static final String CACHE_NAME = "userNicknames";
+
+    private final UserRepository userRepository;
+    private final CacheInvalidationBus invalidationBus;
+    private final int maxEntries;
+    private final LinkedHashMap<Long, String> entries;
+    // 무효화 시 증가: 조회 중 무효화가 끼어들면 (옛 값일 수 있는) 조회 결과를 적재하지 않음
+    private long version = 0L;
+
+    private final Counter hits;
+    private final Counter misses;
+
+    public UserNicknameDirectory(
+            UserRepository userRepository,
+            CacheInvalidationBus invalidationBus,
+            @Value("${app.nickname-directory.max-entries:10000}") int maxEntries,
+            MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.invalidationBus = invalidationBus;
+        this.maxEntries = maxEntries;
+        // accessOrder=true: 조회 순서 기준 LRU
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, String> eldest) {
+                return size() > UserNicknameDirectory.this.maxEntries;
+            }
+        };
+
+        // Micrometer 캐시 지표 규약 (cache.gets{result=hit|miss}) 으로 적중률 노출
+        this.hits = Counter.builder("cache.gets").tag("cache", CACHE_NAME).tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("cache.gets").tag("cache", CACHE_NAME).tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("cache.size", this, UserNicknameDirectory::size)
+                .tag("cache", CACHE_NAME)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 닉네임 일괄 조회
+     * @return userId → 닉네임 (존재하지 않는 사용자는 제외, 닉네임 미설정은 빈 문자열)
+     */
+    public Map<Long, String> getAll(Collection<Long> userIds) {
+        Map<Long, String> result = new HashMap<>();
+        Set<Long> missing = new HashSet<>();
+        long observedVersion;
+
+        synchronized (entries) {
+            for (Long userId : userIds) {
+                String nickname = entries.get(userId);
+                if (nickname != null) {
+                    result.put(userId, nickname);
+                } else {
+                    missing.add(userId);
+                }
+            }
+            observedVersion = version;
+        }
+        hits.increment(result.size());
+        if (missing.isEmpty()) {
+            return result;
+        }
+        misses.increment(missing.size());
+
+        Map<Long, String> loaded = new HashMap<>();
+        for (Object[] row : userRepository.findNicknamesByIdIn(missing)) {
+            Long userId = (Long) row[0];
+            String nickname = (String) row[1];
+            if (nickname != null) {
+                loaded.put(userId, nickname);
+            } else {
+                result.put(userId, "");
+            }
+        }
+
+        synchronized (entries) {
+            if (version == observedVersion) {
+                entries.putAll(loaded);
+            }
+        }
+        result.putAll(loaded);
+        return result;
+    }
+
+    /**
+     * 단건 닉네임 조회
+     * @throws BusinessException 사용자가 없는 경우 (USER_NOT_FOUND)
+     */
+    public String get(Long userId) {
+        String nickname = getAll(List.of(userId)).get(userId);
+        if (nickname == null) {
+            throw new BusinessException(ErrorCode.USER_NOT_FOUND);
+        }
+        return nickname;
+    }
+
+    /**
+     * 닉네임 변경/사용자 삭제 반영 (커밋 후 무효화)
+     */
+    public void evictAfterCommit(Long userId) {
+        TransactionCallbacks.afterCommit(() -> evict(userId));
+        invalidationBus.publishAfterCommit(CacheInvalidationEvent.USER, userId);
+    }
+
+    /**
+     * 다른 인스턴스의 닉네임 변경/사용자 삭제 반영
+     */
+    @EventListener
+    public void onInvalidation(CacheInvalidationEvent event) {
+        if (event.isFlushAll()) {
+            clear();
+        } else if (event.targets(CacheInvalidationEvent.USER)) {
+            evict(event.id());
+        }
+    }
+
+    private void evict(Long userId) {
+        synchronized (entries) {
+            entries.remove(userId);
+            version++;
+        }
+    }
+
+    private void clear() {
+        synchronized (entries) {
+            entries.clear();
+            version++;
+        }
+    }
+
+    private int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+}
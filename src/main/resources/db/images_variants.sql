@@ -0,0 +1,13 @@
+-- images에 썸네일 파이프라인이 기록하는 리사이즈 변형 objectKey, 원본 크기, BlurHash 컬럼 추가
+-- JPA_DDL_AUTO=validate 환경에서는 수동 적용 필요
+-- progress_logs_images_partitioning.sql보다 먼저 적용 (데이터 이전 단계에서 이 컬럼들을 복사)
+-- 기존 행은 NULL (원본만 존재), 이후 ImageVariantService가 채움
+
+-- 1. 리사이즈 변형
+ALTER TABLE images ADD COLUMN thumbnail_object_key VARCHAR(500);
+ALTER TABLE images ADD COLUMN medium_object_key VARCHAR(500);
+
+-- 2. 원본 크기와 로딩 전 플레이스홀더
+ALTER TABLE images ADD COLUMN width INTEGER;
+ALTER TABLE images ADD COLUMN height INTEGER;
+ALTER TABLE images ADD COLUMN blur_hash VARCHAR(100);
@@ -0,0 +1,21 @@
+-- miniatures에 좋아요 수(like_count) 저장
+-- JPA_DDL_AUTO=validate 환경에서는 수동 적용 필요
+-- 이후 값은 좋아요 추가/취소 SQL(MiniatureLikeCommandRepository)이 같은 문장에서 증감
+
+-- 1. 컬럼 추가
+ALTER TABLE miniatures ADD COLUMN like_count BIGINT NOT NULL DEFAULT 0;
+
+-- 2. 기존 데이터 채우기
+UPDATE miniatures m
+SET like_count = l.cnt
+FROM (
+    SELECT miniature_id, COUNT(*) AS cnt
+    FROM miniature_likes
+    GROUP BY miniature_id
+) l
+WHERE l.miniature_id = m.id;
+
+-- 3. ON CONFLICT (user_id, miniature_id) 대상 유니크 제약 확인 (엔티티 @UniqueConstraint, 없으면 생성)
+-- ALTER TABLE miniature_likes ADD CONSTRAINT uk_miniature_likes_user_miniature UNIQUE (user_id, miniature_id);
+
+ANALYZE miniatures;
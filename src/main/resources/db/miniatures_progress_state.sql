@@ -0,0 +1,45 @@
+-- miniatures에 진행 상태(current_step, progress) 저장 + 보드 조회 인덱스
+-- JPA_DDL_AUTO=validate 환경에서는 수동 적용 필요
+-- 이후 값은 백로그 항목 상태 변경 시 애플리케이션이 함께 갱신
+
+-- 1. 컬럼 추가
+ALTER TABLE miniatures ADD COLUMN current_step VARCHAR(100) NOT NULL DEFAULT '시작전';
+ALTER TABLE miniatures ADD COLUMN progress INTEGER NOT NULL DEFAULT 0;
+
+-- 2. 기존 데이터 채우기 (BacklogProgress와 같은 규칙)
+-- 현재 단계: 처음부터 연속 DONE인 마지막 항목의 단계명, 없으면 시작전, 모두 DONE이면 완료
+WITH item_state AS (
+    SELECT miniature_id,
+           COUNT(*) AS total,
+           COUNT(*) FILTER (WHERE status = 'DONE') AS done,
+           MIN(order_index) FILTER (WHERE status <> 'DONE') AS first_open_index
+    FROM backlog_items
+    GROUP BY miniature_id
+), state AS (
+    SELECT s.miniature_id,
+           ROUND(s.done * 100.0 / s.total) AS progress,
+           CASE
+               WHEN s.first_open_index IS NULL THEN '완료'
+               ELSE COALESCE((
+                   SELECT b.step_name FROM backlog_items b
+                   WHERE b.miniature_id = s.miniature_id AND b.order_index < s.first_open_index
+                   ORDER BY b.order_index DESC
+                   LIMIT 1
+               ), '시작전')
+           END AS current_step
+    FROM item_state s
+)
+UPDATE miniatures m
+SET progress = state.progress, current_step = state.current_step
+FROM state
+WHERE state.miniature_id = m.id;
+
+-- 3. 보드 컬럼 페이지: 사용자 + 단계별 최신순 (커서 (created_at, id)), 공개 여부 필터는 인덱스에서 판정
+CREATE INDEX idx_miniatures_user_step_created
+    ON miniatures (user_id, current_step, created_at DESC, id DESC) INCLUDE (is_public);
+
+-- 4. 제목 부분 일치 필터 (ILIKE '%...%')
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE INDEX idx_miniatures_title_trgm ON miniatures USING gin (title gin_trgm_ops);
+
+ANALYZE miniatures;
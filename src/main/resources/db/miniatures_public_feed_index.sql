@@ -0,0 +1,9 @@
+-- 공개 피드(PublicMiniatureFeedRepository) 정렬 순서 부분 인덱스
+-- JPA_DDL_AUTO=validate 환경에서는 수동 적용 필요
+-- WHERE is_public ORDER BY updated_at DESC, id DESC LIMIT n 을 정렬 없이 인덱스 순서로 상위 n건만 읽음
+-- 전체 건수 COUNT(*) ... WHERE is_public 도 이 인덱스로 처리 (CONCURRENTLY는 트랜잭션 밖에서 실행)
+
+CREATE INDEX CONCURRENTLY idx_miniatures_public_updated
+    ON miniatures (updated_at DESC, id DESC) WHERE is_public;
+
+ANALYZE miniatures;
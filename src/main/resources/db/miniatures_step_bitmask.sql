@@ -0,0 +1,51 @@
+-- 백로그 단계 상태를 backlog_items 행 → miniatures 비트마스크(done_mask, in_progress_mask)로 이전
+-- 단계 이름 목록은 step_templates에 한 번만 저장 (기본 단계 목록은 step_template_id = NULL)
+-- JPA_DDL_AUTO=validate 환경에서는 수동 적용 필요 (miniatures_progress_state.sql 이후)
+
+-- 1. 단계 템플릿 테이블
+CREATE TABLE step_templates (
+    id         BIGSERIAL PRIMARY KEY,
+    step_names VARCHAR(1000) NOT NULL UNIQUE,  -- 순서대로 개행 구분
+    created_at TIMESTAMP NOT NULL DEFAULT now()
+);
+
+-- 2. 미니어처 컬럼 추가
+ALTER TABLE miniatures ADD COLUMN step_template_id BIGINT REFERENCES step_templates (id);
+ALTER TABLE miniatures ADD COLUMN done_mask INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE miniatures ADD COLUMN in_progress_mask INTEGER NOT NULL DEFAULT 0;
+
+-- 3. 미니어처별 단계 목록 + 비트마스크 (i번째 비트 = order_index 순서상 i번째 단계, 최대 31단계)
+CREATE TEMPORARY TABLE miniature_step_state AS
+SELECT miniature_id,
+       string_agg(step_name, E'\n' ORDER BY idx) AS step_names,
+       COALESCE(bit_or(1 << idx) FILTER (WHERE status = 'DONE'), 0) AS done_mask,
+       COALESCE(bit_or(1 << idx) FILTER (WHERE status = 'IN_PROGRESS'), 0) AS in_progress_mask
+FROM (
+    SELECT miniature_id, step_name, status,
+           CAST(ROW_NUMBER() OVER (PARTITION BY miniature_id ORDER BY order_index) - 1 AS INTEGER) AS idx
+    FROM backlog_items
+) items
+GROUP BY miniature_id;
+
+-- 4. 기본 단계가 아닌 목록만 템플릿으로 인터닝
+INSERT INTO step_templates (step_names)
+SELECT DISTINCT step_names
+FROM miniature_step_state
+WHERE step_names <> E'언박싱\n조립\n프라이밍\n도색\n마무리'
+ON CONFLICT (step_names) DO NOTHING;
+
+-- 5. 기존 데이터 채우기 (progress / current_step은 같은 규칙으로 이미 저장되어 있음)
+UPDATE miniatures m
+SET done_mask = s.done_mask,
+    in_progress_mask = s.in_progress_mask,
+    step_template_id = t.id
+FROM miniature_step_state s
+LEFT JOIN step_templates t ON t.step_names = s.step_names
+WHERE s.miniature_id = m.id;
+
+DROP TABLE miniature_step_state;
+
+ANALYZE miniatures;
+
+-- 6. 배포 후 이전 버전 롤백 가능성이 없어지면 정리
+-- DROP TABLE backlog_items;
@@ -0,0 +1,5 @@
+-- miniatures 낙관적 동시성 제어용 version 컬럼
+-- JPA_DDL_AUTO=validate 환경에서는 수동 적용 필요
+-- 단계 변경은 UPDATE ... SET version = version + 1 WHERE id = ? AND version = ? (PK 조회이므로 추가 인덱스 불필요)
+
+ALTER TABLE miniatures ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
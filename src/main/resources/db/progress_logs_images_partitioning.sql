@@ -0,0 +1,109 @@
+-- progress_logs, images를 created_at 기준 월 단위 범위 파티션 테이블로 전환
+-- JPA_DDL_AUTO=validate 환경에서는 수동 적용 필요 (PostgreSQL 13+, 점검 시간에 실행)
+-- 적용 후 APP_PARTITION_ENABLED=true로 다음 달 파티션 자동 생성 (MonthlyPartitionMaintainer)
+-- 선행 마이그레이션: images_variants.sql (images_unpartitioned에서 변형/크기/BlurHash 컬럼을 복사)
+-- 파티션 테이블의 PK는 파티션 키를 포함해야 하므로 (id, created_at), id 유일성은 시퀀스가 보장
+
+BEGIN;
+
+-- 1. 월 파티션 생성 함수 (이미 있으면 무시)
+CREATE OR REPLACE FUNCTION create_monthly_partition(parent regclass, month_start date)
+RETURNS void LANGUAGE plpgsql AS $$
+DECLARE
+    partition_name text := parent::text || '_p' || to_char(month_start, 'YYYYMM');
+BEGIN
+    EXECUTE format(
+        'CREATE TABLE IF NOT EXISTS %I PARTITION OF %s FOR VALUES FROM (%L) TO (%L)',
+        partition_name, parent, month_start, (month_start + interval '1 month')::date);
+END;
+$$;
+
+-- 2. 기존 테이블 이름 변경
+ALTER TABLE progress_logs RENAME TO progress_logs_unpartitioned;
+ALTER TABLE images RENAME TO images_unpartitioned;
+
+-- 3. 파티션 부모 테이블 (ID는 기존 최댓값 이후부터 독립 시퀀스로 발급)
+CREATE SEQUENCE progress_logs_id_seq_partitioned;
+SELECT setval('progress_logs_id_seq_partitioned', COALESCE((SELECT MAX(id) FROM progress_logs_unpartitioned), 0) + 1, false);
+
+CREATE TABLE progress_logs (
+    id           BIGINT        NOT NULL DEFAULT nextval('progress_logs_id_seq_partitioned'),
+    miniature_id BIGINT        NOT NULL,
+    user_id      BIGINT        NOT NULL,
+    content      VARCHAR(2000) NOT NULL,
+    is_public    BOOLEAN       NOT NULL,
+    created_at   TIMESTAMP(6)  NOT NULL,
+    updated_at   TIMESTAMP(6)  NOT NULL,
+    PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+ALTER SEQUENCE progress_logs_id_seq_partitioned OWNED BY progress_logs.id;
+
+CREATE SEQUENCE images_id_seq_partitioned;
+SELECT setval('images_id_seq_partitioned', COALESCE((SELECT MAX(id) FROM images_unpartitioned), 0) + 1, false);
+
+CREATE TABLE images (
+    id                   BIGINT       NOT NULL DEFAULT nextval('images_id_seq_partitioned'),
+    progress_log_id      BIGINT       NOT NULL,
+    object_key           VARCHAR(500) NOT NULL,
+    file_name            VARCHAR(255),
+    content_type         VARCHAR(100),
+    thumbnail_object_key VARCHAR(500),
+    medium_object_key    VARCHAR(500),
+    width                INTEGER,
+    height               INTEGER,
+    blur_hash            VARCHAR(100),
+    created_at           TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+ALTER SEQUENCE images_id_seq_partitioned OWNED BY images.id;
+
+-- 4. 인덱스 (부모에 만들면 모든 파티션에 전파)
+-- 최신순 피드는 파티션별 created_at 인덱스를 최신 파티션부터 순서대로 읽고 LIMIT에서 멈춤 (ordered Append)
+CREATE INDEX idx_progress_logs_public_created ON progress_logs (created_at DESC) WHERE is_public;
+CREATE INDEX idx_progress_logs_miniature_created ON progress_logs (miniature_id, created_at DESC);
+CREATE INDEX idx_images_progress_log ON images (progress_log_id, created_at);
+
+-- 5. 기존 데이터 범위 + 다음 3개월 파티션 생성, 범위를 벗어난 행은 DEFAULT 파티션으로
+DO $$
+DECLARE
+    first_month date := date_trunc('month', LEAST(
+        COALESCE((SELECT MIN(created_at) FROM progress_logs_unpartitioned), now()),
+        COALESCE((SELECT MIN(created_at) FROM images_unpartitioned), now())))::date;
+    last_month date := (date_trunc('month', now()) + interval '3 months')::date;
+    m date := first_month;
+BEGIN
+    WHILE m <= last_month LOOP
+        PERFORM create_monthly_partition('progress_logs', m);
+        PERFORM create_monthly_partition('images', m);
+        m := (m + interval '1 month')::date;
+    END LOOP;
+END;
+$$;
+CREATE TABLE progress_logs_default PARTITION OF progress_logs DEFAULT;
+CREATE TABLE images_default PARTITION OF images DEFAULT;
+
+-- 6. 데이터 이전
+INSERT INTO progress_logs (id, miniature_id, user_id, content, is_public, created_at, updated_at)
+SELECT id, miniature_id, user_id, content, is_public, created_at, updated_at FROM progress_logs_unpartitioned;
+INSERT INTO images (id, progress_log_id, object_key, file_name, content_type, thumbnail_object_key,
+                    medium_object_key, width, height, blur_hash, created_at)
+SELECT id, progress_log_id, object_key, file_name, content_type, thumbnail_object_key,
+       medium_object_key, width, height, blur_hash, created_at FROM images_unpartitioned;
+
+-- 7. 보관(archive) 부모 테이블: 오래된 파티션을 분리해 붙이는 곳 (APP_PARTITION_ARCHIVE_ENABLED=true)
+-- 일반 조회 경로에서는 읽지 않고, 미니어처 전체 이력 조회/삭제/고아 GC에서만 참조
+CREATE TABLE progress_logs_archive (LIKE progress_logs INCLUDING DEFAULTS) PARTITION BY RANGE (created_at);
+ALTER TABLE progress_logs_archive ADD PRIMARY KEY (id, created_at);
+CREATE INDEX idx_progress_logs_archive_miniature ON progress_logs_archive (miniature_id, created_at DESC);
+CREATE TABLE images_archive (LIKE images INCLUDING DEFAULTS) PARTITION BY RANGE (created_at);
+ALTER TABLE images_archive ADD PRIMARY KEY (id, created_at);
+CREATE INDEX idx_images_archive_progress_log ON images_archive (progress_log_id, created_at);
+
+ANALYZE progress_logs;
+ANALYZE images;
+
+COMMIT;
+
+-- 8. 확인 후 기존 테이블 삭제
+-- DROP TABLE progress_logs_unpartitioned;
+-- DROP TABLE images_unpartitioned;
@@ -0,0 +1,12 @@
+-- users.nickname 유니크 제약 추가 (닉네임 인메모리 인덱스의 최종 판정 기준)
+-- JPA_DDL_AUTO=validate 환경에서는 수동 적용 필요
+-- NULL(닉네임 미설정 Google 사용자)은 여러 행 허용
+
+-- 1. 기존 중복 확인 (결과가 있으면 먼저 정리)
+SELECT nickname, COUNT(*) FROM users
+WHERE nickname IS NOT NULL
+GROUP BY nickname
+HAVING COUNT(*) > 1;
+
+-- 2. 제약 추가
+ALTER TABLE users ADD CONSTRAINT uk_users_nickname UNIQUE (nickname);
@@ -0,0 +1,49 @@
+package com.rlaqjant.miniature_backlog_api;
+
+import com.rlaqjant.miniature_backlog_api.security.jwt.JwtTokenProvider;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 네이티브 바이너리 기동 확인 (H2)
+ * JVM 테스트에도 포함되며, ./gradlew nativeTest -Pnative 시에는 native 태그 테스트만 네이티브로 실행
+ */
+@Tag("native")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class NativeImageSmokeTest {
+
+    @Value("${local.server.port}")
+    private int port;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Test
+    void healthRespondsOk() throws Exception {
+        HttpResponse<String> response = HttpClient.newHttpClient().send(
+                HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/health")).GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.body()).contains("\"success\":true");
+    }
+
+    @Test
+    void jwtRoundTrip() {
+        // jjwt 구현체/직렬화기 로딩 확인
+        String token = jwtTokenProvider.createAccessToken("native@example.com");
+
+        assertThat(jwtTokenProvider.validateToken(token)).isTrue();
+        assertThat(jwtTokenProvider.getEmailFromToken(token)).isEqualTo("native@example.com");
+    }
+}
@@ -0,0 +1,52 @@
+package com.rlaqjant.miniature_backlog_api.backlogitem.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 단계 비트마스크 상태 전이 / 진행률 / 현재 단계
+ */
+class StepStateTest {
+
+    private static final List<String> STEPS = StepTemplate.DEFAULT_STEP_NAMES;
+
+    @Test
+    void forwardCascadeCompletesPreviousSteps() {
+        StepState state = StepState.INITIAL.withStatus(2, BacklogItemStatus.IN_PROGRESS);
+
+        assertThat(state.doneMask()).isEqualTo(0b00011);
+        assertThat(state.inProgressMask()).isEqualTo(0b00100);
+        assertThat(state.progress(STEPS.size())).isEqualTo(40);
+        assertThat(state.currentStep(STEPS)).isEqualTo("조립");
+    }
+
+    @Test
+    void backwardCascadeResetsLaterSteps() {
+        StepState state = new StepState(0b01111, 0b10000).withStatus(1, BacklogItemStatus.IN_PROGRESS);
+
+        assertThat(state.doneMask()).isEqualTo(0b00001);
+        assertThat(state.inProgressMask()).isEqualTo(0b00010);
+        assertThat(state.status(4)).isEqualTo(BacklogItemStatus.TODO);
+        assertThat(state.currentStep(STEPS)).isEqualTo("언박싱");
+    }
+
+    @Test
+    void currentStepCountsOnlyLeadingDoneSteps() {
+        assertThat(StepState.INITIAL.currentStep(STEPS)).isEqualTo(StepState.NOT_STARTED);
+        assertThat(new StepState(0b11011, 0).currentStep(STEPS)).isEqualTo("조립");
+        assertThat(new StepState(0b11011, 0).progress(STEPS.size())).isEqualTo(80);
+        assertThat(StepState.movedTo(STEPS.size(), STEPS.size()).currentStep(STEPS)).isEqualTo(StepState.COMPLETED);
+        assertThat(StepState.movedTo(-1, STEPS.size())).isEqualTo(StepState.INITIAL);
+    }
+
+    @Test
+    void backlogItemIdRoundTrips() {
+        long id = BacklogItemId.encode(123_456L, 4);
+
+        assertThat(BacklogItemId.miniatureId(id)).isEqualTo(123_456L);
+        assertThat(BacklogItemId.index(id)).isEqualTo(4);
+    }
+}
@@ -0,0 +1,179 @@
+package com.rlaqjant.miniature_backlog_api.common.collection;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 오픈 어드레싱 long → long 맵 테스트
+ */
+class LongLongHashMapTest {
+
+    private static final long MISSING = -1L;
+    // expectedSize 4 → 최소 용량 16 슬롯, 리사이즈 임계값 8
+    private static final int SMALL_CAPACITY = 16;
+
+    @Test
+    void putGetAndOverwrite() {
+        LongLongHashMap map = new LongLongHashMap(4);
+
+        map.put(1L, 10L);
+        map.put(2L, 20L);
+        map.put(1L, 11L);
+
+        assertThat(map.get(1L, MISSING)).isEqualTo(11L);
+        assertThat(map.get(2L, MISSING)).isEqualTo(20L);
+        assertThat(map.get(3L, MISSING)).isEqualTo(MISSING);
+        assertThat(map.containsKey(2L)).isTrue();
+        assertThat(map.containsKey(3L)).isFalse();
+        assertThat(map.size()).isEqualTo(2);
+    }
+
+    @Test
+    void removeInsideProbeChainKeepsLaterEntriesReachable() {
+        LongLongHashMap map = new LongLongHashMap(4);
+        // 같은 홈 슬롯을 갖는 키 3개 → 연속 슬롯에 탐사 체인 형성
+        List<Long> colliding = keysWithHomeSlot(5, 3);
+        for (long key : colliding) {
+            map.put(key, key * 10);
+        }
+
+        // 체인 중간 삭제: 뒤 엔트리가 앞으로 당겨져야 조회가 끊기지 않음
+        assertThat(map.remove(colliding.get(1))).isTrue();
+
+        assertThat(map.get(colliding.get(0), MISSING)).isEqualTo(colliding.get(0) * 10);
+        assertThat(map.get(colliding.get(1), MISSING)).isEqualTo(MISSING);
+        assertThat(map.get(colliding.get(2), MISSING)).isEqualTo(colliding.get(2) * 10);
+        assertThat(map.size()).isEqualTo(2);
+
+        // 체인 머리 삭제 후에도 나머지 조회 가능, 없는 키 삭제는 false
+        assertThat(map.remove(colliding.get(0))).isTrue();
+        assertThat(map.get(colliding.get(2), MISSING)).isEqualTo(colliding.get(2) * 10);
+        assertThat(map.remove(colliding.get(0))).isFalse();
+        assertThat(map.size()).isEqualTo(1);
+    }
+
+    @Test
+    void removeShiftsEntriesWrappingAroundTableEnd() {
+        LongLongHashMap map = new LongLongHashMap(4);
+        // 마지막 슬롯에서 시작해 0번 슬롯으로 넘어가는 체인
+        List<Long> colliding = keysWithHomeSlot(SMALL_CAPACITY - 1, 3);
+        for (long key : colliding) {
+            map.put(key, key);
+        }
+
+        assertThat(map.remove(colliding.get(0))).isTrue();
+
+        assertThat(map.get(colliding.get(1), MISSING)).isEqualTo(colliding.get(1));
+        assertThat(map.get(colliding.get(2), MISSING)).isEqualTo(colliding.get(2));
+    }
+
+    @Test
+    void growsPastResizeThresholdWithoutLosingEntries() {
+        LongLongHashMap map = new LongLongHashMap(4);
+        int threshold = SMALL_CAPACITY / 2;
+
+        for (long key = 1; key <= threshold; key++) {
+            map.put(key, key + 100);
+        }
+        assertThat(map.size()).isEqualTo(threshold);
+
+        // 임계값 초과 → 재해시, 이후 여러 차례 성장
+        for (long key = threshold + 1; key <= 1000; key++) {
+            map.put(key, key + 100);
+        }
+
+        assertThat(map.size()).isEqualTo(1000);
+        for (long key = 1; key <= 1000; key++) {
+            assertThat(map.get(key, MISSING)).isEqualTo(key + 100);
+        }
+    }
+
+    @Test
+    void rejectsReservedEmptyKey() {
+        LongLongHashMap map = new LongLongHashMap(4);
+
+        assertThatThrownBy(() -> map.put(0L, 1L)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> map.get(0L, MISSING)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> map.containsKey(0L)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> map.remove(0L)).isInstanceOf(IllegalArgumentException.class);
+        assertThat(map.isEmpty()).isTrue();
+    }
+
+    @Test
+    void storesZeroValue() {
+        LongLongHashMap map = new LongLongHashMap(4);
+
+        map.put(7L, 0L);
+
+        assertThat(map.containsKey(7L)).isTrue();
+        assertThat(map.get(7L, MISSING)).isZero();
+    }
+
+    @Test
+    void clearEmptiesMapAndAllowsReuse() {
+        LongLongHashMap map = new LongLongHashMap(4);
+        map.put(1L, 1L);
+        map.put(2L, 2L);
+
+        map.clear();
+
+        assertThat(map.isEmpty()).isTrue();
+        assertThat(map.containsKey(1L)).isFalse();
+        map.put(1L, 3L);
+        assertThat(map.get(1L, MISSING)).isEqualTo(3L);
+    }
+
+    @Test
+    void matchesHashMapUnderRandomPutsAndRemoves() {
+        LongLongHashMap map = new LongLongHashMap(4);
+        Map<Long, Long> expected = new HashMap<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 20_000; i++) {
+            long key = 1 + random.nextInt(500);
+            if (random.nextInt(3) == 0) {
+                assertThat(map.remove(key)).isEqualTo(expected.remove(key) != null);
+            } else {
+                long value = random.nextLong();
+                map.put(key, value);
+                expected.put(key, value);
+            }
+        }
+
+        assertThat(map.size()).isEqualTo(expected.size());
+        for (long key = 1; key <= 500; key++) {
+            assertThat(map.get(key, MISSING)).isEqualTo(expected.getOrDefault(key, MISSING));
+        }
+    }
+
+    /**
+     * 16 슬롯 테이블에서 지정한 홈 슬롯으로 해시되는 양수 키 수집 (LongLongHashMap.slotOf와 같은 혼합)
+     */
+    private static List<Long> keysWithHomeSlot(int slot, int count) {
+        List<Long> keys = new ArrayList<>(count);
+        for (long key = 1; keys.size() < count; key++) {
+            if (homeSlot(key) == slot) {
+                keys.add(key);
+            }
+        }
+        return keys;
+    }
+
+    private static int homeSlot(long key) {
+        long h = key;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return (int) h & (SMALL_CAPACITY - 1);
+    }
+}
@@ -0,0 +1,135 @@
+package com.rlaqjant.miniature_backlog_api.common.concurrency;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 적응형 동시 처리 한도 조정 테스트 (지연 표본을 직접 주입)
+ */
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final int INITIAL_LIMIT = 20;
+    private static final int MIN_LIMIT = 4;
+    private static final int MAX_LIMIT = 200;
+    private static final double RTT_TOLERANCE = 1.5;
+    private static final long BASE_RTT = TimeUnit.MILLISECONDS.toNanos(10);
+
+    @Test
+    void growsWhileRttIsFlat() {
+        AdaptiveConcurrencyLimiter limiter = limiter();
+        sample(limiter, BASE_RTT, 1);
+
+        int previous = limiter.getLimit();
+        for (int i = 0; i < 5; i++) {
+            sample(limiter, BASE_RTT, INITIAL_LIMIT);
+            assertThat(limiter.getLimit()).isGreaterThanOrEqualTo(previous);
+            previous = limiter.getLimit();
+        }
+        assertThat(limiter.getLimit()).isGreaterThan(INITIAL_LIMIT);
+    }
+
+    @Test
+    void shrinksWhenRttRisesAboveTolerance() {
+        AdaptiveConcurrencyLimiter limiter = limiter();
+        sample(limiter, BASE_RTT, 1);
+
+        // 평소의 5배 지연이 이어지면 단기 평균이 허용 배수(1.5)를 넘어서며 축소
+        for (int i = 0; i < 10; i++) {
+            sample(limiter, BASE_RTT * 5, INITIAL_LIMIT);
+        }
+        int shrunk = limiter.getLimit();
+        assertThat(shrunk).isLessThan(INITIAL_LIMIT);
+
+        sample(limiter, BASE_RTT * 5, INITIAL_LIMIT);
+        assertThat(limiter.getLimit()).isLessThanOrEqualTo(shrunk);
+    }
+
+    @Test
+    void staysWithinMinAndMaxBounds() {
+        AdaptiveConcurrencyLimiter limiter = limiter();
+        sample(limiter, BASE_RTT, 1);
+
+        for (int i = 0; i < 150; i++) {
+            sample(limiter, BASE_RTT, MAX_LIMIT);
+        }
+        assertThat(limiter.getLimit()).isEqualTo(MAX_LIMIT);
+
+        for (int i = 0; i < 100; i++) {
+            sample(limiter, BASE_RTT * 5, MAX_LIMIT);
+            assertThat(limiter.getLimit()).isBetween(MIN_LIMIT, MAX_LIMIT);
+        }
+        assertThat(limiter.getLimit()).isEqualTo(MIN_LIMIT);
+    }
+
+    @Test
+    void ignoresSamplesWhileLimitIsUnderused() {
+        AdaptiveConcurrencyLimiter limiter = limiter();
+        sample(limiter, BASE_RTT, 1);
+
+        // 한도의 절반 미만만 사용 중이면 지연이 늘어도 조정하지 않음
+        sample(limiter, BASE_RTT * 5, INITIAL_LIMIT / 2 - 1);
+
+        assertThat(limiter.getLimit()).isEqualTo(INITIAL_LIMIT);
+    }
+
+    @Test
+    void clampsOutlierSampleToMultipleOfLongRtt() {
+        AdaptiveConcurrencyLimiter outlier = limiter();
+        AdaptiveConcurrencyLimiter clamped = limiter();
+        sample(outlier, BASE_RTT, 1);
+        sample(clamped, BASE_RTT, 1);
+
+        // 1분짜리 관리 작업 하나는 장기 평균의 10배 표본과 같게 취급
+        sample(outlier, TimeUnit.MINUTES.toNanos(1), INITIAL_LIMIT);
+        sample(clamped, BASE_RTT * 10, INITIAL_LIMIT);
+
+        assertThat(outlier.getLimit()).isEqualTo(clamped.getLimit());
+        // 자르지 않으면 단기 평균이 수백 배로 뛰어 한도가 바로 줄어듦
+        assertThat(outlier.getLimit()).isGreaterThanOrEqualTo(INITIAL_LIMIT);
+    }
+
+    @Test
+    void admitsUpToShareOfLimitPerPriority() {
+        AdaptiveConcurrencyLimiter limiter = limiter();
+
+        // share 0.5 → 20 * 0.5 = 10개까지
+        for (int i = 0; i < 10; i++) {
+            assertThat(limiter.tryAcquire(0.5)).isTrue();
+        }
+        assertThat(limiter.tryAcquire(0.5)).isFalse();
+
+        // 높은 우선순위는 남은 한도까지 사용 가능
+        for (int i = 0; i < 10; i++) {
+            assertThat(limiter.tryAcquire(1.0)).isTrue();
+        }
+        assertThat(limiter.tryAcquire(1.0)).isFalse();
+        assertThat(limiter.getInflight()).isEqualTo(INITIAL_LIMIT);
+
+        limiter.release();
+        assertThat(limiter.tryAcquire(0.5)).isFalse();
+        assertThat(limiter.tryAcquire(1.0)).isTrue();
+    }
+
+    @Test
+    void admitsAtLeastOneRequestForTinyShare() {
+        AdaptiveConcurrencyLimiter limiter = limiter();
+
+        assertThat(limiter.tryAcquire(0.01)).isTrue();
+        assertThat(limiter.tryAcquire(0.01)).isFalse();
+    }
+
+    private AdaptiveConcurrencyLimiter limiter() {
+        return new AdaptiveConcurrencyLimiter(INITIAL_LIMIT, MIN_LIMIT, MAX_LIMIT, RTT_TOLERANCE);
+    }
+
+    /**
+     * 슬롯 하나를 잡았다가 지연 표본과 함께 반환
+     */
+    private void sample(AdaptiveConcurrencyLimiter limiter, long rttNanos, int inflightAtStart) {
+        assertThat(limiter.tryAcquire(1.0)).isTrue();
+        limiter.release(rttNanos, inflightAtStart);
+    }
+}
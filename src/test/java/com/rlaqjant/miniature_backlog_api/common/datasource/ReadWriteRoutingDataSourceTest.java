@@ -0,0 +1,127 @@
+package com.rlaqjant.miniature_backlog_api.common.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 독립된 두 H2 DB를 주 DB/복제본으로 두고 라우팅 규칙 확인
+ * 각 DB의 db_role 테이블에 자신의 이름을 넣어 어느 쪽에서 읽었는지 구분
+ */
+class ReadWriteRoutingDataSourceTest {
+
+    private static final Long USER_ID = 7L;
+    private static final Long OTHER_USER_ID = 8L;
+
+    private final AtomicReference<Long> currentUser = new AtomicReference<>();
+    private SimpleMeterRegistry meterRegistry;
+    private JdbcTemplate primaryJdbc;
+    private JdbcTemplate replicaJdbc;
+    private ReplicaLagMonitor lagMonitor;
+    private JdbcTemplate routedJdbc;
+    private TransactionTemplate readOnly;
+    private TransactionTemplate readWrite;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource primary = h2("primary");
+        DriverManagerDataSource replica = h2("replica");
+        primaryJdbc = new JdbcTemplate(primary);
+        replicaJdbc = new JdbcTemplate(replica);
+
+        replicaJdbc.execute("CREATE TABLE replica_lag (lag_ms BIGINT)");
+        replicaJdbc.update("INSERT INTO replica_lag VALUES (0)");
+
+        meterRegistry = new SimpleMeterRegistry();
+        lagMonitor = new ReplicaLagMonitor(replica, "SELECT lag_ms FROM replica_lag", Duration.ofMillis(1000));
+        lagMonitor.refresh();
+        ReadYourWritesTracker tracker = new ReadYourWritesTracker(Duration.ofSeconds(30));
+
+        LazyConnectionDataSourceProxy routed = new LazyConnectionDataSourceProxy(new ReadWriteRoutingDataSource(
+                primary, replica, lagMonitor, tracker, currentUser::get, meterRegistry));
+        routedJdbc = new JdbcTemplate(routed);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(routed);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        readWrite = new TransactionTemplate(transactionManager);
+    }
+
+    @Test
+    void readOnlyTransactionGoesToReplicaAndWriteToPrimary() {
+        assertThat(readRole(readOnly)).isEqualTo("replica");
+        assertThat(readRole(readWrite)).isEqualTo("primary");
+
+        readWrite.executeWithoutResult(status ->
+                routedJdbc.update("INSERT INTO written (user_id) VALUES (?)", USER_ID));
+        assertThat(primaryJdbc.queryForObject("SELECT COUNT(*) FROM written", Integer.class)).isEqualTo(1);
+        assertThat(replicaJdbc.queryForObject("SELECT COUNT(*) FROM written", Integer.class)).isZero();
+
+        assertThat(meterRegistry.get("datasource.routing").tag("target", "replica").counter().count())
+                .isPositive();
+    }
+
+    @Test
+    void userReadsOwnWritesFromPrimaryWithinWindow() {
+        currentUser.set(USER_ID);
+        assertThat(readRole(readOnly)).isEqualTo("replica");
+
+        readWrite.executeWithoutResult(status ->
+                routedJdbc.update("INSERT INTO written (user_id) VALUES (?)", USER_ID));
+        assertThat(readRole(readOnly)).isEqualTo("primary");
+
+        currentUser.set(OTHER_USER_ID);
+        assertThat(readRole(readOnly)).isEqualTo("replica");
+    }
+
+    @Test
+    void rolledBackWriteDoesNotPinUserToPrimary() {
+        currentUser.set(USER_ID);
+        readWrite.executeWithoutResult(status -> {
+            routedJdbc.update("INSERT INTO written (user_id) VALUES (?)", USER_ID);
+            status.setRollbackOnly();
+        });
+        assertThat(readRole(readOnly)).isEqualTo("replica");
+    }
+
+    @Test
+    void laggingOrUnreachableReplicaFallsBackToPrimary() {
+        replicaJdbc.update("UPDATE replica_lag SET lag_ms = 5000");
+        lagMonitor.refresh();
+        assertThat(lagMonitor.getLagMillis()).isEqualTo(5000L);
+        assertThat(readRole(readOnly)).isEqualTo("primary");
+
+        replicaJdbc.update("UPDATE replica_lag SET lag_ms = 10");
+        lagMonitor.refresh();
+        assertThat(readRole(readOnly)).isEqualTo("replica");
+
+        replicaJdbc.execute("DROP TABLE replica_lag");
+        lagMonitor.refresh();
+        assertThat(lagMonitor.isReplicaUsable()).isFalse();
+        assertThat(readRole(readOnly)).isEqualTo("primary");
+    }
+
+    private String readRole(TransactionTemplate template) {
+        return template.execute(status -> routedJdbc.queryForObject("SELECT name FROM db_role", String.class));
+    }
+
+    private static DriverManagerDataSource h2(String role) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + role + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE db_role (name VARCHAR(20))");
+        jdbc.update("INSERT INTO db_role VALUES (?)", role);
+        jdbc.execute("CREATE TABLE written (user_id BIGINT)");
+        return dataSource;
+    }
+}
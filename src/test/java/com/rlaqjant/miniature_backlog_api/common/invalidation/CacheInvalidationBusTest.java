@@ -0,0 +1,150 @@
+package com.rlaqjant.miniature_backlog_api.common.invalidation;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 같은 PostgreSQL에 연결한 두 버스(노드) 간 무효화 전달 확인
+ * 예: INVALIDATION_TEST_DATABASE_URL=jdbc:postgresql://localhost:5432/postgres ./gradlew test --tests '*CacheInvalidationBus*'
+ */
+@EnabledIfEnvironmentVariable(named = "INVALIDATION_TEST_DATABASE_URL", matches = ".+")
+class CacheInvalidationBusTest {
+
+    private static final String CHANNEL = "cache_invalidation_test";
+
+    private final List<CacheInvalidationBus> buses = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        buses.forEach(CacheInvalidationBus::shutdown);
+    }
+
+    @Test
+    void deliversToOtherNodesButNotToSender() throws Exception {
+        BlockingQueue<CacheInvalidationEvent> senderEvents = new LinkedBlockingQueue<>();
+        BlockingQueue<CacheInvalidationEvent> receiverEvents = new LinkedBlockingQueue<>();
+        CacheInvalidationBus sender = startBus(senderEvents);
+        CacheInvalidationBus receiver = startBus(receiverEvents);
+
+        // 구독 직후 전체 비우기
+        assertThat(senderEvents.poll(10, TimeUnit.SECONDS)).isEqualTo(CacheInvalidationEvent.flushAll());
+        assertThat(receiverEvents.poll(10, TimeUnit.SECONDS)).isEqualTo(CacheInvalidationEvent.flushAll());
+
+        sender.publishAfterCommit(CacheInvalidationEvent.MINIATURE, 42L);
+        sender.publishAfterCommit(CacheInvalidationEvent.USER, 7L);
+
+        assertThat(receiverEvents.poll(5, TimeUnit.SECONDS))
+                .isEqualTo(new CacheInvalidationEvent(CacheInvalidationEvent.MINIATURE, 42L));
+        assertThat(receiverEvents.poll(5, TimeUnit.SECONDS))
+                .isEqualTo(new CacheInvalidationEvent(CacheInvalidationEvent.USER, 7L));
+        assertThat(senderEvents.poll(500, TimeUnit.MILLISECONDS)).isNull();
+    }
+
+    @Test
+    void deliversWhenPublishedFromInsideTransaction() throws Exception {
+        // 서비스 경로와 같이 발행 버스와 트랜잭션이 같은 DataSource를 사용
+        DataSource senderDataSource = dataSource();
+        BlockingQueue<CacheInvalidationEvent> senderEvents = new LinkedBlockingQueue<>();
+        BlockingQueue<CacheInvalidationEvent> receiverEvents = new LinkedBlockingQueue<>();
+        CacheInvalidationBus sender = startBus(senderDataSource, senderEvents);
+        startBus(dataSource(), receiverEvents);
+        assertThat(receiverEvents.poll(10, TimeUnit.SECONDS)).isEqualTo(CacheInvalidationEvent.flushAll());
+
+        TransactionTemplate transactionTemplate =
+                new TransactionTemplate(new DataSourceTransactionManager(senderDataSource));
+        transactionTemplate.executeWithoutResult(status -> {
+            new JdbcTemplate(senderDataSource).queryForObject("SELECT 1", Integer.class);
+            sender.publishAfterCommit(CacheInvalidationEvent.MINIATURE, 42L);
+        });
+
+        assertThat(receiverEvents.poll(5, TimeUnit.SECONDS))
+                .isEqualTo(new CacheInvalidationEvent(CacheInvalidationEvent.MINIATURE, 42L));
+    }
+
+    @Test
+    void doesNotDeliverWhenTransactionRollsBack() throws Exception {
+        DataSource senderDataSource = dataSource();
+        BlockingQueue<CacheInvalidationEvent> senderEvents = new LinkedBlockingQueue<>();
+        BlockingQueue<CacheInvalidationEvent> receiverEvents = new LinkedBlockingQueue<>();
+        CacheInvalidationBus sender = startBus(senderDataSource, senderEvents);
+        startBus(dataSource(), receiverEvents);
+        assertThat(receiverEvents.poll(10, TimeUnit.SECONDS)).isEqualTo(CacheInvalidationEvent.flushAll());
+
+        TransactionTemplate transactionTemplate =
+                new TransactionTemplate(new DataSourceTransactionManager(senderDataSource));
+        transactionTemplate.executeWithoutResult(status -> {
+            sender.publishAfterCommit(CacheInvalidationEvent.MINIATURE, 42L);
+            status.setRollbackOnly();
+        });
+
+        assertThat(receiverEvents.poll(1, TimeUnit.SECONDS)).isNull();
+    }
+
+    @Test
+    void sequenceGapTriggersFullFlush() throws Exception {
+        BlockingQueue<CacheInvalidationEvent> receiverEvents = new LinkedBlockingQueue<>();
+        startBus(receiverEvents);
+        assertThat(receiverEvents.poll(10, TimeUnit.SECONDS)).isEqualTo(CacheInvalidationEvent.flushAll());
+
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource());
+        notify(jdbcTemplate, "othernode|1|miniature|1");
+        notify(jdbcTemplate, "othernode|3|miniature|3");
+
+        assertThat(receiverEvents.poll(5, TimeUnit.SECONDS))
+                .isEqualTo(new CacheInvalidationEvent(CacheInvalidationEvent.MINIATURE, 1L));
+        assertThat(receiverEvents.poll(5, TimeUnit.SECONDS)).isEqualTo(CacheInvalidationEvent.flushAll());
+    }
+
+    private CacheInvalidationBus startBus(BlockingQueue<CacheInvalidationEvent> events) {
+        return startBus(dataSource(), events);
+    }
+
+    private CacheInvalidationBus startBus(DataSource dataSource, BlockingQueue<CacheInvalidationEvent> events) {
+        CacheInvalidationBus bus = new CacheInvalidationBus(
+                new JdbcTemplate(dataSource),
+                event -> events.add((CacheInvalidationEvent) event),
+                true, CHANNEL, url(), username(), password(), 200,
+                new SimpleMeterRegistry());
+        bus.start();
+        buses.add(bus);
+        return bus;
+    }
+
+    private static void notify(JdbcTemplate jdbcTemplate, String payload) {
+        jdbcTemplate.query("SELECT pg_notify(?, ?)", rs -> { }, CHANNEL, payload);
+    }
+
+    private static DriverManagerDataSource dataSource() {
+        return new DriverManagerDataSource(url(), username(), password());
+    }
+
+    private static String url() {
+        return System.getenv("INVALIDATION_TEST_DATABASE_URL");
+    }
+
+    private static String username() {
+        String value = System.getenv("INVALIDATION_TEST_DATABASE_USERNAME");
+        return value != null ? value : "postgres";
+    }
+
+    private static String password() {
+        String value = System.getenv("INVALIDATION_TEST_DATABASE_PASSWORD");
+        return value != null ? value : "postgres";
+    }
+}
@@ -0,0 +1,128 @@
+package com.rlaqjant.miniature_backlog_api.common.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * GCRA 토큰 버킷 계산 테스트 (가짜 나노초 시계로 시간 제어)
+ */
+class TokenBucketRateLimiterTest {
+
+    private static final int CAPACITY = 3;
+    private static final Duration REFILL = Duration.ofSeconds(2);
+    private static final long REFILL_NANOS = REFILL.toNanos();
+
+    // 0 근처 오버플로 경계도 함께 검증하도록 음수에서 시작
+    private final AtomicLong clock = new AtomicLong(-TimeUnit.SECONDS.toNanos(5));
+
+    @Test
+    void allowsBurstUpToCapacityThenRejects() {
+        TokenBucketRateLimiter limiter = limiter(100, TokenBucketRateLimiter.OverflowPolicy.REJECT);
+
+        for (int i = 0; i < CAPACITY; i++) {
+            assertThat(limiter.tryAcquire("a")).isZero();
+        }
+
+        // 다음 토큰까지 한 주기 남음
+        assertThat(limiter.tryAcquire("a")).isEqualTo(REFILL_NANOS);
+        // 다른 키는 별도 버킷
+        assertThat(limiter.tryAcquire("b")).isZero();
+    }
+
+    @Test
+    void refillsOneTokenPerPeriod() {
+        TokenBucketRateLimiter limiter = limiter(100, TokenBucketRateLimiter.OverflowPolicy.REJECT);
+        drain(limiter, "a");
+
+        advance(REFILL_NANOS - 1);
+        assertThat(limiter.tryAcquire("a")).isEqualTo(1);
+
+        advance(1);
+        assertThat(limiter.tryAcquire("a")).isZero();
+        assertThat(limiter.tryAcquire("a")).isEqualTo(REFILL_NANOS);
+
+        // 오래 쉬어도 버킷 크기 이상은 쌓이지 않음
+        advance(REFILL_NANOS * 10);
+        drain(limiter, "a");
+    }
+
+    @Test
+    void evictsOnlyIdleBuckets() {
+        TokenBucketRateLimiter limiter = limiter(100, TokenBucketRateLimiter.OverflowPolicy.REJECT);
+        limiter.tryAcquire("idle");
+        drain(limiter, "busy");
+
+        // idle은 한 주기 뒤 가득 참, busy는 아직 토큰 부족
+        advance(REFILL_NANOS);
+        limiter.evictIdle();
+
+        assertThat(limiter.size()).isEqualTo(1);
+        assertThat(limiter.tryAcquire("busy")).isZero();
+        assertThat(limiter.tryAcquire("busy")).isPositive();
+    }
+
+    @Test
+    void rejectsUntrackedKeyWhenFullAndFailClosed() {
+        TokenBucketRateLimiter limiter = limiter(2, TokenBucketRateLimiter.OverflowPolicy.REJECT);
+        drain(limiter, "a");
+        drain(limiter, "b");
+
+        assertThat(limiter.tryAcquire("c")).isPositive();
+        // 이미 추적 중인 키는 그대로 계산
+        advance(REFILL_NANOS);
+        assertThat(limiter.tryAcquire("a")).isZero();
+        assertThat(limiter.size()).isEqualTo(2);
+    }
+
+    @Test
+    void allowsUntrackedKeyWithoutTrackingWhenFull() {
+        TokenBucketRateLimiter limiter = limiter(1, TokenBucketRateLimiter.OverflowPolicy.ALLOW);
+        drain(limiter, "a");
+
+        for (int i = 0; i < CAPACITY * 2; i++) {
+            assertThat(limiter.tryAcquire("b")).isZero();
+        }
+        assertThat(limiter.size()).isEqualTo(1);
+    }
+
+    @Test
+    void sweepsIdleBucketsAtMostOncePerIntervalWhenFull() {
+        TokenBucketRateLimiter limiter = limiter(1, TokenBucketRateLimiter.OverflowPolicy.REJECT);
+        // "a"는 토큰 1개만 써서 한 주기(2초) 뒤 유휴 상태가 됨
+        limiter.tryAcquire("a");
+
+        // 가득 참 → 정리 시도했지만 비울 버킷이 없어 거부
+        advance(TimeUnit.MILLISECONDS.toNanos(1_500));
+        assertThat(limiter.tryAcquire("b")).isPositive();
+
+        // "a"는 이제 유휴지만 직전 정리 후 최소 간격(1초) 전이라 다시 훑지 않음
+        advance(TimeUnit.MILLISECONDS.toNanos(500));
+        assertThat(limiter.tryAcquire("c")).isPositive();
+        assertThat(limiter.size()).isEqualTo(1);
+
+        // 간격이 지나면 한 번 정리 후 새 키 추적
+        advance(TimeUnit.MILLISECONDS.toNanos(500));
+        assertThat(limiter.tryAcquire("c")).isZero();
+        assertThat(limiter.size()).isEqualTo(1);
+    }
+
+    private TokenBucketRateLimiter limiter(int maxKeys, TokenBucketRateLimiter.OverflowPolicy policy) {
+        return new TokenBucketRateLimiter(CAPACITY, REFILL, maxKeys, policy, clock::get);
+    }
+
+    private void drain(TokenBucketRateLimiter limiter, String key) {
+        for (int i = 0; i < CAPACITY; i++) {
+            assertThat(limiter.tryAcquire(key)).isZero();
+        }
+        assertThat(limiter.tryAcquire(key)).isPositive();
+    }
+
+    private void advance(long nanos) {
+        clock.addAndGet(nanos);
+    }
+}
@@ -0,0 +1,204 @@
+package com.rlaqjant.miniature_backlog_api.image.service;
+
+import com.rlaqjant.miniature_backlog_api.common.exception.BusinessException;
+import com.rlaqjant.miniature_backlog_api.common.exception.ErrorCode;
+import com.rlaqjant.miniature_backlog_api.image.dto.OrphanImageGcReport;
+import com.rlaqjant.miniature_backlog_api.image.repository.ImageRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.PlatformTransactionManager;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
+import software.amazon.awssdk.services.s3.model.S3Object;
+import software.amazon.awssdk.services.s3.paginators.ListObjectsV2Iterable;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 고아 이미지 GC 머지 조인/삭제 배치 테스트
+ * S3 목록은 페이지 단위로 나눠 돌려주는 가짜 클라이언트, DB 참조 키는 정렬된 스트림으로 대체
+ */
+class OrphanImageCollectorTest {
+
+    private static final String BUCKET = "test-bucket";
+    private static final int LIST_PAGE_SIZE = 3;
+    private static final long GRACE_PERIOD_HOURS = 24;
+
+    private final Instant old = Instant.now().minus(Duration.ofHours(48));
+    private final Instant recent = Instant.now().minus(Duration.ofHours(1));
+
+    private S3Client s3Client;
+    private ImageRepository imageRepository;
+    private final List<S3Object> bucketObjects = new ArrayList<>();
+    private List<String> referencedKeys = List.of();
+    private CountDownLatch listingStarted;
+    private CountDownLatch releaseListing;
+
+    @BeforeEach
+    void setUp() {
+        s3Client = mock(S3Client.class);
+        imageRepository = mock(ImageRepository.class);
+
+        when(imageRepository.streamAllReferencedObjectKeys())
+                .thenAnswer(invocation -> referencedKeys.stream().sorted());
+        when(s3Client.listObjectsV2Paginator(any(ListObjectsV2Request.class)))
+                .thenAnswer(invocation -> new ListObjectsV2Iterable(s3Client, invocation.getArgument(0)));
+        when(s3Client.listObjectsV2(any(ListObjectsV2Request.class)))
+                .thenAnswer(invocation -> listPage(invocation.getArgument(0)));
+        when(s3Client.deleteObjects(any(DeleteObjectsRequest.class)))
+                .thenReturn(DeleteObjectsResponse.builder().build());
+    }
+
+    @Test
+    void keepsReferencedAndRecentObjectsAndDeletesOrphans() {
+        putObject("users/1/referenced.jpg", old);
+        putObject("users/1/referenced_w320.jpg", old);
+        putObject("users/1/recent-upload.jpg", recent);
+        putObject("users/2/orphan.jpg", old);
+        referencedKeys = List.of("users/1/referenced.jpg", "users/1/referenced_w320.jpg");
+
+        OrphanImageGcReport report = collector().collect(false);
+
+        assertThat(report.getScannedObjects()).isEqualTo(4);
+        assertThat(report.getReferencedObjects()).isEqualTo(2);
+        assertThat(report.getRecentObjects()).isEqualTo(1);
+        assertThat(report.getOrphanObjects()).isEqualTo(1);
+        assertThat(report.getDeletedObjects()).isEqualTo(1);
+        assertThat(deletedKeys()).containsExactly(List.of("users/2/orphan.jpg"));
+    }
+
+    @Test
+    void skipsDatabaseKeysSortingOutsideListedPrefix() {
+        putObject("users/1/a.jpg", old);
+        putObject("users/1/b.jpg", old);
+        putObject("users/1/c.jpg", old);
+        // 목록 접두사(users/) 앞뒤로 정렬되는 DB 키가 머지 커서를 어긋나게 하면 안 됨
+        referencedKeys = List.of("legacy/a.jpg", "uploads/x.jpg", "users/1/b.jpg", "zzz/last.jpg");
+
+        OrphanImageGcReport report = collector().collect(false);
+
+        assertThat(report.getReferencedObjects()).isEqualTo(1);
+        assertThat(report.getOrphanObjects()).isEqualTo(2);
+        assertThat(deletedKeys()).containsExactly(List.of("users/1/a.jpg", "users/1/c.jpg"));
+    }
+
+    @Test
+    void deletesOrphanWhenEveryDatabaseKeySortsBeforeListing() {
+        putObject("users/1/a.jpg", old);
+        referencedKeys = List.of("aaa/1.jpg", "aaa/2.jpg");
+
+        OrphanImageGcReport report = collector().collect(false);
+
+        assertThat(report.getOrphanObjects()).isEqualTo(1);
+        assertThat(deletedKeys()).containsExactly(List.of("users/1/a.jpg"));
+    }
+
+    @Test
+    void deletesInBatchesOfAtMostOneThousandKeys() {
+        for (int i = 0; i < 2_500; i++) {
+            putObject(String.format("users/9/%05d.jpg", i), old);
+        }
+
+        OrphanImageGcReport report = collector().collect(false);
+
+        assertThat(report.getDeletedObjects()).isEqualTo(2_500);
+        assertThat(deletedKeys()).extracting(List::size).containsExactly(1_000, 1_000, 500);
+    }
+
+    @Test
+    void dryRunDeletesNothing() {
+        putObject("users/2/orphan.jpg", old);
+
+        OrphanImageGcReport report = collector().collect(true);
+
+        assertThat(report.isDryRun()).isTrue();
+        assertThat(report.getOrphanObjects()).isEqualTo(1);
+        assertThat(report.getDeletedObjects()).isZero();
+        assertThat(report.getSampleOrphanKeys()).containsExactly("users/2/orphan.jpg");
+        verify(s3Client, never()).deleteObjects(any(DeleteObjectsRequest.class));
+    }
+
+    @Test
+    void rejectsConcurrentRun() throws Exception {
+        putObject("users/2/orphan.jpg", old);
+        listingStarted = new CountDownLatch(1);
+        releaseListing = new CountDownLatch(1);
+        OrphanImageCollector collector = collector();
+
+        CompletableFuture<OrphanImageGcReport> first = CompletableFuture.supplyAsync(() -> collector.collect(true));
+        assertThat(listingStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThatThrownBy(() -> collector.collect(true))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.ORPHAN_IMAGE_GC_IN_PROGRESS);
+
+        releaseListing.countDown();
+        assertThat(first.get(5, TimeUnit.SECONDS).getOrphanObjects()).isEqualTo(1);
+        // 첫 실행이 끝나면 다시 실행 가능
+        assertThat(collector.collect(true).getOrphanObjects()).isEqualTo(1);
+    }
+
+    private OrphanImageCollector collector() {
+        return new OrphanImageCollector(s3Client, BUCKET, imageRepository, mock(PlatformTransactionManager.class),
+                true, true, GRACE_PERIOD_HOURS, false);
+    }
+
+    private void putObject(String key, Instant lastModified) {
+        bucketObjects.add(S3Object.builder().key(key).lastModified(lastModified).size(100L).build());
+    }
+
+    /**
+     * 키 오름차순 목록을 LIST_PAGE_SIZE 단위로 반환 (continuationToken = 다음 시작 위치)
+     */
+    private ListObjectsV2Response listPage(ListObjectsV2Request request) throws InterruptedException {
+        if (listingStarted != null) {
+            listingStarted.countDown();
+            releaseListing.await(5, TimeUnit.SECONDS);
+        }
+        assertThat(request.bucket()).isEqualTo(BUCKET);
+        List<S3Object> matching = bucketObjects.stream()
+                .filter(object -> object.key().startsWith(request.prefix()))
+                .sorted(Comparator.comparing(S3Object::key))
+                .toList();
+        int start = request.continuationToken() != null ? Integer.parseInt(request.continuationToken()) : 0;
+        int end = Math.min(start + LIST_PAGE_SIZE, matching.size());
+
+        ListObjectsV2Response.Builder response = ListObjectsV2Response.builder()
+                .contents(matching.subList(start, end))
+                .isTruncated(end < matching.size());
+        if (end < matching.size()) {
+            response.nextContinuationToken(String.valueOf(end));
+        }
+        return response.build();
+    }
+
+    private List<List<String>> deletedKeys() {
+        ArgumentCaptor<DeleteObjectsRequest> captor = ArgumentCaptor.forClass(DeleteObjectsRequest.class);
+        verify(s3Client, atLeast(0)).deleteObjects(captor.capture());
+        return captor.getAllValues().stream()
+                .map(request -> request.delete().objects().stream().map(ObjectIdentifier::key).toList())
+                .toList();
+    }
+}
@@ -0,0 +1,128 @@
+package com.rlaqjant.miniature_backlog_api.miniature.service;
+
+import com.rlaqjant.miniature_backlog_api.miniature.domain.Miniature;
+import com.rlaqjant.miniature_backlog_api.miniature.dto.MiniatureSummary;
+import com.rlaqjant.miniature_backlog_api.miniature.repository.MiniatureRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 목록 조회 할당량 비교 벤치마크 (엔티티 페이지 vs MiniatureSummary 프로젝션)
+ * 요청 1회(페이지 1개)당 스레드 할당 바이트를 측정, H2에서도 실행 가능
+ * 예: LIST_ALLOCATION_BENCHMARK=true ./gradlew test --tests '*ListProjectionAllocation*' -i
+ */
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+@EnabledIfEnvironmentVariable(named = "LIST_ALLOCATION_BENCHMARK", matches = "true")
+class ListProjectionAllocationBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ListProjectionAllocationBenchmarkTest.class);
+
+    private static final int MINIATURES = 5_000;
+    private static final int WARMUP_ITERATIONS = 200;
+    private static final int MEASURED_ITERATIONS = 500;
+
+    private static boolean seeded = false;
+
+    @Autowired
+    private MiniatureRepository miniatureRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void seed() {
+        if (seeded) {
+            return;
+        }
+        // 설명(description)은 목록 응답에 쓰이지 않지만 엔티티 조회 시 함께 적재됨
+        String description = "d".repeat(500);
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> rows = new ArrayList<>(MINIATURES);
+        for (int i = 1; i <= MINIATURES; i++) {
+            rows.add(new Object[]{(long) (i % 50 + 1), "miniature " + i, description, i % 4 != 0,
+                    now.minusMinutes(i), now.minusSeconds(i)});
+        }
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO miniatures (user_id, title, description, is_public, created_at, updated_at)
+                VALUES (?, ?, ?, ?, ?, ?)
+                """, rows);
+        seeded = true;
+    }
+
+    @Test
+    void compareAllocationAtPageSize20() {
+        compare(20);
+    }
+
+    @Test
+    void compareAllocationAtPageSize100() {
+        compare(100);
+    }
+
+    private void compare(int pageSize) {
+        // 서비스 조회 메서드와 같은 조건: 읽기 전용 트랜잭션 안에서 페이지 조회
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        PageRequest page = PageRequest.of(1, pageSize);
+
+        Page<Miniature> entities = readOnly.execute(status -> miniatureRepository.findAll(
+                PageRequest.of(1, pageSize, Sort.by(Sort.Direction.DESC, "createdAt"))));
+        Page<MiniatureSummary> summaries = readOnly.execute(status ->
+                miniatureRepository.findAllByOrderByCreatedAtDesc(page));
+        assertThat(summaries.getContent()).extracting(MiniatureSummary::id)
+                .containsExactlyElementsOf(entities.getContent().stream().map(Miniature::getId).toList());
+
+        long[] entityBytes = measure(readOnly, () -> miniatureRepository.findAll(
+                PageRequest.of(1, pageSize, Sort.by(Sort.Direction.DESC, "createdAt"))));
+        long[] projectionBytes = measure(readOnly, () -> miniatureRepository.findAllByOrderByCreatedAtDesc(page));
+
+        log.info("[list allocation] pageSize={} entity p50={}B p95={}B | projection p50={}B p95={}B",
+                pageSize, percentile(entityBytes, 50), percentile(entityBytes, 95),
+                percentile(projectionBytes, 50), percentile(projectionBytes, 95));
+    }
+
+    private long[] measure(TransactionTemplate readOnly, Runnable query) {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            readOnly.executeWithoutResult(status -> query.run());
+        }
+        long[] bytes = new long[MEASURED_ITERATIONS];
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            long before = threads.getThreadAllocatedBytes(threadId);
+            readOnly.executeWithoutResult(status -> query.run());
+            bytes[i] = threads.getThreadAllocatedBytes(threadId) - before;
+        }
+        Arrays.sort(bytes);
+        return bytes;
+    }
+
+    private static long percentile(long[] sorted, int percentile) {
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, index)];
+    }
+}
@@ -0,0 +1,98 @@
+package com.rlaqjant.miniature_backlog_api.miniature.service;
+
+import com.rlaqjant.miniature_backlog_api.backlogitem.domain.BacklogItemStatus;
+import com.rlaqjant.miniature_backlog_api.backlogitem.dto.BacklogItemResponse;
+import com.rlaqjant.miniature_backlog_api.miniature.domain.Miniature;
+import com.rlaqjant.miniature_backlog_api.miniature.dto.MiniatureBulkRequest;
+import com.rlaqjant.miniature_backlog_api.miniature.dto.MiniatureBulkResponse;
+import com.rlaqjant.miniature_backlog_api.miniature.dto.MiniatureCreateRequest;
+import com.rlaqjant.miniature_backlog_api.miniature.repository.MiniatureRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * 미니어처 일괄 작업 (H2)
+ */
+@SpringBootTest
+class MiniatureBulkServiceTest {
+
+    private static final long OWNER_ID = 9_001L;
+    private static final long OTHER_USER_ID = 9_002L;
+
+    @Autowired
+    private MiniatureBulkService miniatureBulkService;
+
+    @Autowired
+    private MiniatureService miniatureService;
+
+    @Autowired
+    private MiniatureRepository miniatureRepository;
+
+    @Test
+    void moveToStepUpdatesOwnedMiniaturesAndReportsOthers() {
+        Long first = create(OWNER_ID);
+        Long second = create(OWNER_ID);
+        Long othersMiniature = create(OTHER_USER_ID);
+
+        MiniatureBulkResponse response = miniatureBulkService.execute(OWNER_ID, MiniatureBulkRequest.builder()
+                .ids(List.of(first, othersMiniature, second, first, -1L))
+                .operation(MiniatureBulkRequest.Operation.STEP)
+                .currentStep("프라이밍")
+                .build());
+
+        assertThat(response.getSucceeded()).isEqualTo(2);
+        assertThat(response.getFailed()).isEqualTo(2);
+        assertThat(response.getResults())
+                .extracting(MiniatureBulkResponse.Result::getId, MiniatureBulkResponse.Result::isSuccess)
+                .containsExactly(
+                        tuple(first, true),
+                        tuple(othersMiniature, false),
+                        tuple(second, true),
+                        tuple(-1L, false));
+
+        for (Long id : List.of(first, second)) {
+            assertThat(miniatureService.getMiniatureDetail(id, OWNER_ID).getBacklogItems())
+                    .extracting(BacklogItemResponse::getStatus)
+                    .containsExactly(BacklogItemStatus.DONE, BacklogItemStatus.DONE, BacklogItemStatus.DONE,
+                            BacklogItemStatus.TODO, BacklogItemStatus.TODO);
+            Miniature miniature = miniatureRepository.findById(id).orElseThrow();
+            assertThat(miniature.getCurrentStep()).isEqualTo("프라이밍");
+            assertThat(miniature.getProgress()).isEqualTo(60);
+        }
+        // 다른 사용자의 미니어처는 변경되지 않음
+        assertThat(miniatureRepository.findById(othersMiniature).orElseThrow().getCurrentStep()).isEqualTo("시작전");
+    }
+
+    @Test
+    void visibilityAndDeleteApplyToWholeBatch() {
+        Long first = create(OWNER_ID);
+        Long second = create(OWNER_ID);
+
+        miniatureBulkService.execute(OWNER_ID, MiniatureBulkRequest.builder()
+                .ids(List.of(first, second))
+                .operation(MiniatureBulkRequest.Operation.VISIBILITY)
+                .isPublic(true)
+                .build());
+        assertThat(miniatureRepository.findAllById(List.of(first, second)))
+                .allMatch(Miniature::getIsPublic);
+
+        MiniatureBulkResponse response = miniatureBulkService.execute(OWNER_ID, MiniatureBulkRequest.builder()
+                .ids(List.of(first, second))
+                .operation(MiniatureBulkRequest.Operation.DELETE)
+                .build());
+        assertThat(response.getSucceeded()).isEqualTo(2);
+        assertThat(miniatureRepository.findAllById(List.of(first, second))).isEmpty();
+    }
+
+    private Long create(long userId) {
+        return miniatureService.createMiniature(userId, MiniatureCreateRequest.builder()
+                .title("bulk " + userId)
+                .build()).getId();
+    }
+}
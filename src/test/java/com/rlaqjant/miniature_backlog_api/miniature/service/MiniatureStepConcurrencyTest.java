@@ -0,0 +1,118 @@
+package com.rlaqjant.miniature_backlog_api.miniature.service;
+
+import com.rlaqjant.miniature_backlog_api.backlogitem.domain.BacklogItemStatus;
+import com.rlaqjant.miniature_backlog_api.backlogitem.domain.StepState;
+import com.rlaqjant.miniature_backlog_api.backlogitem.domain.StepTemplate;
+import com.rlaqjant.miniature_backlog_api.backlogitem.dto.BacklogItemResponse;
+import com.rlaqjant.miniature_backlog_api.backlogitem.dto.BacklogItemUpdateRequest;
+import com.rlaqjant.miniature_backlog_api.backlogitem.service.BacklogItemService;
+import com.rlaqjant.miniature_backlog_api.common.exception.ConflictException;
+import com.rlaqjant.miniature_backlog_api.common.exception.ErrorCode;
+import com.rlaqjant.miniature_backlog_api.miniature.domain.Miniature;
+import com.rlaqjant.miniature_backlog_api.miniature.dto.MiniatureCreateRequest;
+import com.rlaqjant.miniature_backlog_api.miniature.dto.MiniatureDetailResponse;
+import com.rlaqjant.miniature_backlog_api.miniature.dto.MiniatureStepStateResponse;
+import com.rlaqjant.miniature_backlog_api.miniature.dto.MiniatureStepUpdateRequest;
+import com.rlaqjant.miniature_backlog_api.miniature.repository.MiniatureRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 한 미니어처에 대한 동시 단계 변경 (H2)
+ * 여러 스레드가 화면에서 본 version으로 칸반 드래그/항목 상태 변경을 반복 → 성공 또는 409만 발생, 잃어버린 갱신 없음
+ */
+@SpringBootTest
+class MiniatureStepConcurrencyTest {
+
+    private static final long OWNER_ID = 9_101L;
+    private static final int THREADS = 8;
+    private static final int ATTEMPTS_PER_THREAD = 25;
+    private static final List<String> COLUMNS = List.of(StepState.NOT_STARTED, "조립", "도색", StepState.COMPLETED);
+
+    @Autowired
+    private MiniatureService miniatureService;
+
+    @Autowired
+    private BacklogItemService backlogItemService;
+
+    @Autowired
+    private MiniatureRepository miniatureRepository;
+
+    @Test
+    void concurrentStepChangesNeverLoseUpdates() throws Exception {
+        MiniatureDetailResponse created = miniatureService.createMiniature(OWNER_ID, MiniatureCreateRequest.builder()
+                .title("race")
+                .build());
+        Long miniatureId = created.getId();
+        List<Long> itemIds = created.getBacklogItems().stream()
+                .map(BacklogItemResponse::getId)
+                .toList();
+
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger conflicts = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            int thread = t;
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < ATTEMPTS_PER_THREAD; i++) {
+                    long seenVersion = miniatureService.getMiniatureDetail(miniatureId, OWNER_ID).getVersion();
+                    try {
+                        changeStep(thread, i, miniatureId, itemIds, seenVersion);
+                        succeeded.incrementAndGet();
+                    } catch (ConflictException e) {
+                        conflicts.incrementAndGet();
+                        assertThat(e.getErrorCode()).isEqualTo(ErrorCode.MINIATURE_VERSION_CONFLICT);
+                        assertThat(((MiniatureStepStateResponse) e.getCurrentState()).getVersion())
+                                .isGreaterThan(seenVersion);
+                    }
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        assertThat(succeeded.get() + conflicts.get()).isEqualTo(THREADS * ATTEMPTS_PER_THREAD);
+        assertThat(succeeded.get()).isPositive();
+
+        // 성공한 변경마다 version이 정확히 1 증가, 저장된 진행 상태는 비트마스크와 일치
+        Miniature miniature = miniatureRepository.findById(miniatureId).orElseThrow();
+        StepState state = miniature.stepState();
+        assertThat(miniature.getVersion()).isEqualTo((long) succeeded.get());
+        assertThat(state.doneMask() & state.inProgressMask()).isZero();
+        assertThat(miniature.getProgress()).isEqualTo(state.progress(StepTemplate.DEFAULT_STEP_NAMES.size()));
+        assertThat(miniature.getCurrentStep()).isEqualTo(state.currentStep(StepTemplate.DEFAULT_STEP_NAMES));
+    }
+
+    // 칸반 드래그와 항목 상태 변경을 번갈아 실행
+    private void changeStep(int thread, int attempt, Long miniatureId, List<Long> itemIds, long seenVersion) {
+        if ((thread + attempt) % 2 == 0) {
+            miniatureService.updateCurrentStep(miniatureId, OWNER_ID, MiniatureStepUpdateRequest.builder()
+                    .currentStep(COLUMNS.get((thread + attempt) % COLUMNS.size()))
+                    .version(seenVersion)
+                    .build());
+            return;
+        }
+        BacklogItemStatus[] statuses = BacklogItemStatus.values();
+        backlogItemService.updateStatus(itemIds.get((thread * 7 + attempt) % itemIds.size()),
+                BacklogItemUpdateRequest.builder()
+                        .status(statuses[(thread + attempt) % statuses.length])
+                        .version(seenVersion)
+                        .build(),
+                OWNER_ID);
+    }
+}
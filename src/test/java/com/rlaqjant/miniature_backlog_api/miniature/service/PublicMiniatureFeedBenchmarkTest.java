@@ -0,0 +1,194 @@
+package com.rlaqjant.miniature_backlog_api.miniature.service;
+
+import com.rlaqjant.miniature_backlog_api.miniature.dto.PublicMiniaturePageResponse;
+import com.rlaqjant.miniature_backlog_api.miniature.dto.PublicMiniatureResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 공개 피드 조회 경로 비교 벤치마크 (단일 SQL 읽기 모델 vs 엔티티 + 일괄 조회)
+ * PostgreSQL 전용 문법을 쓰므로 FEED_BENCHMARK_DATABASE_URL 지정 시에만 실행
+ * 예: FEED_BENCHMARK_DATABASE_URL=jdbc:postgresql://localhost:5432/feed_bench ./gradlew test --tests '*FeedBenchmark*' -i
+ * 대상 DB의 테이블은 create-drop으로 재생성되므로 전용(빈) 데이터베이스를 사용할 것
+ */
+@SpringBootTest(properties = "spring.jpa.hibernate.ddl-auto=create-drop")
+@EnabledIfEnvironmentVariable(named = "FEED_BENCHMARK_DATABASE_URL", matches = ".+")
+class PublicMiniatureFeedBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(PublicMiniatureFeedBenchmarkTest.class);
+
+    private static final int USERS = 500;
+    private static final int MINIATURES = 20_000;
+    private static final int WARMUP_ITERATIONS = 30;
+    private static final int MEASURED_ITERATIONS = 200;
+    private static final long VIEWER_ID = 1L;
+
+    private static boolean seeded = false;
+
+    @Autowired
+    private MiniatureService miniatureService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DynamicPropertySource
+    static void benchmarkDataSource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> System.getenv("FEED_BENCHMARK_DATABASE_URL"));
+        registry.add("spring.datasource.username", () -> envOrDefault("FEED_BENCHMARK_DATABASE_USERNAME", "postgres"));
+        registry.add("spring.datasource.password", () -> envOrDefault("FEED_BENCHMARK_DATABASE_PASSWORD", "postgres"));
+        registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+        registry.add("spring.jpa.properties.hibernate.dialect", () -> "org.hibernate.dialect.PostgreSQLDialect");
+        registry.add("spring.jpa.show-sql", () -> "false");
+    }
+
+    @BeforeEach
+    void seed() {
+        if (seeded) {
+            return;
+        }
+        // 미니어처당 백로그 5단계, 진행 로그 2건(공개 1), 이미지 2장, 좋아요 0~9건
+        jdbcTemplate.update("""
+                INSERT INTO users (email, nickname, provider, role, created_at, updated_at)
+                SELECT 'bench' || g || '@example.com', 'bench' || g, 'LOCAL', 'USER', now(), now()
+                FROM generate_series(1, ?) g
+                """, USERS);
+        jdbcTemplate.update("""
+                INSERT INTO miniatures (user_id, title, is_public, created_at, updated_at)
+                SELECT (SELECT min(id) FROM users) + g % ?, 'miniature ' || g, g % 4 <> 0,
+                       now() - make_interval(mins => g), now() - make_interval(secs => g)
+                FROM generate_series(1, ?) g
+                """, USERS, MINIATURES);
+        jdbcTemplate.update("""
+                UPDATE miniatures
+                SET done_mask = (1 << LEAST(CAST(id % 6 AS int), 5)) - 1,
+                    progress = LEAST(CAST(id % 6 AS int), 5) * 20
+                """);
+        jdbcTemplate.update("""
+                INSERT INTO progress_logs (miniature_id, user_id, content, is_public, created_at, updated_at)
+                SELECT m.id, m.user_id, 'log ' || s, s = 1, now() - make_interval(mins => s), now()
+                FROM miniatures m CROSS JOIN generate_series(1, 2) s
+                """);
+        jdbcTemplate.update("""
+                INSERT INTO images (progress_log_id, object_key, width, height, blur_hash, created_at)
+                SELECT pl.id, 'users/' || pl.user_id || '/' || pl.id || '_' || s || '.jpg', 1200, 900,
+                       'LEHV6nWB2yk8pyo0adR*.7kCMdnj', now() - make_interval(secs => s)
+                FROM progress_logs pl CROSS JOIN generate_series(1, 2) s
+                """);
+        jdbcTemplate.update("""
+                INSERT INTO miniature_likes (user_id, miniature_id, created_at)
+                SELECT u.id, m.id, now()
+                FROM miniatures m
+                JOIN users u ON u.id < (SELECT min(id) FROM users) + m.id % 10
+                """);
+        jdbcTemplate.update("""
+                UPDATE miniatures m
+                SET like_count = (SELECT COUNT(*) FROM miniature_likes ml WHERE ml.miniature_id = m.id)
+                """);
+        // db/miniatures_public_feed_index.sql 과 같은 부분 인덱스
+        jdbcTemplate.execute("""
+                CREATE INDEX idx_miniatures_public_updated
+                    ON miniatures (updated_at DESC, id DESC) WHERE is_public
+                """);
+        jdbcTemplate.execute("ANALYZE");
+        seeded = true;
+    }
+
+    @Test
+    void feedPageIsReadInIndexOrderWithoutSort() {
+        List<String> plan = jdbcTemplate.queryForList("""
+                EXPLAIN SELECT m.id FROM miniatures m
+                WHERE m.is_public = true
+                ORDER BY m.updated_at DESC, m.id DESC
+                LIMIT 12 OFFSET 12
+                """, String.class);
+        String planText = String.join("\n", plan);
+
+        assertThat(planText).as(planText).contains("idx_miniatures_public_updated");
+        assertThat(planText).as(planText).doesNotContain("Sort");
+    }
+
+    @Test
+    void compareFeedPathsAtPageSize12() {
+        compare(12);
+    }
+
+    @Test
+    void compareFeedPathsAtPageSize100() {
+        compare(100);
+    }
+
+    private void compare(int pageSize) {
+        // 두 경로 결과가 같은지 먼저 확인 (정렬/진행률/좋아요/썸네일)
+        for (int page : new int[]{0, 3}) {
+            assertSameContent(
+                    miniatureService.getPublicMiniaturesSingleQuery(page, pageSize, VIEWER_ID),
+                    miniatureService.getPublicMiniaturesBatched(page, pageSize, VIEWER_ID));
+        }
+
+        double[] singleQuery = measure(() -> miniatureService.getPublicMiniaturesSingleQuery(1, pageSize, VIEWER_ID));
+        double[] batched = measure(() -> miniatureService.getPublicMiniaturesBatched(1, pageSize, VIEWER_ID));
+
+        log.info("[feed benchmark] pageSize={} single-query p50={}ms p95={}ms | batched p50={}ms p95={}ms",
+                pageSize, formatMillis(percentile(singleQuery, 50)), formatMillis(percentile(singleQuery, 95)),
+                formatMillis(percentile(batched, 50)), formatMillis(percentile(batched, 95)));
+    }
+
+    private void assertSameContent(PublicMiniaturePageResponse actual, PublicMiniaturePageResponse expected) {
+        assertThat(actual.getTotalElements()).isEqualTo(expected.getTotalElements());
+        List<PublicMiniatureResponse> actualContent = actual.getContent();
+        List<PublicMiniatureResponse> expectedContent = expected.getContent();
+        assertThat(actualContent).hasSameSizeAs(expectedContent);
+        for (int i = 0; i < actualContent.size(); i++) {
+            PublicMiniatureResponse a = actualContent.get(i);
+            PublicMiniatureResponse e = expectedContent.get(i);
+            assertThat(a.getId()).isEqualTo(e.getId());
+            assertThat(a.getProgress()).isEqualTo(e.getProgress());
+            assertThat(a.getUserNickname()).isEqualTo(e.getUserNickname());
+            assertThat(a.getLikeCount()).isEqualTo(e.getLikeCount());
+            assertThat(a.getLiked()).isEqualTo(e.getLiked());
+            assertThat(a.getThumbnailUrl()).isEqualTo(e.getThumbnailUrl());
+        }
+    }
+
+    private double[] measure(Supplier<PublicMiniaturePageResponse> call) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            call.get();
+        }
+        double[] millis = new double[MEASURED_ITERATIONS];
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            long start = System.nanoTime();
+            call.get();
+            millis[i] = (System.nanoTime() - start) / 1_000_000.0;
+        }
+        Arrays.sort(millis);
+        return millis;
+    }
+
+    private static double percentile(double[] sorted, int percentile) {
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, index)];
+    }
+
+    private static String formatMillis(double millis) {
+        return String.format("%.2f", millis);
+    }
+
+    private static String envOrDefault(String name, String defaultValue) {
+        String value = System.getenv(name);
+        return value != null ? value : defaultValue;
+    }
+}
@@ -0,0 +1,295 @@
+package com.rlaqjant.miniature_backlog_api.security.oauth;
+
+import com.rlaqjant.miniature_backlog_api.common.exception.BusinessException;
+import com.rlaqjant.miniature_backlog_api.common.exception.ErrorCode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Date;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 로컬 스텁 token/userinfo/JWKS 서버 대상 Google OAuth 교환 테스트
+ */
+class GoogleOAuthServiceTest {
+
+    private static final String CLIENT_ID = "client-id";
+    private static final String KEY_ID = "stub-kid";
+
+    private HttpServer server;
+    private String baseUrl;
+    private SimpleMeterRegistry meterRegistry;
+    private final CountDownLatch releaseSlowResponse = new CountDownLatch(1);
+    private final AtomicInteger userInfoCalls = new AtomicInteger();
+    private final AtomicInteger jwksCalls = new AtomicInteger();
+    private KeyPair signingKey;
+    private GoogleIdTokenValidator validator;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        signingKey = generator.generateKeyPair();
+
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/token", exchange -> {
+            String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+            if (body.contains("code=slow")) {
+                awaitQuietly(releaseSlowResponse);
+            }
+            if (body.contains("code=bad")) {
+                respond(exchange, 400, "{\"error\":\"invalid_grant\"}");
+                return;
+            }
+            if (body.contains("code=idtoken-wrong-aud")) {
+                respond(exchange, 200, tokenResponse(idToken(KEY_ID, "other-client")));
+                return;
+            }
+            if (body.contains("code=idtoken-unknown-kid")) {
+                respond(exchange, 200, tokenResponse(idToken("rotated-kid", CLIENT_ID)));
+                return;
+            }
+            if (body.contains("code=idtoken")) {
+                respond(exchange, 200, tokenResponse(idToken(KEY_ID, CLIENT_ID)));
+                return;
+            }
+            respond(exchange, 200, "{\"access_token\":\"stub-access-token\",\"token_type\":\"Bearer\"}");
+        });
+        server.createContext("/certs", exchange -> {
+            jwksCalls.incrementAndGet();
+            exchange.getResponseHeaders().add("Cache-Control", "public, max-age=3600");
+            respond(exchange, 200, jwks());
+        });
+        server.createContext("/userinfo", exchange -> {
+            userInfoCalls.incrementAndGet();
+            String authorization = exchange.getRequestHeaders().getFirst("Authorization");
+            if (!"Bearer stub-access-token".equals(authorization)) {
+                respond(exchange, 401, "{}");
+                return;
+            }
+            respond(exchange, 200, "{\"sub\":\"google-123\",\"email\":\"user@example.com\"}");
+        });
+        server.start();
+        baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+        meterRegistry = new SimpleMeterRegistry();
+        validator = new GoogleIdTokenValidator(CLIENT_ID, baseUrl + "/certs", true, 60, 500, 500, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        validator.shutdown();
+        releaseSlowResponse.countDown();
+        server.stop(0);
+    }
+
+    @Test
+    void exchangeCodeForUserInfo_verifiesIdTokenLocallyWithoutUserInfoCall() {
+        validator.refresh();
+        GoogleOAuthService service = createService(500, 4, false);
+
+        GoogleOAuthService.GoogleUserInfo userInfo = service.exchangeCodeForUserInfo("idtoken");
+
+        assertThat(userInfo.email()).isEqualTo("id@example.com");
+        assertThat(userInfo.googleId()).isEqualTo("google-456");
+        assertThat(userInfoCalls.get()).isZero();
+    }
+
+    @Test
+    void exchangeCodeForUserInfo_rejectsIdTokenForOtherAudience() {
+        validator.refresh();
+        GoogleOAuthService service = createService(500, 4, false);
+
+        assertThatThrownBy(() -> service.exchangeCodeForUserInfo("idtoken-wrong-aud"))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.GOOGLE_AUTH_FAILED);
+        assertThat(userInfoCalls.get()).isZero();
+    }
+
+    @Test
+    void exchangeCodeForUserInfo_fallsBackToUserInfoWhenSigningKeyNotCached() {
+        validator.refresh();
+        GoogleOAuthService service = createService(500, 4, false);
+
+        GoogleOAuthService.GoogleUserInfo userInfo = service.exchangeCodeForUserInfo("idtoken-unknown-kid");
+
+        assertThat(userInfo.googleId()).isEqualTo("google-123");
+        assertThat(userInfoCalls.get()).isEqualTo(1);
+    }
+
+    @Test
+    void keyMissRefreshReplacesScheduledRefreshInsteadOfAddingOne() throws Exception {
+        GoogleIdTokenValidator eagerValidator =
+                new GoogleIdTokenValidator(CLIENT_ID, baseUrl + "/certs", true, 0, 500, 500, meterRegistry);
+        try {
+            eagerValidator.refresh();
+            assertThat(eagerValidator.scheduledRefreshCount()).isEqualTo(1);
+
+            for (int i = 1; i <= 5; i++) {
+                assertThat(eagerValidator.verify(idToken("rotated-kid", CLIENT_ID))).isEmpty();
+                long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+                while (jwksCalls.get() < 1 + i && System.nanoTime() < deadline) {
+                    Thread.sleep(10);
+                }
+                // 갱신이 다음 예약까지 마치도록 대기
+                Thread.sleep(100);
+            }
+
+            assertThat(jwksCalls.get()).isEqualTo(6);
+            assertThat(eagerValidator.scheduledRefreshCount()).isEqualTo(1);
+        } finally {
+            eagerValidator.shutdown();
+        }
+    }
+
+    @Test
+    void exchangeCodeForUserInfo_returnsUserInfoAndRecordsLatency() {
+        GoogleOAuthService service = createService(500, 4, false);
+
+        GoogleOAuthService.GoogleUserInfo userInfo = service.exchangeCodeForUserInfo("good");
+
+        assertThat(userInfo.email()).isEqualTo("user@example.com");
+        assertThat(userInfo.googleId()).isEqualTo("google-123");
+        assertThat(meterRegistry.get("oauth.google.request").tag("step", "token").tag("outcome", "success")
+                .timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("oauth.google.request").tag("step", "userinfo").tag("outcome", "success")
+                .timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void exchangeCodeForUserInfo_failsWhenTokenEndpointRejects() {
+        GoogleOAuthService service = createService(500, 4, false);
+
+        assertThatThrownBy(() -> service.exchangeCodeForUserInfo("bad"))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.GOOGLE_AUTH_FAILED);
+    }
+
+    @Test
+    void exchangeCodeForUserInfo_timesOutOnSlowServer() {
+        GoogleOAuthService service = createService(200, 4, false);
+
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> service.exchangeCodeForUserInfo("slow"))
+                .isInstanceOf(BusinessException.class);
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(2000);
+    }
+
+    @Test
+    void exchangeCodeForUserInfo_rejectsWhenConcurrencyLimitReached() throws Exception {
+        GoogleOAuthService service = createService(5000, 1, false);
+
+        Thread slowCall = new Thread(() -> {
+            try {
+                service.exchangeCodeForUserInfo("slow");
+            } catch (BusinessException ignored) {
+            }
+        });
+        slowCall.start();
+        Thread.sleep(200);
+
+        assertThatThrownBy(() -> service.exchangeCodeForUserInfo("good"))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.SERVICE_UNAVAILABLE);
+
+        releaseSlowResponse.countDown();
+        slowCall.join(5000);
+    }
+
+    @Test
+    void exchangeCodeForUserInfoAsync_completesOnWorkerThread() throws Exception {
+        GoogleOAuthService service = createService(500, 2, true);
+        try {
+            GoogleOAuthService.GoogleUserInfo userInfo = service.exchangeCodeForUserInfoAsync("good")
+                    .get(5, TimeUnit.SECONDS);
+            assertThat(userInfo.googleId()).isEqualTo("google-123");
+        } finally {
+            service.shutdown();
+        }
+    }
+
+    private GoogleOAuthService createService(long readTimeoutMs, int maxConcurrent, boolean async) {
+        return new GoogleOAuthService(
+                CLIENT_ID, "client-secret", "http://localhost/callback",
+                baseUrl + "/token", baseUrl + "/userinfo",
+                500, readTimeoutMs, maxConcurrent, 100, async,
+                validator, meterRegistry);
+    }
+
+    private String idToken(String keyId, String audience) {
+        Instant now = Instant.now();
+        return Jwts.builder()
+                .header().keyId(keyId).and()
+                .issuer("https://accounts.google.com")
+                .audience().add(audience).and()
+                .subject("google-456")
+                .claim("email", "id@example.com")
+                .claim("email_verified", true)
+                .issuedAt(Date.from(now))
+                .expiration(Date.from(now.plusSeconds(300)))
+                .signWith(signingKey.getPrivate())
+                .compact();
+    }
+
+    private static String tokenResponse(String idToken) {
+        return "{\"access_token\":\"stub-access-token\",\"token_type\":\"Bearer\",\"id_token\":\"" + idToken + "\"}";
+    }
+
+    private String jwks() {
+        RSAPublicKey publicKey = (RSAPublicKey) signingKey.getPublic();
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        String modulus = encoder.encodeToString(unsigned(publicKey.getModulus().toByteArray()));
+        String exponent = encoder.encodeToString(unsigned(publicKey.getPublicExponent().toByteArray()));
+        return "{\"keys\":[{\"kty\":\"RSA\",\"alg\":\"RS256\",\"use\":\"sig\",\"kid\":\"" + KEY_ID
+                + "\",\"n\":\"" + modulus + "\",\"e\":\"" + exponent + "\"}]}";
+    }
+
+    private static byte[] unsigned(byte[] bytes) {
+        if (bytes.length > 1 && bytes[0] == 0) {
+            byte[] trimmed = new byte[bytes.length - 1];
+            System.arraycopy(bytes, 1, trimmed, 0, trimmed.length);
+            return trimmed;
+        }
+        return bytes;
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
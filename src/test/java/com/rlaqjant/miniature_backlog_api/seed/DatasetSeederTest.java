@@ -0,0 +1,100 @@
+package com.rlaqjant.miniature_backlog_api.seed;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * H2(다중 행 INSERT 경로)에서 합성 데이터 생성 규칙과 재현성 확인
+ */
+class DatasetSeederTest {
+
+    private static final DatasetSeeder.Options OPTIONS =
+            new DatasetSeeder.Options(7L, 200, 50, 1.1, 30, 0.8, 3, 0.9, 0.4, true);
+
+    private DriverManagerDataSource dataSource;
+    private JdbcTemplate jdbc;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:seed-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE users (id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, "
+                + "email VARCHAR(255) NOT NULL UNIQUE, password VARCHAR(255), nickname VARCHAR(50) UNIQUE, "
+                + "provider VARCHAR(20) NOT NULL, provider_id VARCHAR(255), role VARCHAR(20) NOT NULL, "
+                + "created_at TIMESTAMP NOT NULL, updated_at TIMESTAMP NOT NULL)");
+        jdbc.execute("CREATE TABLE miniatures (id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, "
+                + "user_id BIGINT NOT NULL, title VARCHAR(200) NOT NULL, description VARCHAR(1000), "
+                + "is_public BOOLEAN NOT NULL, step_template_id BIGINT, done_mask INT NOT NULL, "
+                + "in_progress_mask INT NOT NULL, current_step VARCHAR(100) NOT NULL, progress INT NOT NULL, "
+                + "like_count BIGINT NOT NULL, "
+                + "created_at TIMESTAMP NOT NULL, updated_at TIMESTAMP NOT NULL)");
+        jdbc.execute("CREATE TABLE progress_logs (id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, "
+                + "miniature_id BIGINT NOT NULL, user_id BIGINT NOT NULL, content VARCHAR(2000) NOT NULL, "
+                + "is_public BOOLEAN NOT NULL, created_at TIMESTAMP NOT NULL, updated_at TIMESTAMP NOT NULL)");
+        jdbc.execute("CREATE TABLE images (id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, "
+                + "progress_log_id BIGINT NOT NULL, object_key VARCHAR(500) NOT NULL, file_name VARCHAR(255), "
+                + "content_type VARCHAR(100), thumbnail_object_key VARCHAR(500), medium_object_key VARCHAR(500), "
+                + "width INT, height INT, blur_hash VARCHAR(100), created_at TIMESTAMP NOT NULL)");
+        jdbc.execute("CREATE TABLE miniature_likes (id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, "
+                + "user_id BIGINT NOT NULL, miniature_id BIGINT NOT NULL, created_at TIMESTAMP NOT NULL, "
+                + "UNIQUE (user_id, miniature_id))");
+    }
+
+    @Test
+    void generatesConsistentDataset() throws Exception {
+        DatasetSeeder.Result result = new DatasetSeeder(dataSource, OPTIONS, "hash").seed();
+
+        assertThat(count("users")).isEqualTo(200);
+        assertThat(count("miniatures")).isEqualTo(result.miniatures()).isPositive();
+        assertThat(count("progress_logs")).isEqualTo(result.progressLogs());
+        assertThat(count("images")).isEqualTo(result.images());
+        assertThat(count("miniature_likes")).isEqualTo(result.likes());
+
+        // 진행 로그 작성자는 미니어처 소유자, 비공개 미니어처에는 좋아요 없음
+        assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM progress_logs p JOIN miniatures m ON m.id = p.miniature_id "
+                + "WHERE p.user_id <> m.user_id", Long.class)).isZero();
+        assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM miniature_likes l JOIN miniatures m ON m.id = l.miniature_id "
+                + "WHERE m.is_public = FALSE", Long.class)).isZero();
+        // 저장된 좋아요 수 = 좋아요 행 수
+        assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM miniatures m WHERE m.like_count <> "
+                + "(SELECT COUNT(*) FROM miniature_likes l WHERE l.miniature_id = m.id)", Long.class)).isZero();
+        // 한 단계가 DONE이면서 IN_PROGRESS일 수 없음
+        assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM miniatures WHERE BITAND(done_mask, in_progress_mask) <> 0",
+                Long.class)).isZero();
+
+        // 직접 부여한 ID 이후로 IDENTITY가 이어짐
+        jdbc.update("INSERT INTO users (email, nickname, provider, role, created_at, updated_at) "
+                + "VALUES ('new@example.com', 'new', 'LOCAL', 'USER', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)");
+        assertThat(jdbc.queryForObject("SELECT id FROM users WHERE email = 'new@example.com'", Long.class))
+                .isEqualTo(201L);
+    }
+
+    @Test
+    void sameSeedProducesSameDataset() throws Exception {
+        new DatasetSeeder(dataSource, OPTIONS, "hash").seed();
+        String first = fingerprint();
+
+        new DatasetSeeder(dataSource, OPTIONS, "hash").seed();
+        assertThat(fingerprint()).isEqualTo(first);
+    }
+
+    private long count(String table) {
+        return jdbc.queryForObject("SELECT COUNT(*) FROM " + table, Long.class);
+    }
+
+    private String fingerprint() {
+        return jdbc.queryForObject("SELECT CONCAT("
+                + "(SELECT SUM(user_id * 31 + LENGTH(title)) FROM miniatures), '|', "
+                + "(SELECT SUM(id * done_mask + in_progress_mask) FROM miniatures), '|', "
+                + "(SELECT SUM(miniature_id) FROM progress_logs WHERE is_public), '|', "
+                + "(SELECT MAX(object_key) FROM images), '|', "
+                + "(SELECT SUM(user_id * miniature_id) FROM miniature_likes))", String.class);
+    }
+}
@@ -0,0 +1,58 @@
+package com.rlaqjant.miniature_backlog_api.user.service;
+
+import com.rlaqjant.miniature_backlog_api.user.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 닉네임 인덱스 재적재 중 변경 보존 테스트
+ */
+class NicknameIndexTest {
+
+    @Test
+    void changesCommittedDuringReloadSurviveSwap() throws Exception {
+        UserRepository userRepository = mock(UserRepository.class);
+        CountDownLatch queryStarted = new CountDownLatch(1);
+        CountDownLatch releaseQuery = new CountDownLatch(1);
+        // 적재 쿼리 스냅샷: 가입 전("newbie")이고 탈퇴 전("leaver")인 시점
+        when(userRepository.findAllNicknames()).thenAnswer(invocation -> {
+            queryStarted.countDown();
+            releaseQuery.await(5, TimeUnit.SECONDS);
+            return List.of("existing", "leaver");
+        });
+        NicknameIndex index = new NicknameIndex(userRepository);
+
+        CompletableFuture<Void> reload = CompletableFuture.runAsync(index::reconcile);
+        assertThat(queryStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        index.add("newbie");
+        index.remove("leaver");
+        releaseQuery.countDown();
+        reload.get(5, TimeUnit.SECONDS);
+
+        assertThat(index.isTaken("existing")).isTrue();
+        assertThat(index.isTaken("newbie")).isTrue();
+        assertThat(index.isTaken("leaver")).isFalse();
+    }
+
+    @Test
+    void changesAfterReloadApplyToCurrentSet() {
+        UserRepository userRepository = mock(UserRepository.class);
+        when(userRepository.findAllNicknames()).thenReturn(List.of("existing"));
+        NicknameIndex index = new NicknameIndex(userRepository);
+        index.reconcile();
+
+        index.add("newbie");
+        index.remove("existing");
+
+        assertThat(index.isTaken("newbie")).isTrue();
+        assertThat(index.isTaken("existing")).isFalse();
+    }
+}